@@ -0,0 +1,75 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.security.jwt.JwtAuthenticationFilter;
+import com.edumanager.security.jwt.JwtProperties;
+import com.edumanager.security.jwt.JwtTokenService;
+import com.edumanager.security.jwt.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 (OncePerRequestFilter 진입부터)
+ *
+ * request
+ * - excluded_first: 제외 경로 목록 첫 패턴에 걸림 (/swagger-ui/**)
+ * - excluded_last: 제외 경로 목록 마지막 패턴에 걸림 (/.well-known/jwks.json)
+ * - bearer: 제외 목록 전체 검사 후 토큰 추출 + 인증 (검증 캐시 적중)
+ * - no_token: 제외 목록 전체 검사 후 Authorization 헤더 없음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"excluded_first", "excluded_last", "bearer", "no_token"})
+    public String request;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        JwtTokenService jwtTokenService =
+                JwtFixture.tokenService("RS256", properties, new VerifiedTokenCache(properties));
+        filter = new JwtAuthenticationFilter(jwtTokenService);
+
+        servletRequest = switch (request) {
+            case "excluded_first" -> new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+            case "excluded_last" -> new MockHttpServletRequest("GET", "/.well-known/jwks.json");
+            case "bearer" -> {
+                MockHttpServletRequest bearer = new MockHttpServletRequest("GET", "/api/users/me");
+                String accessToken = jwtTokenService.createSession(JwtFixture.user(), "jmh").accessToken();
+                bearer.addHeader("Authorization", "Bearer " + accessToken);
+                yield bearer;
+            }
+            default -> new MockHttpServletRequest("GET", "/api/users/me");
+        };
+        servletResponse = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void doFilter() throws ServletException, IOException {
+        filter.doFilter(servletRequest, servletResponse, NOOP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,120 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.config.JwtConfig;
+import com.edumanager.domain.user.entity.User;
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.security.jwt.JwtKeyManager;
+import com.edumanager.security.jwt.JwtProperties;
+import com.edumanager.security.jwt.JwtTokenService;
+import com.edumanager.security.jwt.RefreshSessionStore;
+import com.edumanager.security.jwt.TokenEpochRegistry;
+import com.edumanager.security.jwt.TokenRevocationRegistry;
+import com.edumanager.security.jwt.VerifiedTokenCache;
+import com.edumanager.security.metrics.AuthMetrics;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JWT 벤치마크용 JwtTokenService 조립
+ *
+ * 디코더/인코더/권한 변환은 JwtConfig를 그대로 쓰고, Redis에 닿는 협력 객체만 메모리 스텁으로 바꾼다.
+ * - 서명 키: 실행마다 새로 만든 키 하나 (RS256: RSA 2048, ES256: P-256)
+ * - 폐기 확인: 항상 폐기되지 않음 (운영에서 동기화된 블룸 필터가 음성으로 끝나는 경로와 같음)
+ * - 토큰 에포크: 실제 TokenEpochRegistry (동기화 완료 상태로 두어 로컬 맵 조회만 사용)
+ * - 세션 저장: 아무것도 밀어내지 않음
+ */
+final class JwtFixture {
+
+    static final String KEY_ID = "bench";
+
+    private JwtFixture() {
+    }
+
+    static JwtTokenService tokenService(String algorithm, JwtProperties properties,
+                                        VerifiedTokenCache verifiedTokenCache) {
+        JwtKeyManager keyManager = keyManager(properties, algorithm);
+        JwtConfig jwtConfig = new JwtConfig(keyManager, properties);
+        // 운영과 같이 지표 기록 비용을 포함한다
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
+        TokenRevocationRegistry revocationRegistry =
+                new TokenRevocationRegistry(null, null, null, null, properties, authMetrics) {
+                    @Override
+                    public boolean isRevoked(String tokenId) {
+                        return false;
+                    }
+
+                    @Override
+                    public void revoke(String tokenId, Instant expiresAt) {
+                    }
+                };
+        RefreshSessionStore sessionStore = new RefreshSessionStore(null, properties, null) {
+            @Override
+            public Session create(long userId, String sessionId, String tokenId, Instant expiresAt,
+                                  String accessTokenId, Instant accessExpiresAt, String device) {
+                return null;
+            }
+        };
+
+        TokenEpochRegistry epochRegistry = new TokenEpochRegistry(null, null, null);
+        ReflectionTestUtils.setField(epochRegistry, "synced", true);
+
+        return new JwtTokenService(jwtConfig.jwtEncoder(), jwtConfig.jwtDecoder(), properties,
+                jwtConfig.jwtAuthenticationConverter(), verifiedTokenCache, revocationRegistry,
+                epochRegistry, keyManager, sessionStore, authMetrics);
+    }
+
+    static User user() {
+        User user = User.builder()
+                .email("student1@school.edu")
+                .password("{noop}bench")
+                .name("학생")
+                .role(UserRole.STUDENT)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    private static JwtKeyManager keyManager(JwtProperties properties, String algorithm) {
+        JWKSet keys = new JWKSet(generateKey(algorithm));
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.from(algorithm)).keyId(KEY_ID).build();
+
+        return new JwtKeyManager(properties, null, null, null) {
+            @Override
+            public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+                return jwkSelector.select(keys);
+            }
+
+            @Override
+            public JwsHeader signingHeader() {
+                return header;
+            }
+        };
+    }
+
+    private static JWK generateKey(String algorithm) {
+        try {
+            return switch (algorithm) {
+                case "RS256" -> new RSAKeyGenerator(2048).keyID(KEY_ID).algorithm(JWSAlgorithm.RS256).generate();
+                case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(KEY_ID).algorithm(JWSAlgorithm.ES256).generate();
+                default -> throw new IllegalArgumentException("지원하지 않는 알고리즘: " + algorithm);
+            };
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
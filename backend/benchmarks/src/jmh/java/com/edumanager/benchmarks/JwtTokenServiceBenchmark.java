@@ -0,0 +1,114 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.common.util.TokenHashUtils;
+import com.edumanager.domain.user.entity.User;
+import com.edumanager.security.jwt.JwtProperties;
+import com.edumanager.security.jwt.JwtTokenService;
+import com.edumanager.security.jwt.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용 (RS256 vs ES256)
+ *
+ * - createSession: 로그인 시 액세스 + 리프레시 토큰 서명 (세션 저장은 스텁)
+ * - authenticateCold: 서명 검증 + 클레임 검증 + 권한 변환 (검증 캐시 미적중)
+ * - authenticateCached: 검증 캐시 적중 (토큰 다이제스트 + 캐시 조회 + 폐기/에포크 확인)
+ * - decodeRefreshToken: 토큰 갱신 시 리프레시 토큰 검증
+ *
+ * 토큰 길이(문자)는 createSession의 보조 지표 accessTokenChars/refreshTokenChars로 결과에 함께 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenServiceBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    private JwtTokenService jwtTokenService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User user;
+    private String accessToken;
+    private String accessTokenKey;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        verifiedTokenCache = new VerifiedTokenCache(properties);
+        jwtTokenService = JwtFixture.tokenService(algorithm, properties, verifiedTokenCache);
+        user = JwtFixture.user();
+
+        JwtTokenService.IssuedTokens tokens = jwtTokenService.createSession(user, "jmh");
+        accessToken = tokens.accessToken();
+        accessTokenKey = TokenHashUtils.sha256(accessToken);
+        refreshToken = tokens.refreshToken();
+    }
+
+    @Benchmark
+    public JwtTokenService.IssuedTokens createSession(TokenSize size) {
+        return jwtTokenService.createSession(user, "jmh");
+    }
+
+    @Benchmark
+    public Authentication authenticateCold() {
+        verifiedTokenCache.invalidate(accessTokenKey);
+        return jwtTokenService.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return jwtTokenService.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Jwt decodeRefreshToken() {
+        return jwtTokenService.decodeRefreshToken(refreshToken);
+    }
+
+    /**
+     * 토큰 길이 보조 지표
+     * EVENTS 카운터는 측정 반복 전체에 걸쳐 합산되므로 첫 측정 반복에서만 값을 내고 나머지 반복은 0을 낸다.
+     * (fork 1, 단일 스레드 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TokenSize {
+
+        private long accessChars;
+        private long refreshChars;
+        private boolean reported;
+        private boolean reporting;
+
+        @Setup(Level.Iteration)
+        public void setUp(JwtTokenServiceBenchmark benchmark, IterationParams iteration) {
+            accessChars = benchmark.accessToken.length();
+            refreshChars = benchmark.refreshToken.length();
+            reporting = !reported && iteration.getType() == IterationType.MEASUREMENT;
+            reported |= reporting;
+        }
+
+        public long accessTokenChars() {
+            return reporting ? accessChars : 0;
+        }
+
+        public long refreshTokenChars() {
+            return reporting ? refreshChars : 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.common.cache.CompactRedisSerializer;
+import com.edumanager.domain.user.dto.response.UserSummaryResponse;
+import com.edumanager.domain.user.entity.UserRole;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 비교 (JSON vs Smile vs Smile+LZ4)
+ *
+ * 값: 사용자 한 명(UserSummaryResponse), 목록 한 페이지(20명)
+ * 인코딩 크기(바이트)는 encode의 보조 지표 encodedBytes로 결과에 함께 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "SMILE_LZ4"})
+    public String codec;
+
+    @Param({"single", "page"})
+    public String payload;
+
+    private CompactRedisSerializer serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = switch (codec) {
+            case "JSON" -> new CompactRedisSerializer(CompactRedisSerializer.Format.JSON, 0);
+            case "SMILE" -> new CompactRedisSerializer(CompactRedisSerializer.Format.SMILE, 0);
+            default -> new CompactRedisSerializer(CompactRedisSerializer.Format.SMILE, 256);
+        };
+        value = "single".equals(payload) ? user(1) : page(20);
+        encoded = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    /**
+     * 인코딩 크기 보조 지표
+     * EVENTS 카운터는 측정 반복 전체에 걸쳐 합산되므로 첫 측정 반복에서만 값을 내고 나머지 반복은 0을 낸다.
+     * (fork 1, 단일 스레드 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        private long bytes;
+        private boolean reported;
+        private boolean reporting;
+
+        @Setup(Level.Iteration)
+        public void setUp(RedisSerializerBenchmark benchmark, IterationParams iteration) {
+            bytes = benchmark.encoded.length;
+            reporting = !reported && iteration.getType() == IterationType.MEASUREMENT;
+            reported |= reporting;
+        }
+
+        public long encodedBytes() {
+            return reporting ? bytes : 0;
+        }
+    }
+
+    private static ArrayList<UserSummaryResponse> page(int size) {
+        ArrayList<UserSummaryResponse> users = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    private static UserSummaryResponse user(long id) {
+        return new UserSummaryResponse(id, "student" + id + "@school.edu", "학생" + id,
+                id % 10 == 0 ? UserRole.TEACHER : UserRole.STUDENT, true,
+                LocalDateTime.of(2025, 3, 2, 9, 0).plusMinutes(id));
+    }
+}
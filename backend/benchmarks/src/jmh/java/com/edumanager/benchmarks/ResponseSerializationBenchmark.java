@@ -0,0 +1,137 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.common.response.ApiResponse;
+import com.edumanager.common.response.ErrorResponse;
+import com.edumanager.common.response.PageResponse;
+import com.edumanager.domain.auth.dto.response.LoginResponse;
+import com.edumanager.domain.user.dto.response.UserSummaryResponse;
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.exception.common.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 본문 직렬화 비용 (Spring MVC와 같은 설정의 ObjectMapper)
+ *
+ * payload
+ * - login: ApiResponse<LoginResponse> (토큰 두 개 포함)
+ * - page: ApiResponse<PageResponse<UserSummaryResponse>> (20건)
+ * - error: ErrorResponse (Problem Details)
+ * - validation_error: 필드 오류 3개를 담은 ErrorResponse
+ *
+ * 본문 크기(바이트)는 serialize의 보조 지표 bodyBytes로 결과에 함께 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"login", "page", "error", "validation_error"})
+    public String payload;
+
+    private ObjectMapper objectMapper;
+    private Object value;
+    private int bodyBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        value = switch (payload) {
+            case "login" -> ApiResponse.success(login(), "로그인 성공");
+            case "page" -> ApiResponse.success(PageResponse.of(new PageImpl<>(users(20), PageRequest.of(0, 20), 1000)));
+            case "error" -> ErrorResponse.of(ErrorCode.INVALID_TOKEN);
+            default -> ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE, bindingResult());
+        };
+        bodyBytes = objectMapper.writeValueAsBytes(value).length;
+    }
+
+    @Benchmark
+    public byte[] serialize(BodySize size) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    /**
+     * 본문 크기 보조 지표
+     * EVENTS 카운터는 측정 반복 전체에 걸쳐 합산되므로 첫 측정 반복에서만 값을 내고 나머지 반복은 0을 낸다.
+     * (fork 1, 단일 스레드 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BodySize {
+
+        private long bytes;
+        private boolean reported;
+        private boolean reporting;
+
+        @Setup(Level.Iteration)
+        public void setUp(ResponseSerializationBenchmark benchmark, IterationParams iteration) {
+            bytes = benchmark.bodyBytes;
+            reporting = !reported && iteration.getType() == IterationType.MEASUREMENT;
+            reported |= reporting;
+        }
+
+        public long bodyBytes() {
+            return reporting ? bytes : 0;
+        }
+    }
+
+    private static LoginResponse login() {
+        // RS256 토큰과 비슷한 길이의 임의 문자열
+        return LoginResponse.builder()
+                .accessToken("a".repeat(620))
+                .refreshToken("r".repeat(600))
+                .tokenType("Bearer")
+                .expiresIn(86_400L)
+                .user(LoginResponse.UserInfo.builder()
+                        .id(1L)
+                        .email("student1@school.edu")
+                        .name("학생1")
+                        .role(UserRole.STUDENT)
+                        .build())
+                .build();
+    }
+
+    private static List<UserSummaryResponse> users(int size) {
+        List<UserSummaryResponse> users = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            users.add(new UserSummaryResponse(id, "student" + id + "@school.edu", "학생" + id,
+                    id % 10 == 0 ? UserRole.TEACHER : UserRole.STUDENT, true,
+                    LocalDateTime.of(2025, 3, 2, 9, 0).plusMinutes(id)));
+        }
+        return users;
+    }
+
+    private static MapBindingResult bindingResult() {
+        MapBindingResult result = new MapBindingResult(new HashMap<>(), "signupRequest");
+        result.addError(new FieldError("signupRequest", "email", "not-an-email", false, null, null,
+                "올바른 이메일 형식이 아닙니다."));
+        result.addError(new FieldError("signupRequest", "password", "short", false, null, null,
+                "비밀번호는 8자 이상이며 대소문자, 숫자, 특수문자를 포함해야 합니다."));
+        result.addError(new FieldError("signupRequest", "phone", "0101234", false, null, null,
+                "올바른 휴대폰 번호 형식이 아닙니다."));
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.edumanager.benchmarks;
+
+import com.edumanager.common.validation.annotation.ValidPassword;
+import com.edumanager.common.validation.annotation.ValidPhone;
+import com.edumanager.common.validation.validator.PasswordValidator;
+import com.edumanager.common.validation.validator.PhoneValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호/휴대폰 번호 정규식 검증 비용
+ *
+ * input
+ * - valid: 형식에 맞는 값
+ * - invalid: 마지막 조건에서 실패하는 값 (비밀번호는 특수문자 없음, 휴대폰은 자릿수 부족)
+ * - long: 256자 비밀번호 (전방 탐색이 문자열을 여러 번 훑는 경우) / 하이픈 없는 휴대폰 번호
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    @Param({"valid", "invalid", "long"})
+    public String input;
+
+    private PasswordValidator passwordValidator;
+    private PhoneValidator phoneValidator;
+    private String password;
+    private String phone;
+
+    // 검증기 initialize에 넘길 애너테이션 인스턴스
+    private static class Annotated {
+        @ValidPassword
+        String password;
+
+        @ValidPhone
+        String phone;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException {
+        passwordValidator = new PasswordValidator();
+        passwordValidator.initialize(Annotated.class.getDeclaredField("password").getAnnotation(ValidPassword.class));
+        phoneValidator = new PhoneValidator();
+        phoneValidator.initialize(Annotated.class.getDeclaredField("phone").getAnnotation(ValidPhone.class));
+
+        switch (input) {
+            case "valid" -> {
+                password = "Bench!2345a";
+                phone = "010-1234-5678";
+            }
+            case "invalid" -> {
+                password = "Bench12345a";
+                phone = "010-123-567";
+            }
+            default -> {
+                password = "Aa1!" + "x".repeat(252);
+                phone = "01012345678";
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean password() {
+        return passwordValidator.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return phoneValidator.isValid(phone, null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.edumanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * AuthController 엔드포인트 HTTP 클라이언트
+ *
+ * 실제 내장 Tomcat으로 요청을 보내므로 필터 체인, 직렬화, 예외 처리까지 운영과 같은 경로를 거친다.
+ * 연결 오류/타임아웃은 상태 코드 0으로 돌려준다.
+ */
+class AuthClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    AuthClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 응답 상태와 본문의 data 필드
+     */
+    record Result(int status, JsonNode data) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    /**
+     * 로그인한 기기 세션 (갱신 시 토큰이 바뀐다)
+     */
+    static final class Session {
+
+        final String email;
+        volatile String accessToken;
+        volatile String refreshToken;
+
+        Session(String email, JsonNode tokens) {
+            this.email = email;
+            update(tokens);
+        }
+
+        void update(JsonNode tokens) {
+            this.accessToken = tokens.path("accessToken").asText();
+            this.refreshToken = tokens.path("refreshToken").asText();
+        }
+    }
+
+    Result login(String email, String password) {
+        return send(post("/api/auth/login", Map.of("email", email, "password", password)).build());
+    }
+
+    Result me(Session session) {
+        return send(HttpRequest.newBuilder(uri("/api/auth/me"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + session.accessToken)
+                .GET()
+                .build());
+    }
+
+    Result refresh(Session session) {
+        return send(post("/api/auth/refresh", Map.of("refreshToken", session.refreshToken)).build());
+    }
+
+    Result logout(Session session) {
+        return send(post("/api/auth/logout", Map.of())
+                .header("Authorization", "Bearer " + session.accessToken)
+                .build());
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Result send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode data = response.body().length > 0
+                    ? objectMapper.readTree(response.body()).path("data")
+                    : objectMapper.missingNode();
+            return new Result(response.statusCode(), data);
+        } catch (IOException e) {
+            return new Result(0, objectMapper.missingNode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(0, objectMapper.missingNode());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
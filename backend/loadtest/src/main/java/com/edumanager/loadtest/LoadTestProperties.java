@@ -0,0 +1,28 @@
+package com.edumanager.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 부하 시나리오 설정 (application-loadtest.yml의 loadtest.*)
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    private int users = 500;
+    private Duration loginRamp = Duration.ofSeconds(5);
+    private Duration pollDuration = Duration.ofSeconds(30);
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int refreshWaves = 3;
+    private Duration refreshWaveInterval = Duration.ofSeconds(2);
+    private String outputDir = ".";
+    // 시나리오별 오류 비율이 이 값을 넘으면 실행을 실패로 끝낸다 (오류 응답 지연이 결과를 흐리지 않도록)
+    private double maxErrorRatio = 0.01;
+}
@@ -0,0 +1,252 @@
+package com.edumanager.loadtest;
+
+import com.edumanager.BackendApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.fppt.jedismock.RedisServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 오프라인 인증 부하 테스트
+ *
+ * 프로세스 안에 Redis 프로토콜 서버(jedis-mock)를 띄우고, H2(PostgreSQL 모드)로 애플리케이션 전체를 기동한 뒤
+ * 내장 Tomcat의 실제 AuthController 엔드포인트로 시나리오를 순서대로 실행한다.
+ *
+ * 1) login-burst: 수업 시작 - 모든 학생이 login-ramp 안에 고르게 도착해 한 번씩 로그인
+ * 2) me-polling: 로그인한 세션마다 poll-interval 간격으로 /me 호출 (poll-duration 동안)
+ * 3) refresh-wave: 모든 세션이 동시에 토큰 갱신 (refresh-waves회, 액세스 토큰 일괄 만료 상황)
+ * 4) logout-storm: 수업 종료 - 모든 세션 동시 로그아웃
+ *
+ * 가상 사용자마다 가상 스레드 하나를 쓴다. 결과는 콘솔 표와 output-dir의 {시나리오}.hgrm, summary.json으로 남긴다.
+ * 서버와 클라이언트가 같은 JVM이므로 절대값보다 커밋 간/설정 간 비교에 쓴다.
+ * 오류 비율이 max-error-ratio를 넘은 시나리오가 있으면 결과를 남긴 뒤 실패로 끝난다.
+ * refresh-wave의 처리량은 파도 사이 대기 시간을 포함한 구간 기준이다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "LoadTest!2345";
+    private static final String EMAIL_FORMAT = "loadtest%d@loadtest.edumanager.com";
+
+    private final LoadTestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuthClient client;
+    private final Path outputDir;
+
+    LoadTestRunner(ConfigurableApplicationContext context) {
+        this.properties = context.getBean(LoadTestProperties.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.client = new AuthClient("http://localhost:" + port, objectMapper);
+        this.outputDir = Path.of(properties.getOutputDir());
+    }
+
+    public static void main(String[] args) throws Exception {
+        RedisServer redis = RedisServer.newRedisServer();
+        redis.start();
+        // 기본 속성(properties())은 application.yml의 포트 설정에 밀리므로 실행 인자로 넘긴다
+        String[] runArgs = Arrays.copyOf(args, args.length + 1);
+        runArgs[args.length] = "--spring.data.redis.port=" + redis.getBindPort();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("loadtest")
+                .run(runArgs)) {
+            new LoadTestRunner(context).run();
+        } finally {
+            redis.stop();
+        }
+    }
+
+    void run() throws IOException, InterruptedException {
+        List<String> emails = seedUsers(properties.getUsers());
+        List<ScenarioResult> results = new ArrayList<>();
+
+        Queue<AuthClient.Session> sessions = new ConcurrentLinkedQueue<>();
+        results.add(loginBurst(emails, sessions));
+        List<AuthClient.Session> loggedIn = List.copyOf(sessions);
+        log.info("로그인 세션 {}개로 후속 시나리오 진행", loggedIn.size());
+
+        results.add(mePolling(loggedIn));
+        results.add(refreshWaves(loggedIn));
+        results.add(logoutStorm(loggedIn));
+
+        report(results);
+        checkErrorRatio(results);
+    }
+
+    /**
+     * 오류 비율이 한도를 넘은 시나리오가 있으면 실패 (결과 파일은 남긴 뒤)
+     */
+    private void checkErrorRatio(List<ScenarioResult> results) {
+        List<String> failed = results.stream()
+                .filter(result -> result.requests() == 0
+                        || (double) result.errors() / result.requests() > properties.getMaxErrorRatio())
+                .map(result -> "%s(%d/%d, %s)".formatted(result.scenario(), result.errors(), result.requests(),
+                        result.statusCounts()))
+                .toList();
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("오류 비율 " + properties.getMaxErrorRatio() + " 초과: " + failed);
+        }
+    }
+
+    /**
+     * 부하 테스트 사용자 일괄 등록
+     * 해시는 한 번만 계산해 모든 사용자에 같은 값을 쓴다. (로그인 시 검증 비용은 그대로)
+     */
+    private List<String> seedUsers(int users) {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<String> emails = IntStream.rangeClosed(1, users).mapToObj(EMAIL_FORMAT::formatted).toList();
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO users (id, email, password, name, phone, role, is_active, is_verified, create_at, updated_at)
+                        VALUES (nextval('user_sequence'), ?, ?, '부하학생', NULL, 'STUDENT', true, false, now(), now())
+                        """,
+                emails, 500, (statement, email) -> {
+                    statement.setString(1, email);
+                    statement.setString(2, hash);
+                });
+        log.info("부하 테스트 사용자 {}명 등록", users);
+        return emails;
+    }
+
+    private ScenarioResult loginBurst(List<String> emails, Queue<AuthClient.Session> sessions) throws IOException {
+        ScenarioRecorder recorder = new ScenarioRecorder("login-burst");
+        long rampNanos = properties.getLoginRamp().toNanos();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < emails.size(); i++) {
+                String email = emails.get(i);
+                long intendedStart = start + rampNanos * i / emails.size();
+                executor.submit(() -> {
+                    sleepUntil(intendedStart);
+                    AuthClient.Result result = client.login(email, PASSWORD);
+                    recorder.record(intendedStart, result.status());
+                    if (result.isSuccess()) {
+                        sessions.add(new AuthClient.Session(email, result.data()));
+                    }
+                });
+            }
+        }
+        return recorder.finish(outputDir);
+    }
+
+    private ScenarioResult mePolling(List<AuthClient.Session> sessions) throws IOException {
+        ScenarioRecorder recorder = new ScenarioRecorder("me-polling");
+        long intervalNanos = properties.getPollInterval().toNanos();
+        long end = System.nanoTime() + properties.getPollDuration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (AuthClient.Session session : sessions) {
+                // 세션마다 시작 시점을 간격 안에서 흩뜨려 매초 정각에 몰리지 않게 한다
+                long first = System.nanoTime() + ThreadLocalRandom.current().nextLong(intervalNanos);
+                executor.submit(() -> {
+                    for (long next = first; next < end; next += intervalNanos) {
+                        sleepUntil(next);
+                        recorder.record(next, client.me(session).status());
+                    }
+                });
+            }
+        }
+        return recorder.finish(outputDir);
+    }
+
+    private ScenarioResult refreshWaves(List<AuthClient.Session> sessions) throws IOException, InterruptedException {
+        ScenarioRecorder recorder = new ScenarioRecorder("refresh-wave");
+
+        for (int wave = 0; wave < properties.getRefreshWaves(); wave++) {
+            if (wave > 0) {
+                Thread.sleep(properties.getRefreshWaveInterval());
+            }
+            runTogether(sessions, session -> {
+                long intendedStart = System.nanoTime();
+                AuthClient.Result result = client.refresh(session);
+                recorder.record(intendedStart, result.status());
+                if (result.isSuccess()) {
+                    session.update(result.data());
+                }
+            });
+        }
+        return recorder.finish(outputDir);
+    }
+
+    private ScenarioResult logoutStorm(List<AuthClient.Session> sessions) throws IOException, InterruptedException {
+        ScenarioRecorder recorder = new ScenarioRecorder("logout-storm");
+        runTogether(sessions, session -> {
+            long intendedStart = System.nanoTime();
+            recorder.record(intendedStart, client.logout(session).status());
+        });
+        return recorder.finish(outputDir);
+    }
+
+    /**
+     * 모든 세션의 작업을 준비시킨 뒤 한꺼번에 출발시킨다
+     */
+    private void runTogether(List<AuthClient.Session> sessions, Consumer<AuthClient.Session> task)
+            throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(sessions.size());
+        CountDownLatch go = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (AuthClient.Session session : sessions) {
+                executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    task.accept(session);
+                    return null;
+                });
+            }
+            ready.await();
+            go.countDown();
+        }
+    }
+
+    private void report(List<ScenarioResult> results) throws IOException {
+        StringBuilder table = new StringBuilder("\n=== 부하 테스트 결과 ===\n");
+        table.append(String.format("%-14s %8s %7s %10s %9s %9s %9s %9s %9s %10s %10s %5s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9", "max",
+                "alloc MB/s", "KB/req", "GCs"));
+        for (ScenarioResult result : results) {
+            table.append(String.format("%-14s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %10.1f %10.1f %5d%n",
+                    result.scenario(), result.requests(), result.errors(), result.throughput(),
+                    result.p50Ms(), result.p90Ms(), result.p99Ms(), result.p999Ms(), result.maxMs(),
+                    result.allocationMbPerSec(), result.allocationKbPerRequest(), result.gcCount()));
+        }
+        results.stream()
+                .filter(result -> result.errors() > 0)
+                .forEach(result -> table.append(String.format("  %s 상태별 응답: %s%n",
+                        result.scenario(), result.statusCounts())));
+        table.append("지연 분포: ").append(outputDir.toAbsolutePath()).append("/{scenario}.hgrm");
+        log.info(table.toString());
+
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(outputDir.resolve("summary.json").toFile(), results);
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
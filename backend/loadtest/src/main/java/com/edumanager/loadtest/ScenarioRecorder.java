@@ -0,0 +1,122 @@
+package com.edumanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오 하나의 측정값 수집
+ *
+ * - 지연: 요청을 보내기로 한 시각부터 응답까지 (마이크로초, HdrHistogram)
+ *   예정 시각을 기준으로 재므로 서버가 밀려 요청이 늦게 나간 시간도 지연에 포함된다. (coordinated omission 보정)
+ * - 할당량: JVM 전체 스레드 할당 바이트 증가분 (같은 프로세스의 부하 클라이언트 할당도 포함)
+ * - GC: 수집기별 횟수/시간 증가분
+ */
+class ScenarioRecorder {
+
+    // 1µs ~ 1분, 유효 숫자 3자리
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private final long startGcCount;
+    private final long startGcMillis;
+
+    ScenarioRecorder(String name) {
+        this.name = name;
+        this.startAllocatedBytes = THREADS.getTotalThreadAllocatedBytes();
+        this.startGcCount = gcCount();
+        this.startGcMillis = gcMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @param intendedStartNanos 요청을 보내기로 한 시각 (System.nanoTime)
+     * @param status             HTTP 상태 (연결 오류는 0)
+     */
+    void record(long intendedStartNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        recorder.recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 측정 종료 - 결과 계산 후 지연 분포를 {outputDir}/{name}.hgrm으로 저장
+     */
+    ScenarioResult finish(Path outputDir) throws IOException {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = THREADS.getTotalThreadAllocatedBytes() - startAllocatedBytes;
+        Histogram histogram = recorder.getIntervalHistogram();
+
+        Map<String, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+        long errors = statusCounts.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+
+        Files.createDirectories(outputDir);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(name + ".hgrm")))) {
+            // 값 단위 ms
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        long requests = histogram.getTotalCount();
+        return new ScenarioResult(
+                name,
+                requests,
+                errors,
+                statuses,
+                round(seconds),
+                round(requests / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                round(allocatedBytes / 1e6 / seconds),
+                requests > 0 ? round(allocatedBytes / 1e3 / requests) : 0,
+                gcCount() - startGcCount,
+                gcMillis() - startGcMillis);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+}
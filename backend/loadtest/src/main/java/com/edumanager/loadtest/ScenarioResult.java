@@ -0,0 +1,28 @@
+package com.edumanager.loadtest;
+
+import java.util.Map;
+
+/**
+ * 시나리오 결과 (summary.json 한 항목)
+ *
+ * @param statusCounts       HTTP 상태별 응답 수 (0은 연결 오류/타임아웃)
+ * @param allocationMbPerSec 초당 할당량 (MB/s, 프로세스 전체)
+ * @param allocationKbPerRequest 요청당 할당량 (KB, 프로세스 전체 할당 / 요청 수)
+ */
+record ScenarioResult(
+        String scenario,
+        long requests,
+        long errors,
+        Map<String, Long> statusCounts,
+        double durationSeconds,
+        double throughput,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double p999Ms,
+        double maxMs,
+        double allocationMbPerSec,
+        double allocationKbPerRequest,
+        long gcCount,
+        long gcTimeMs) {
+}
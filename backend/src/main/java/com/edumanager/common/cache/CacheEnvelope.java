@@ -0,0 +1,25 @@
+package com.edumanager.common.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 미리 갱신(refresh-ahead)을 쓰는 캐시의 저장 값
+ *
+ * @param value           캐시 값
+ * @param computeMillis   값을 만드는 데 걸린 시간 (갱신 시작 시점 계산용)
+ * @param expiresAtMillis L2 만료 시각
+ */
+public record CacheEnvelope(Object value, long computeMillis, long expiresAtMillis) {
+
+    /**
+     * XFetch (확률적 조기 만료)
+     * 만료가 가까울수록, 그리고 다시 만드는 데 오래 걸리는 값일수록 높은 확률로 true.
+     * 노드/요청마다 갱신 시점이 흩어지므로 만료 순간에 요청이 한꺼번에 로더로 몰리지 않는다.
+     *
+     * @param beta 1.0이 기본, 클수록 더 일찍 갱신
+     */
+    public boolean shouldRefresh(long nowMillis, double beta) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return nowMillis - computeMillis * beta * Math.log(random) >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,69 @@
+package com.edumanager.common.cache;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_CACHE_LOAD_LOCK;
+
+/**
+ * 노드 간 캐시 로드 락 (SET NX PX + 소유자 토큰 비교 해제)
+ * 락 획득에 실패하거나 Redis 오류가 나면 호출 측이 판단한다. (기다렸다가 L2 확인 또는 그냥 로드)
+ */
+@Slf4j
+public class CacheLoadLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-lock.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Duration leaseTime;
+
+    public CacheLoadLock(StringRedisTemplate stringRedisTemplate, RedisCircuitBreaker redisCircuitBreaker,
+                         Duration leaseTime) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * @return 획득하면 해제용 토큰, 다른 노드가 보유 중이면 null
+     */
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            // Redis를 쓸 수 없으면 락 없이 로드 (토큰을 돌려주고, 해제도 차단기가 건너뛴다)
+            Boolean acquired = redisCircuitBreaker.execute(RedisOperation.CACHE,
+                    () -> stringRedisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, leaseTime),
+                    () -> Boolean.TRUE);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            // 락 없이 로드 (노드 내 단일 로드는 유지된다)
+            log.warn("캐시 로드 락 획득 실패 (락 없이 진행): cache={}, error={}", cacheName, e.getMessage());
+            return token;
+        }
+    }
+
+    public void release(String cacheName, String key, String token) {
+        try {
+            redisCircuitBreaker.run(RedisOperation.CACHE,
+                    () -> stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token),
+                    () -> { });
+        } catch (Exception e) {
+            // 임대 시간이 지나면 자동으로 풀린다
+            log.warn("캐시 로드 락 해제 실패: cache={}, error={}", cacheName, e.getMessage());
+        }
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return PREFIX_CACHE_LOAD_LOCK + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,178 @@
+package com.edumanager.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis 값 직렬화 (RedisTemplate, 캐시 L2 공용)
+ *
+ * SMILE 모드: Smile(바이너리 JSON) + 속성 이름/짧은 문자열 역참조로 텍스트 JSON보다 작고 파싱이 빠르다.
+ * 압축 기준 이상의 값은 LZ4로 압축한다. (반복되는 클래스 이름과 필드 이름이 대부분 사라진다)
+ *
+ * 값 형식: [0xC5][버전][플래그] + 본문 (LZ4 플래그면 원본 길이 4바이트 + 압축 본문)
+ * 첫 바이트가 0xC5가 아니면 이전 JSON 직렬화 값으로 보고 JSON으로 읽는다.
+ * 따라서 롤링 배포 중 새 노드는 기존 값을 읽을 수 있다. 이전 버전 노드는 SMILE 값을 읽지 못하므로,
+ * 모든 노드가 이 버전으로 올라간 뒤에 format을 smile로 바꾼다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    public enum Format {
+        JSON, SMILE
+    }
+
+    // UTF-8 텍스트(JSON)와 Smile 헤더(':')의 첫 바이트로 나올 수 없는 값
+    static final byte MARKER = (byte) 0xC5;
+    static final byte VERSION_1 = 1;
+    static final byte FLAG_LZ4 = 1;
+    private static final int HEADER_LENGTH = 3;
+    private static final int LENGTH_PREFIX = Integer.BYTES;
+    // 손상/악의적인 값으로 큰 배열을 할당하지 않도록 제한
+    private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+    private final Format format;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    /**
+     * @param compressionThreshold 이 크기(바이트) 이상인 본문만 압축, 0 이하면 압축하지 않음
+     */
+    public CompactRedisSerializer(Format format, int compressionThreshold) {
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+        this.smileMapper = createSmileMapper();
+        this.jsonSerializer = createJsonSerializer();
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.safeDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (format == Format.JSON) {
+            return jsonSerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold > 0 && body.length >= compressionThreshold) {
+            byte[] compressed = new byte[HEADER_LENGTH + LENGTH_PREFIX + compressor.maxCompressedLength(body.length)];
+            int compressedLength = compressor.compress(body, 0, body.length,
+                    compressed, HEADER_LENGTH + LENGTH_PREFIX, compressed.length - HEADER_LENGTH - LENGTH_PREFIX);
+            // 압축 효과가 없으면 원본 그대로 저장
+            if (LENGTH_PREFIX + compressedLength < body.length) {
+                writeHeader(compressed, FLAG_LZ4);
+                ByteBuffer.wrap(compressed, HEADER_LENGTH, LENGTH_PREFIX).putInt(body.length);
+                return Arrays.copyOf(compressed, HEADER_LENGTH + LENGTH_PREFIX + compressedLength);
+            }
+        }
+
+        byte[] result = new byte[HEADER_LENGTH + body.length];
+        writeHeader(result, (byte) 0);
+        System.arraycopy(body, 0, result, HEADER_LENGTH, body.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MARKER) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION_1) {
+            throw new SerializationException("Unsupported Redis value version: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        try {
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return smileMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_PREFIX).getInt();
+            if (originalLength < 0 || originalLength > MAX_DECOMPRESSED_LENGTH) {
+                throw new SerializationException("Invalid decompressed length: " + originalLength);
+            }
+            byte[] body = new byte[originalLength];
+            int offset = HEADER_LENGTH + LENGTH_PREFIX;
+            decompressor.decompress(bytes, offset, bytes.length - offset, body, 0, originalLength);
+            return smileMapper.readValue(body, Object.class);
+        } catch (IOException | LZ4Exception | IndexOutOfBoundsException e) {
+            throw new SerializationException("Could not read Redis value: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeHeader(byte[] target, byte flags) {
+        target[0] = MARKER;
+        target[1] = VERSION_1;
+        target[2] = flags;
+    }
+
+    /**
+     * GenericJackson2JsonRedisSerializer와 같이 값마다 타입 정보를 담아 Object로 읽을 수 있게 하되,
+     * 역직렬화 가능한 타입은 애플리케이션/JDK 클래스로 제한한다.
+     */
+    @SuppressWarnings("deprecation")
+    private static ObjectMapper createSmileMapper() {
+        return SmileMapper.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .activateDefaultTyping(typeValidator(), ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY)
+                .build();
+    }
+
+    /**
+     * 기존 JSON 형식 (GenericJackson2JsonRedisSerializer 기본값과 같은 @class 타입 정보)
+     * 기본 매퍼에 없는 java.time 지원과 모르는 필드 무시(롤링 배포 중 필드 추가)만 더한다.
+     */
+    @SuppressWarnings("deprecation")
+    private static GenericJackson2JsonRedisSerializer createJsonSerializer() {
+        ObjectMapper jsonMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .activateDefaultTyping(typeValidator(), ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY)
+                .build();
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(jsonMapper, null);
+        return new GenericJackson2JsonRedisSerializer(jsonMapper);
+    }
+
+    private static BasicPolymorphicTypeValidator typeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.edumanager.")
+                .allowIfSubType("java.")
+                .allowIfSubType("org.springframework.cache.support.NullValue")
+                .allowIfSubTypeIsArray()
+                .build();
+    }
+}
@@ -0,0 +1,500 @@
+package com.edumanager.common.cache;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ *
+ * 조회: L1 -> L2(Redis) -> 로더. L2에서 읽은 값은 L1에 채운다.
+ * 변경(put/evict/clear): L2를 먼저 바꾸고 L1을 갱신한 뒤, 다른 노드의 L1을 비우도록 무효화 메시지를 보낸다.
+ * L1은 객체를 그대로 공유하므로 캐시 값은 불변 객체(레코드 DTO 등)여야 한다.
+ *
+ * 복제본 읽기 (replicaRemote가 있을 때)
+ * - 일반 L2 조회는 복제본으로 보내고, 쓰기와 락 이후 재확인/대기 중 조회는 주 노드로 보낸다.
+ * - 무효화 직후에는 복제 지연으로 이전 값을 다시 L1에 채울 수 있으므로 잠시 그 키(또는 캐시 전체)는 주 노드에서 읽는다.
+ *
+ * 캐시 스탬피드 방지 (@Cacheable(sync = true), 즉 get(key, loader) 경로)
+ * - 같은 키의 동시 미스는 노드 안에서 로드 한 번으로 합친다.
+ * - distributedLock이면 노드 간에도 Redis 락으로 한 노드만 로드하고, 나머지는 L2에 값이 채워지길 기다린다.
+ * - refreshAhead면 만료 전에 XFetch로 골라진 요청 하나가 백그라운드에서 갱신하고, 그동안 기존 값을 계속 돌려준다.
+ *
+ * Redis 저하 모드 (RedisCircuitBreaker)
+ * - L2 조회는 미스로, 락은 건너뛰고, 로더(DB)는 노드 전체 동시 실행 한도 안에서만 실행한다. (한도를 넘으면 503)
+ * - 반영하지 못한 L2 변경은 키를 기억해 두었다가 복구 후 L2에서 지운다. (너무 많으면 캐시 전체를 비운다)
+ * - 로더 동시 실행 한도는 get(key, loader) 경로에만 적용되므로 DB 부하가 큰 캐시는 sync = true로 선언한다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final long LOCK_POLL_MILLIS = 50;
+    // 무효화 후 주 노드에서 읽는 기간 (복제 지연 상한으로 잡는다)
+    private static final Duration REPLICA_READ_GRACE = Duration.ofSeconds(1);
+    // 저하 모드 동안 기억해 두는 미반영 무효화 키 수 (넘으면 복구 후 캐시 전체를 비운다)
+    private static final int MAX_PENDING_EVICTIONS = 10_000;
+    // 차단기가 L2 호출을 건너뛴 경우 (미스와 구분)
+    private static final ValueWrapper UNAVAILABLE = new SimpleValueWrapper(null);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final Cache replicaRemote;
+    private final TwoTierCacheManager manager;
+    private final TwoTierCacheProperties.CacheSpec spec;
+    private final Duration remoteTtl;
+    private final CacheLoadLock loadLock;
+    private final Duration lockWaitTime;
+    private final Executor refreshExecutor;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Semaphore degradedLoads;
+    private final Duration degradedLoadWait;
+    private final Metrics metrics;
+
+    // 진행 중인 로드 (키별 단일 로드)
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 최근 무효화된 키 (복제본 대신 주 노드에서 읽음)
+    private final com.github.benmanes.caffeine.cache.Cache<String, Boolean> recentlyInvalidated;
+    private volatile long clearedAtNanos = System.nanoTime() - REPLICA_READ_GRACE.toNanos();
+    // 저하 모드 동안 L2에 반영하지 못한 변경
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingClear = false;
+
+    /**
+     * 캐시 이름별 지표
+     */
+    record Metrics(Counter remoteHits, Counter remoteMisses, Timer loadSuccess, Timer loadFailure,
+                   Counter coalesced, Counter refreshed, Counter refreshFailed) {
+    }
+
+    TwoTierCache(String name,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                 Cache remote,
+                 Cache replicaRemote,
+                 TwoTierCacheManager manager,
+                 TwoTierCacheProperties.CacheSpec spec,
+                 Duration remoteTtl,
+                 CacheLoadLock loadLock,
+                 Duration lockWaitTime,
+                 Executor refreshExecutor,
+                 RedisCircuitBreaker redisCircuitBreaker,
+                 Semaphore degradedLoads,
+                 Duration degradedLoadWait,
+                 Metrics metrics) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.replicaRemote = replicaRemote;
+        this.recentlyInvalidated = replicaRemote != null
+                ? Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(REPLICA_READ_GRACE).build()
+                : null;
+        this.manager = manager;
+        this.spec = spec;
+        this.remoteTtl = remoteTtl;
+        this.loadLock = spec.isDistributedLock() ? loadLock : null;
+        this.lockWaitTime = lockWaitTime;
+        this.refreshExecutor = refreshExecutor;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.degradedLoads = degradedLoads;
+        this.degradedLoadWait = degradedLoadWait;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object stored = lookupStored(key, localKey(key));
+        return stored instanceof CacheEnvelope envelope ? envelope.value() : stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object stored = lookupStored(key, localKey);
+        if (stored instanceof CacheEnvelope envelope) {
+            if (spec.isRefreshAhead() && envelope.shouldRefresh(System.currentTimeMillis(), spec.getRefreshBeta())) {
+                refreshInBackground(key, localKey, valueLoader);
+            }
+            return (T) envelope.value();
+        }
+        if (stored != null) {
+            return (T) fromStoreValue(stored);
+        }
+        return (T) loadOnce(key, localKey, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = localKey(key);
+        store(key, localKey, value, 0L, true);
+        markInvalidated(localKey);
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        Object stored = wrap(value, 0L);
+        ValueWrapper existing = redisCircuitBreaker.execute(RedisOperation.CACHE,
+                () -> remote.putIfAbsent(key, stored),
+                () -> {
+                    markPending(key);
+                    return null;
+                });
+        if (existing != null && existing.get() != null) {
+            local.put(localKey, existing.get());
+            return toValueWrapper(existing.get() instanceof CacheEnvelope envelope ? envelope.value() : existing.get());
+        }
+        local.put(localKey, stored);
+        markInvalidated(localKey);
+        manager.publishEvict(name, localKey);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCircuitBreaker.run(RedisOperation.CACHE, () -> remote.evict(key), () -> markPending(key));
+        String localKey = localKey(key);
+        evictLocal(localKey);
+        manager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCircuitBreaker.execute(RedisOperation.CACHE,
+                () -> remote.evictIfPresent(key),
+                () -> {
+                    markPending(key);
+                    return false;
+                });
+        String localKey = localKey(key);
+        evictLocal(localKey);
+        manager.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCircuitBreaker.run(RedisOperation.CACHE, remote::clear, () -> pendingClear = true);
+        clearLocal();
+        manager.publishClear(name);
+    }
+
+    /**
+     * 복구 후 저하 모드 동안 미반영된 L2 무효화 재실행 (다시 실패하면 다시 기억한다)
+     */
+    void replayPending() {
+        if (pendingClear) {
+            pendingClear = false;
+            pendingEvictions.clear();
+            clear();
+            return;
+        }
+        for (Object key : pendingEvictions) {
+            pendingEvictions.remove(key);
+            evict(key);
+        }
+    }
+
+    private void markPending(Object key) {
+        if (pendingEvictions.size() >= MAX_PENDING_EVICTIONS) {
+            pendingClear = true;
+            return;
+        }
+        pendingEvictions.add(key);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 반영 (L1만)
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+        markInvalidated(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+        clearedAtNanos = System.nanoTime();
+    }
+
+    private void markInvalidated(String localKey) {
+        if (recentlyInvalidated != null) {
+            recentlyInvalidated.put(localKey, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 일반 L2 조회 대상 - 복제본 (최근 무효화된 키와 캐시 비우기 직후는 주 노드)
+     */
+    private Cache readRemote(String localKey) {
+        if (replicaRemote == null
+                || System.nanoTime() - clearedAtNanos < REPLICA_READ_GRACE.toNanos()
+                || recentlyInvalidated.getIfPresent(localKey) != null) {
+            return remote;
+        }
+        return replicaRemote;
+    }
+
+    /**
+     * L1 -> L2 순으로 저장된 값 조회 (refreshAhead 캐시는 CacheEnvelope)
+     */
+    private Object lookupStored(Object key, String localKey) {
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        value = lookupRemote(readRemote(localKey), key);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    private Object lookupRemote(Cache source, Object key) {
+        ValueWrapper remoteValue = redisCircuitBreaker.execute(RedisOperation.CACHE,
+                () -> source.get(key),
+                () -> UNAVAILABLE);
+        if (remoteValue == UNAVAILABLE) {
+            return null;
+        }
+        if (remoteValue == null || remoteValue.get() == null) {
+            metrics.remoteMisses().increment();
+            return null;
+        }
+        metrics.remoteHits().increment();
+        return remoteValue.get();
+    }
+
+    /**
+     * 미스 - 같은 키를 이미 로드 중이면 그 결과를 기다린다
+     */
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            metrics.coalesced().increment();
+            Object value = await(running);
+            if (value != null) {
+                return value;
+            }
+            // 건너뛴 미리 갱신이나 null 결과 - 직접 로드
+            return loadAcrossNodes(key, localKey, valueLoader);
+        }
+        try {
+            Object value = loadAcrossNodes(key, localKey, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    /**
+     * 노드 간 락이 켜져 있으면 한 노드만 로드하고, 나머지는 L2를 확인하며 기다린다.
+     * 기다려도 값이 없으면(로더 실패, 락 만료) 직접 로드한다.
+     */
+    private Object loadAcrossNodes(Object key, String localKey, Callable<?> valueLoader) {
+        if (redisCircuitBreaker.isDegraded()) {
+            return loadDegraded(key, localKey, valueLoader);
+        }
+        if (loadLock == null) {
+            return loadAndStore(key, localKey, valueLoader);
+        }
+        String token = loadLock.tryAcquire(name, localKey);
+        if (token == null) {
+            Object loadedElsewhere = awaitRemote(key, localKey);
+            if (loadedElsewhere != null) {
+                metrics.coalesced().increment();
+                return loadedElsewhere instanceof CacheEnvelope envelope ? envelope.value() : loadedElsewhere;
+            }
+            return loadAndStore(key, localKey, valueLoader);
+        }
+        try {
+            // 락을 잡기 직전에 다른 노드가 채웠을 수 있다 (복제 지연이 없도록 주 노드에서 확인)
+            Object stored = lookupRemote(remote, key);
+            if (stored != null) {
+                local.put(localKey, stored);
+                return stored instanceof CacheEnvelope envelope ? envelope.value() : stored;
+            }
+            return loadAndStore(key, localKey, valueLoader);
+        } finally {
+            loadLock.release(name, localKey, token);
+        }
+    }
+
+    /**
+     * 저하 모드 로드 - L2 없이 DB로 가는 로드가 몰리지 않도록 노드 전체 동시 실행 수를 제한한다
+     */
+    private Object loadDegraded(Object key, String localKey, Callable<?> valueLoader) {
+        try {
+            if (!degradedLoads.tryAcquire(degradedLoadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Redis 저하 모드 캐시 로드 한도 초과 - 요청 거절: cache={}", name);
+                throw new BusinessException(ErrorCode.SERVICE_DEGRADED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_DEGRADED);
+        }
+        try {
+            return loadAndStore(key, localKey, valueLoader);
+        } finally {
+            degradedLoads.release();
+        }
+    }
+
+    private Object awaitRemote(Object key, String localKey) {
+        long deadline = System.nanoTime() + lockWaitTime.toNanos();
+        while (System.nanoTime() < deadline && !redisCircuitBreaker.isDegraded()) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object stored = lookupRemote(remote, key);
+            if (stored != null) {
+                local.put(localKey, stored);
+                return stored;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 미리 갱신 - 호출한 요청에는 기존 값을 돌려주고 갱신은 별도 풀에서 한다.
+     * 이미 갱신/로드 중이거나 다른 노드가 락을 잡고 있으면 건너뛴다.
+     * 로더는 요청 스레드 밖에서 실행되므로 요청 컨텍스트(보안 정보 등)에 의존하지 않아야 한다.
+     */
+    private void refreshInBackground(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(localKey, mine) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String token = loadLock != null ? loadLock.tryAcquire(name, localKey) : null;
+                try {
+                    if (loadLock != null && token == null) {
+                        mine.complete(null);
+                        return;
+                    }
+                    Object value = loadAndStore(key, localKey, valueLoader);
+                    mine.complete(value);
+                    metrics.refreshed().increment();
+                } catch (RuntimeException e) {
+                    mine.completeExceptionally(e);
+                    metrics.refreshFailed().increment();
+                    log.warn("캐시 미리 갱신 실패 (기존 값 유지): cache={}, key={}, error={}", name, localKey, e.getMessage());
+                } finally {
+                    if (token != null) {
+                        loadLock.release(name, localKey, token);
+                    }
+                    inFlight.remove(localKey, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 풀이 가득 차면 이번 기회는 건너뛴다 (다음 요청이 다시 시도)
+            inFlight.remove(localKey, mine);
+            mine.complete(null);
+        }
+    }
+
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            metrics.loadFailure().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        metrics.loadSuccess().record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        // 빈 자리를 채우는 것이므로 다른 노드에 알리지 않는다 (다른 노드 L1의 오래된 값은 L1 TTL로 정리)
+        if (loaded != null) {
+            store(key, localKey, loaded, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), false);
+        }
+        return loaded;
+    }
+
+    /**
+     * @param change 값 변경(put)이면 true - L2에 쓰지 못했을 때 L2의 이전 값을 복구 후 지우도록 기억한다.
+     *               미스 후 채우기는 기억하지 않는다. (L2 값을 바꾸는 변경은 put/evict에서 따로 기억한다)
+     */
+    private void store(Object key, String localKey, Object value, long computeMillis, boolean change) {
+        Object stored = wrap(value, computeMillis);
+        redisCircuitBreaker.run(RedisOperation.CACHE, () -> remote.put(key, stored), () -> {
+            if (change) {
+                markPending(key);
+            }
+        });
+        local.put(localKey, stored);
+    }
+
+    private Object wrap(Object value, long computeMillis) {
+        if (!spec.isRefreshAhead()) {
+            return value;
+        }
+        return new CacheEnvelope(value, computeMillis, System.currentTimeMillis() + remoteTtl.toMillis());
+    }
+
+    /**
+     * 다른 스레드가 진행 중인 로드 결과 대기 (로드 실패는 그대로 전달)
+     */
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * L1 키 - RedisCache와 같이 키의 문자열 표현을 사용한다 (노드 간 무효화 메시지에 그대로 실린다)
+     */
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,242 @@
+package com.edumanager.common.cache;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.common.redis.RedisResilienceProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static com.edumanager.common.constant.AppConstants.Redis.CHANNEL_CACHE_INVALIDATION;
+
+/**
+ * 로컬(L1) + Redis(L2) 2단계 CacheManager
+ *
+ * L2는 RedisCacheManager의 캐시를 그대로 쓰고, 캐시 이름마다 크기/TTL이 제한된 Caffeine L1을 앞에 둔다.
+ * 한 노드에서 값이 바뀌면 Pub/Sub으로 다른 노드의 L1 항목을 비운다. (자기 노드 메시지는 무시)
+ * 메시지를 놓친 경우에도 L1 TTL이 지나면 L2 값으로 돌아온다.
+ *
+ * 지표 (cache 태그 = 캐시 이름)
+ * - L1: cache.gets{tier=l1,result}, cache.evictions, cache.size 등 (CaffeineCacheMetrics)
+ * - L2: cache.gets{tier=l2,result}
+ * - 로더 실행 시간: cache.tiered.load{result}
+ * - 단일 로드 합류: cache.tiered.coalesced, 미리 갱신: cache.tiered.refresh{result}
+ * - 적중률: sum by (cache) (rate(cache_gets_total{result="hit"}[5m])) / sum by (cache) (rate(cache_gets_total[5m])) (tier별로 나누면 계층별)
+ *
+ * replicaCacheManager가 있으면 일반 L2 조회는 복제본 연결로 보낸다. (app.redis.replica-reads.cache)
+ *
+ * Redis 저하 모드(차단기 OPEN)에서는 L2를 건너뛰고 L1과 로더(DB)만 쓰며, 로더 동시 실행 수를 제한한다.
+ * 그동안 반영하지 못한 L2 무효화는 복구 후 다시 보낸다.
+ *
+ * 캐시 이름별 정책(L2 TTL, L1 크기/TTL, 미리 갱신, 노드 간 락)은 app.cache.caches.{이름}으로 설정한다.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final RedisCacheManager replicaCacheManager;
+    private final TwoTierCacheProperties properties;
+    private final Collection<String> initialCacheNames;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultRemoteTtl;
+    private final Executor refreshExecutor;
+    private final CacheLoadLock loadLock;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RedisResilienceProperties resilienceProperties;
+    // 저하 모드에서 DB로 가는 로드의 동시 실행 한도 (모든 캐시 공용)
+    private final Semaphore degradedLoads;
+    private final String nodeId = UUID.randomUUID().toString();
+    // 트랜잭션 데코레이터를 거치지 않고 L1에 접근하기 위한 참조
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteCacheManager,
+                               RedisCacheManager replicaCacheManager,
+                               TwoTierCacheProperties properties,
+                               Collection<String> initialCacheNames,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               MeterRegistry meterRegistry,
+                               Duration defaultRemoteTtl,
+                               Executor refreshExecutor,
+                               RedisCircuitBreaker redisCircuitBreaker,
+                               RedisResilienceProperties resilienceProperties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.replicaCacheManager = replicaCacheManager;
+        this.properties = properties;
+        // 정책만 선언한 캐시 이름도 미리 만든다
+        Set<String> names = new LinkedHashSet<>(initialCacheNames);
+        names.addAll(properties.getCaches().keySet());
+        this.initialCacheNames = List.copyOf(names);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.defaultRemoteTtl = defaultRemoteTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.resilienceProperties = resilienceProperties;
+        this.degradedLoads = new Semaphore(resilienceProperties.getDegradedLoadConcurrency());
+        this.loadLock = new CacheLoadLock(stringRedisTemplate, redisCircuitBreaker, properties.getLockLeaseTime());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_CACHE_INVALIDATION));
+        redisCircuitBreaker.addRecoveryListener(this::replayPendingInvalidations);
+    }
+
+    /**
+     * 저하 모드 동안 L2에 반영하지 못한 무효화를 복구 후 다시 보낸다 (요청 스레드를 잡지 않도록 갱신 풀에서)
+     */
+    private void replayPendingInvalidations() {
+        try {
+            refreshExecutor.execute(() -> twoTierCaches.values().forEach(TwoTierCache::replayPending));
+        } catch (RejectedExecutionException e) {
+            // 남은 항목은 L2 TTL이 지나면 정리된다
+            log.warn("캐시 무효화 재전송 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return initialCacheNames.stream().map(this::createCache).toList();
+    }
+
+    /**
+     * 선언하지 않은 캐시 이름도 RedisCacheManager처럼 기본 설정으로 만든다
+     */
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("Redis cache not available: " + name);
+        }
+        TwoTierCacheProperties.CacheSpec spec = properties.specOf(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaximumSize() != null
+                        ? spec.getLocalMaximumSize() : properties.getLocalMaximumSize())
+                .expireAfterWrite(spec.getLocalTtl() != null ? spec.getLocalTtl() : properties.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "l1");
+
+        Cache replicaRemote = replicaCacheManager != null ? replicaCacheManager.getCache(name) : null;
+
+        TwoTierCache cache = new TwoTierCache(name, local, remote, replicaRemote, this, spec,
+                spec.getTtl() != null ? spec.getTtl() : defaultRemoteTtl,
+                loadLock, properties.getLockWaitTime(), refreshExecutor,
+                redisCircuitBreaker, degradedLoads, resilienceProperties.getDegradedLoadWait(),
+                new TwoTierCache.Metrics(
+                        remoteGetCounter(name, "hit"),
+                        remoteGetCounter(name, "miss"),
+                        loadTimer(name, "success"),
+                        loadTimer(name, "failure"),
+                        tieredCounter("cache.tiered.coalesced", "같은 키의 진행 중인 로드에 합류한 요청 수", name, null),
+                        tieredCounter("cache.tiered.refresh", "만료 전 미리 갱신", name, "success"),
+                        tieredCounter("cache.tiered.refresh", "만료 전 미리 갱신", name, "failure")));
+        twoTierCaches.put(name, cache);
+        return cache;
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(OP_EVICT + " " + cacheName + " " + localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(OP_CLEAR + " " + cacheName);
+    }
+
+    private void publish(String body) {
+        try {
+            // 저하 모드에서는 보내지 않는다 (다른 노드의 L1은 TTL이 지나면 정리된다)
+            redisCircuitBreaker.run(RedisOperation.CACHE,
+                    () -> stringRedisTemplate.convertAndSend(CHANNEL_CACHE_INVALIDATION, nodeId + " " + body),
+                    () -> { });
+        } catch (Exception e) {
+            // 다른 노드의 L1은 TTL이 지나면 정리된다
+            log.warn("캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     * 메시지 형식: "{nodeId} E {cacheName} {key}" 또는 "{nodeId} C {cacheName}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        // 이 노드에서 아직 만들지 않은 캐시는 비울 L1도 없다
+        TwoTierCache twoTierCache = twoTierCaches.get(parts[2]);
+        if (twoTierCache == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[1])) {
+            twoTierCache.clearLocal();
+        } else if (OP_EVICT.equals(parts[1]) && parts.length == 4) {
+            twoTierCache.evictLocal(parts[3]);
+        }
+    }
+
+    private Counter remoteGetCounter(String cacheName, String result) {
+        return Counter.builder("cache.gets")
+                .description("Redis(L2) 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("tier", "l2")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter tieredCounter(String meterName, String description, String cacheName, String result) {
+        Counter.Builder builder = Counter.builder(meterName)
+                .description(description)
+                .tag("cache", cacheName);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private Timer loadTimer(String cacheName, String result) {
+        return Timer.builder("cache.tiered.load")
+                .description("캐시 미스 시 로더 실행 시간")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
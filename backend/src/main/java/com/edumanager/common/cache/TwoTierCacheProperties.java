@@ -0,0 +1,52 @@
+package com.edumanager.common.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheProperties {
+
+    // 로컬(L1) 캐시 기본값 - 캐시 이름마다 별도 Caffeine 인스턴스
+    private long localMaximumSize = 10_000;
+    // 무효화 메시지를 놓친 경우(Redis 재연결 등) 오래된 값이 남을 수 있는 최대 시간
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    // 노드 간 로드 락 임대 시간 (로더가 이보다 오래 걸리면 다른 노드도 로드할 수 있다)
+    private Duration lockLeaseTime = Duration.ofSeconds(10);
+    // 락을 못 잡은 노드가 L2에 값이 채워지길 기다리는 최대 시간 (지나면 직접 로드)
+    private Duration lockWaitTime = Duration.ofSeconds(2);
+
+    // 캐시 이름별 정책 (없으면 기본값)
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    public CacheSpec specOf(String cacheName) {
+        return caches.getOrDefault(cacheName, CacheSpec.DEFAULT);
+    }
+
+    @Getter
+    @Setter
+    public static class CacheSpec {
+
+        static final CacheSpec DEFAULT = new CacheSpec();
+
+        // L2(Redis) TTL, 없으면 spring.cache.redis.time-to-live
+        private Duration ttl;
+        // L1 설정, 없으면 위 기본값
+        private Long localMaximumSize;
+        private Duration localTtl;
+        // 만료 전에 확률적으로 미리 갱신 (@Cacheable(sync = true)에서만 동작)
+        private boolean refreshAhead = false;
+        private double refreshBeta = 1.0;
+        // 같은 키의 로드를 노드 간에도 하나로 (Redis 락)
+        private boolean distributedLock = false;
+    }
+}
@@ -23,11 +23,15 @@ public final class AppConstants {
         public static final String TOKEN_TYPE_FIELD = "token_type";
         public static final String EXPIRES_IN_FIELD = "expires_in";
 
-        // JWT Claims
-        public static final String CLAIM_AUTHORITIES = "authorities";
-        public static final String CLAIM_USER_ID = "userId";
-        public static final String CLAIM_EMAIL = "email";
-        public static final String CLAIM_TOKEN_TYPE = "token_type";
+        // JWT Claims (모든 요청 헤더에 실리므로 짧은 이름 사용)
+        public static final String CLAIM_AUTHORITIES = "rol";
+        public static final String CLAIM_USER_ID = "uid";
+        public static final String CLAIM_TOKEN_TYPE = "typ";
+        public static final String CLAIM_TOKEN_EPOCH = "ep";
+        public static final String CLAIM_SESSION_ID = "sid";
+
+        // 토큰 ID(jti) 난수 바이트 수 (Base64URL 16자)
+        public static final int TOKEN_ID_BYTES = 12;
 
         // 토큰 만료 시간 (초 단위)
         public static final long ACCESS_TOKEN_EXPIRE_SECONDS = 86400L; // 24시간
@@ -40,11 +44,15 @@ public final class AppConstants {
     // ======================== Redis 관련 상수 ========================
     public static final class Redis {
         // Key Prefix
-        public static final String PREFIX_REFRESH_TOKEN = "refresh_token:";
+        public static final String PREFIX_REFRESH_SESSION = "refresh_session:";
         public static final String PREFIX_BLACKLIST = "blacklist:";
         public static final String PREFIX_EMAIL_VERIFICATION = "email_verify:";
         public static final String PREFIX_PASSWORD_RESET = "password_reset:";
         public static final String PREFIX_LOGIN_ATTEMPT = "login_attempt:";
+        public static final String PREFIX_TOKEN_EPOCH = "token_epoch:";
+
+        // 단일 키
+        public static final String KEY_JWT_ACTIVE_KEY = "jwt:active_kid";
 
         // TTL (초 단위)
         public static final long EMAIL_VERIFICATION_TTL = 3600L; // 1시간
@@ -55,11 +63,21 @@ public final class AppConstants {
         public static final String PREFIX_SMS_CODE = "sms:code:";
         public static final String PREFIX_SMS_VERIFIED = "sms:verified:";
         public static final String PREFIX_SMS_COUNT = "sms:count:";
+        public static final String PREFIX_SMS_SEND = "sms:send:";
+        public static final String PREFIX_USER_IMPORT = "user_import:";
+        public static final String PREFIX_CACHE_LOAD_LOCK = "lock:cache:";
+        public static final String PREFIX_USER_IMPORT_LOCK = "lock:user_import:";
 
         // TTL 추가
         public static final long SMS_CODE_TTL = 300L; // 5분
         public static final long SMS_VERIFIED_TTL = 1800L; // 30분
 
+        // Pub/Sub 채널
+        public static final String CHANNEL_TOKEN_REVOCATION = "channel:token-revocation";
+        public static final String CHANNEL_TOKEN_EPOCH = "channel:token-epoch";
+        public static final String CHANNEL_JWT_ACTIVE_KEY = "channel:jwt-active-key";
+        public static final String CHANNEL_USER_EMAIL = "channel:user-email";
+        public static final String CHANNEL_CACHE_INVALIDATION = "channel:cache-invalidation";
 
         private Redis() {
         }
@@ -128,8 +146,16 @@ public final class AppConstants {
         // 성공 메시지
         public static final class Success {
             public static final String SIGNUP = "회원가입이 완료되었습니다.";
+            public static final String EMAIL_AVAILABLE = "사용 가능한 이메일입니다.";
             public static final String LOGIN = "로그인이 완료되었습니다.";
             public static final String LOGOUT = "로그아웃이 완료되었습니다.";
+            public static final String LOGOUT_ALL = "모든 기기에서 로그아웃되었습니다.";
+            public static final String SMS_SENT = "인증번호가 발송되었습니다.";
+            public static final String SMS_VERIFIED = "휴대폰 인증이 완료되었습니다.";
+            public static final String SESSION_REVOKE = "선택한 기기에서 로그아웃되었습니다.";
+            public static final String USERS_BULK_CREATE = "사용자 일괄 등록이 완료되었습니다.";
+            public static final String USERS_IMPORT_STARTED = "사용자 가져오기를 시작했습니다.";
+            public static final String SESSIONS_BULK_REVOKE = "선택한 사용자의 모든 세션이 종료되었습니다.";
             public static final String TOKEN_REFRESH = "토큰이 갱신되었습니다.";
             public static final String PASSWORD_CHANGE = "비밀번호가 변경되었습니다.";
             public static final String USER_UPDATE = "사용자 정보가 수정되었습니다.";
@@ -184,9 +210,14 @@ public final class AppConstants {
         public static final String AUTH_SIGNUP = AUTH_BASE + "/signup";
         public static final String AUTH_LOGIN = AUTH_BASE + "/login";
         public static final String AUTH_LOGOUT = AUTH_BASE + "/logout";
+        public static final String AUTH_LOGOUT_ALL = AUTH_BASE + "/logout-all";
         public static final String AUTH_REFRESH = AUTH_BASE + "/refresh";
+        public static final String AUTH_SESSIONS = AUTH_BASE + "/sessions";
         public static final String AUTH_VERIFY_EMAIL = AUTH_BASE + "/verify-email";
         public static final String AUTH_RESET_PASSWORD = AUTH_BASE + "/reset-password";
+        public static final String AUTH_CHECK_EMAIL = AUTH_BASE + "/check-email";
+        public static final String AUTH_SMS_SEND = AUTH_BASE + "/sms/send";
+        public static final String AUTH_SMS_VERIFY = AUTH_BASE + "/sms/verify";
 
         // 사용자 관련
         public static final String USER_BASE = BASE_PATH + "/users";
@@ -195,6 +226,15 @@ public final class AppConstants {
 
         // 관리자 관련
         public static final String ADMIN_BASE = BASE_PATH + "/admin";
+        public static final String ADMIN_JWT_KEYS = ADMIN_BASE + "/jwt/keys";
+        public static final String ADMIN_SESSIONS_REVOKE = ADMIN_BASE + "/sessions/revoke";
+        public static final String ADMIN_USERS = ADMIN_BASE + "/users";
+        public static final String ADMIN_USERS_BULK = ADMIN_BASE + "/users/bulk";
+        public static final String ADMIN_USERS_IMPORT = ADMIN_BASE + "/users/import";
+        public static final String ADMIN_USERS_EXPORT = ADMIN_BASE + "/users/export";
+
+        // 공개키 (JWKS)
+        public static final String JWKS_PATH = "/.well-known/jwks.json";
 
         // Swagger 관련
         public static final String[] SWAGGER_PATHS = {
@@ -204,13 +244,26 @@ public final class AppConstants {
                 "/webjars/**"
         };
 
+        // Actuator (외부 접근은 nginx에서 내부 IP로 제한)
+        public static final String ACTUATOR_BASE = "/actuator";
+
+        // 모니터링 수집 경로 (토큰 없이 접근, 그 외 Actuator 엔드포인트는 관리자 전용)
+        public static final String[] MONITORING_PATHS = {
+                ACTUATOR_BASE + "/health/**",
+                ACTUATOR_BASE + "/prometheus"
+        };
+
         // 공개 접근 가능 경로
         public static final String[] PUBLIC_PATHS = {
                 AUTH_SIGNUP,
                 AUTH_LOGIN,
                 AUTH_REFRESH,
                 AUTH_VERIFY_EMAIL,
-                AUTH_RESET_PASSWORD
+                AUTH_RESET_PASSWORD,
+                AUTH_CHECK_EMAIL,
+                AUTH_SMS_SEND,
+                AUTH_SMS_VERIFY,
+                JWKS_PATH
         };
 
         private Api() {
@@ -245,6 +298,7 @@ public final class AppConstants {
         public static final String PARAM_PAGE = "page";
         public static final String PARAM_SIZE = "size";
         public static final String PARAM_SORT = "sort";
+        public static final String PARAM_CURSOR = "cursor";
 
         private Paging() {
         }
@@ -267,6 +321,7 @@ public final class AppConstants {
         public static final long VERIFIED_TTL_MINUTES = 30;
         public static final long SEND_INTERVAL_SECONDS = 60;
         public static final int MAX_SEND_COUNT_PER_DAY = 5;
+        public static final int MAX_VERIFY_ATTEMPTS = 5;
 
         private Sms() {
         }
@@ -0,0 +1,39 @@
+package com.edumanager.common.diagnostics;
+
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPA 리포지토리 호출 시간을 요청 추적에 남긴다 (구간 이름: 리포지토리.메서드)
+ *
+ * 트랜잭션 안에서는 커넥션을 트랜잭션 시작 시 받고, 쓰기 SQL은 커밋 시 flush되므로
+ * 그 시간은 DB가 아닌 POOL/기타로 잡힌다.
+ */
+public class RepositoryTraceInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+
+    public RepositoryTraceInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long started = RequestTrace.start();
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTrace.record(Category.DB, spanName(invocation.getMethod()), started);
+        }
+    }
+
+    private String spanName(Method method) {
+        return spanNames.computeIfAbsent(method, m -> repositoryName + "." + m.getName());
+    }
+}
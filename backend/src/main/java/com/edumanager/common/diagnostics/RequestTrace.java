@@ -0,0 +1,119 @@
+package com.edumanager.common.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 요청 단위 구간 집계
+ *
+ * RequestTraceFilter가 요청 스레드에 붙이고, 계측 지점은 아래처럼 구간을 남긴다. 추적 중이 아니면 아무것도 하지 않는다.
+ * <pre>
+ * long started = RequestTrace.start();
+ * try { ... } finally { RequestTrace.record(Category.CRYPTO, "jwt.sign", started); }
+ * </pre>
+ * Redis 명령은 완료 콜백이 I/O 스레드에서 오므로 시작 시점에 잡아 둔 trace에 직접 add한다. (그래서 집계는 원자적으로 한다)
+ * 구간은 max-spans개까지만 보관하고, 범주별 합계/횟수는 모두 센다.
+ */
+public final class RequestTrace {
+
+    public enum Category {
+        // 커넥션 풀 대기 (Hikari), 리포지토리 호출, Redis 명령, 서명/검증/BCrypt, 요청/응답 JSON
+        POOL, DB, REDIS, CRYPTO, SERIALIZATION
+    }
+
+    /**
+     * @param offsetMicros   요청 시작부터 구간 시작까지
+     * @param durationMicros 구간 소요 시간
+     */
+    public record Span(Category category, String name, long offsetMicros, long durationMicros) {
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final long NOT_TRACED = Long.MIN_VALUE;
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(Category.values().length);
+    private final AtomicLongArray counts = new AtomicLongArray(Category.values().length);
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicInteger spanCount = new AtomicInteger();
+
+    private RequestTrace(int maxSpans) {
+        this.spans = new AtomicReferenceArray<>(maxSpans);
+    }
+
+    static RequestTrace begin(int maxSpans) {
+        RequestTrace trace = new RequestTrace(maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 구간 시작 (추적 중이 아니면 nanoTime도 읽지 않는다)
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : NOT_TRACED;
+    }
+
+    public static void record(Category category, String name, long startedNanos) {
+        if (startedNanos == NOT_TRACED) {
+            return;
+        }
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(category, name, startedNanos, System.nanoTime());
+        }
+    }
+
+    public void add(Category category, String name, long startedNanos, long endedNanos) {
+        long elapsed = endedNanos - startedNanos;
+        nanos.addAndGet(category.ordinal(), elapsed);
+        counts.incrementAndGet(category.ordinal());
+
+        int index = spanCount.getAndIncrement();
+        if (index < spans.length()) {
+            spans.set(index, new Span(category, name,
+                    TimeUnit.NANOSECONDS.toMicros(startedNanos - startNanos),
+                    TimeUnit.NANOSECONDS.toMicros(elapsed)));
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    long nanos(Category category) {
+        return nanos.get(category.ordinal());
+    }
+
+    long count(Category category) {
+        return counts.get(category.ordinal());
+    }
+
+    int droppedSpans() {
+        return Math.max(0, spanCount.get() - spans.length());
+    }
+
+    List<Span> spans() {
+        int size = Math.min(spanCount.get(), spans.length());
+        List<Span> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Span span = spans.get(i);
+            if (span != null) {
+                result.add(span);
+            }
+        }
+        return result;
+    }
+}
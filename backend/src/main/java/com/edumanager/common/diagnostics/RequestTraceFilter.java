@@ -0,0 +1,103 @@
+package com.edumanager.common.diagnostics;
+
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.edumanager.common.constant.AppConstants.Api.ACTUATOR_BASE;
+
+/**
+ * 요청별 구간 추적
+ *
+ * 모든 요청에 RequestTrace를 붙여 범주별 시간을 모으고, 끝났을 때 임계값 이상이거나 표본으로 뽑힌 요청만
+ * 구간 내역을 SlowRequestLog에 남긴다. (나머지는 버린다)
+ * 임계값을 넘은 요청은 범주별 합계를 한 줄로 경고 로그에도 남긴다.
+ *
+ * 스트리밍 응답(StreamingResponseBody)은 최초 디스패치까지만 잰다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.diagnostics.slow-request", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final SlowRequestProperties properties;
+    private final SlowRequestLog slowRequestLog;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(ACTUATOR_BASE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.begin(properties.getMaxSpans());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.clear();
+            complete(trace, request, response);
+        }
+    }
+
+    private void complete(RequestTrace trace, HttpServletRequest request, HttpServletResponse response) {
+        long elapsedNanos = trace.elapsedNanos();
+        boolean slow = elapsedNanos >= properties.getThreshold().toNanos();
+        if (!slow && !(properties.getSampleRate() > 0
+                && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate())) {
+            return;
+        }
+
+        Map<Category, SlowRequest.Breakdown> breakdown = new EnumMap<>(Category.class);
+        long categorizedNanos = 0;
+        for (Category category : Category.values()) {
+            long count = trace.count(category);
+            if (count > 0) {
+                breakdown.put(category, new SlowRequest.Breakdown(millis(trace.nanos(category)), count));
+                categorizedNanos += trace.nanos(category);
+            }
+        }
+
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        SlowRequest slowRequest = new SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                request.getRequestURI(),
+                route != null ? route.toString() : null,
+                response.getStatus(),
+                millis(elapsedNanos),
+                !slow,
+                breakdown,
+                millis(Math.max(0, elapsedNanos - categorizedNanos)),
+                trace.spans(),
+                trace.droppedSpans());
+        slowRequestLog.add(slowRequest);
+
+        if (slow) {
+            log.warn("느린 요청: {} {} {} {}ms {} other={}ms", slowRequest.method(), slowRequest.path(),
+                    slowRequest.status(), slowRequest.totalMs(), breakdown, slowRequest.otherMs());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.edumanager.common.diagnostics;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 느린(또는 표본) 요청 한 건의 구간 내역
+ *
+ * @param route        매핑된 핸들러 경로 패턴 (매핑 전에 끝난 요청은 null)
+ * @param sampled      임계값 미만이지만 표본으로 남긴 요청
+ * @param breakdown    범주별 합계 (POOL은 DB 구간 안에서 일어날 수 있어 합계가 전체를 넘을 수 있다)
+ * @param otherMs      전체 - 범주 합계 (애플리케이션 코드, 보안 필터 등)
+ * @param droppedSpans max-spans를 넘어 구간 목록에서 빠진 수
+ */
+public record SlowRequest(
+        Instant at,
+        String method,
+        String path,
+        String route,
+        int status,
+        double totalMs,
+        boolean sampled,
+        Map<RequestTrace.Category, Breakdown> breakdown,
+        double otherMs,
+        List<RequestTrace.Span> spans,
+        int droppedSpans) {
+
+    public record Breakdown(double ms, long count) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.edumanager.common.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 최근 느린 요청 조회 (/actuator/slowrequests?limit=50, 관리자 전용)
+ * DELETE로 버퍼를 비운다. (설정 변경 후 다시 모을 때)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "slowrequests")
+public class SlowRequestEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SlowRequestLog slowRequestLog;
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests(@Nullable Integer limit) {
+        return slowRequestLog.recent(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        slowRequestLog.clear();
+    }
+}
@@ -0,0 +1,50 @@
+package com.edumanager.common.diagnostics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 느린 요청 링 버퍼
+ * 쓰기는 슬롯 하나를 덮어쓰는 것뿐이라 잠금이 없고, 용량을 넘으면 가장 오래된 항목이 밀려난다.
+ */
+@Component
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowRequestLog(SlowRequestProperties properties) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, properties.getCapacity()));
+    }
+
+    public void add(SlowRequest request) {
+        long next = sequence.getAndIncrement();
+        slots.set((int) (next % slots.length()), request);
+    }
+
+    /**
+     * 최신순 목록
+     */
+    public List<SlowRequest> recent(int limit) {
+        long last = sequence.get();
+        int size = (int) Math.min(Math.min(last, slots.length()), Math.max(0, limit));
+        List<SlowRequest> result = new ArrayList<>(size);
+        for (long i = last - 1; i >= last - size; i--) {
+            SlowRequest request = slots.get((int) (i % slots.length()));
+            if (request != null) {
+                result.add(request);
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.edumanager.common.diagnostics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.diagnostics.slow-request")
+public class SlowRequestProperties {
+
+    // false면 요청 추적 필터를 등록하지 않는다 (계측 지점은 추적 중이 아니면 바로 반환)
+    private boolean enabled = true;
+
+    // 이 시간 이상 걸린 요청은 구간 내역을 남긴다
+    private Duration threshold = Duration.ofMillis(500);
+
+    // 임계값 미만 요청도 이 비율(0.0 ~ 1.0)만큼 표본으로 남긴다
+    private double sampleRate = 0.0;
+
+    // 링 버퍼 크기 (가장 오래된 항목부터 덮어쓴다)
+    private int capacity = 200;
+
+    // 요청당 보관할 구간 수 (범주별 합계는 초과분도 센다)
+    private int maxSpans = 64;
+}
@@ -0,0 +1,39 @@
+package com.edumanager.common.diagnostics;
+
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 획득 시간을 요청 추적에 남기는 DataSource (Hikari 풀 대기)
+ * Hikari 지표/헬스 체크는 DataSourceUnwrapper로 원래 풀을 찾아가므로 그대로 동작한다.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = RequestTrace.start();
+        try {
+            return super.getConnection();
+        } finally {
+            RequestTrace.record(Category.POOL, "connection", started);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = RequestTrace.start();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            RequestTrace.record(Category.POOL, "connection", started);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.edumanager.common.diagnostics;
+
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 요청 본문 읽기/응답 본문 쓰기 시간을 요청 추적에 남기는 JSON 변환기
+ * 쓰기 시간에는 응답 버퍼를 소켓으로 내보내는 시간도 포함된다.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long started = RequestTrace.start();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            RequestTrace.record(Category.SERIALIZATION, "json.read", started);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long started = RequestTrace.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestTrace.record(Category.SERIALIZATION, "json.write", started);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.edumanager.common.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시
+ *
+ * JFR 이벤트(jdk.VirtualThreadPinned)를 프로세스 안에서 스트리밍해, 가상 스레드가 synchronized 블록이나
+ * 네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 경우를 지표와 로그로 남긴다.
+ * 의존 라이브러리의 synchronized도 스택에 그대로 잡힌다.
+ *
+ * - 지표: jvm.threads.virtual.pinned{site} (고정 시간), site는 JDK 밖의 첫 프레임 (고정된 채 블로킹한 위치)
+ * - 로그: site마다 처음 한 번 스택을 남긴다 (우리 코드 프레임은 모두, 그 외는 위에서부터 stack-depth개)
+ *
+ * 임계값 미만의 짧은 고정은 기록하지 않는다. (JFR 기본값과 같은 20ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.diagnostics.pinning", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.edumanager.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.diagnostics.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    @Value("${app.diagnostics.pinning.stack-depth:12}")
+    private int stackDepth;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(EVENT_NAME).withThreshold(threshold).withStackTrace();
+            stream.onEvent(EVENT_NAME, this::onPinned);
+            stream.startAsync();
+            log.info("가상 스레드 고정 감시 시작: threshold={}ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 JVM에서도 애플리케이션은 그대로 동작해야 한다
+            log.warn("가상 스레드 고정 감시를 시작하지 못함: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && !isJdkFrame(frame))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::methodOf)
+                .orElse("jdk");
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드를 고정한 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 고정 감지: site={}, duration={}ms, thread={}\n{}",
+                    site, event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    format(event.getStackTrace()));
+        }
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return IntStream.range(0, frames.size())
+                .filter(i -> i < stackDepth || methodOf(frames.get(i)).startsWith(APP_PACKAGE))
+                .mapToObj(i -> "\tat " + methodOf(frames.get(i)) + ":" + frames.get(i).getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return JDK_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String methodOf(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
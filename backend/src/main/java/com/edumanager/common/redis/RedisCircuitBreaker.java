@@ -0,0 +1,283 @@
+package com.edumanager.common.redis;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 차단기와 저하(degraded) 모드
+ *
+ * 모든 Redis 작업을 작업별 짧은 타임아웃으로 실행하고, 최근 호출의 실패율이 한도를 넘으면 차단(OPEN)한다.
+ * 차단 중에는 Redis를 호출하지 않고 호출 측 대체 동작(fallback)을 바로 실행한다. (저하 모드)
+ * openDuration이 지나면 시험 호출 몇 개를 허용하고(HALF_OPEN), 모두 성공하면 복구(CLOSED)한다.
+ *
+ * 연결/타임아웃 오류만 실패로 센다. 그 외 예외(스크립트 결과 오류 등)는 그대로 던진다.
+ *
+ * 지표
+ * - redis.circuit.state: 0 CLOSED, 1 OPEN, 2 HALF_OPEN
+ * - redis.circuit.calls{operation,result=success|failure|rejected}
+ * - redis.degraded: 저하 모드 여부(0/1), redis.degraded.time: 저하 모드로 보낸 누적 시간(초)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // callCounters 배열 인덱스
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+    private static final int REJECTED = 2;
+
+    private final RedisResilienceProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+    private final Map<RedisOperation, Counter[]> callCounters = new EnumMap<>(RedisOperation.class);
+
+    private volatile State state = State.CLOSED;
+    // 아래 필드는 this로 보호
+    private boolean[] window;
+    private int windowIndex;
+    private int windowCalls;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long degradedSinceNanos;
+    private long degradedTotalNanos;
+
+    @PostConstruct
+    void init() {
+        this.window = new boolean[Math.max(1, properties.getSlidingWindowSize())];
+        for (RedisOperation operation : RedisOperation.values()) {
+            callCounters.put(operation, new Counter[]{
+                    callCounter(operation, "success"),
+                    callCounter(operation, "failure"),
+                    callCounter(operation, "rejected")});
+        }
+        Gauge.builder("redis.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("Redis 차단기 상태 (0 CLOSED, 1 OPEN, 2 HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("redis.degraded", this, breaker -> breaker.isDegraded() ? 1 : 0)
+                .description("Redis 저하 모드 여부")
+                .register(meterRegistry);
+        FunctionCounter.builder("redis.degraded.time", this, RedisCircuitBreaker::degradedSeconds)
+                .description("Redis 저하 모드로 보낸 누적 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 작업 실행
+     * 차단 중이거나 연결/타임아웃 오류가 나면 fallback 결과를 돌려준다. (fallback이 예외를 던지면 그대로 전달)
+     */
+    public <T> T execute(RedisOperation operation, Supplier<T> call, Supplier<T> fallback) {
+        Counter[] counters = callCounters.get(operation);
+        if (!tryAcquirePermission()) {
+            counters[REJECTED].increment();
+            return fallback.get();
+        }
+        T result;
+        try {
+            result = RedisCommandTimeouts.withTimeout(properties.timeoutOf(operation), call);
+        } catch (RuntimeException e) {
+            if (!isRedisFailure(e)) {
+                onSuccess();
+                throw e;
+            }
+            counters[FAILURE].increment();
+            onFailure();
+            log.debug("Redis 작업 실패 - 대체 동작 사용: operation={}, error={}", operation.tag(), e.getMessage());
+            return fallback.get();
+        }
+        counters[SUCCESS].increment();
+        onSuccess();
+        return result;
+    }
+
+    public void run(RedisOperation operation, Runnable call, Runnable fallback) {
+        execute(operation, () -> {
+            call.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    /**
+     * 저하 모드 여부 (OPEN 또는 HALF_OPEN)
+     * 호출 전에 대체 경로를 고르는 용도 (예: 토큰 갱신 즉시 거절)
+     */
+    public boolean isDegraded() {
+        return state != State.CLOSED;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 복구(CLOSED) 시 실행할 작업 등록 (저하 모드 동안 놓친 무효화 재전송 등)
+     */
+    public void addRecoveryListener(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    private boolean tryAcquirePermission() {
+        if (!properties.isEnabled() || state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < properties.getOpenDuration().toNanos()) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = properties.getHalfOpenCalls();
+                halfOpenSuccesses = 0;
+                log.info("Redis 차단기 반개방 - 시험 호출 허용");
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits <= 0) {
+                    return false;
+                }
+                halfOpenPermits--;
+            }
+            return true;
+        }
+    }
+
+    private void onSuccess() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        boolean recovered = false;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                    transitionToClosed();
+                    recovered = true;
+                }
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        }
+        if (recovered) {
+            recoveryListeners.forEach(this::runRecoveryListener);
+        }
+    }
+
+    private void onFailure() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                transitionToOpen();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (windowCalls >= properties.getMinimumCalls()
+                        && windowFailures * 100 >= properties.getFailureRateThreshold() * windowCalls) {
+                    transitionToOpen();
+                }
+            }
+        }
+    }
+
+    // 원형 버퍼에 최근 호출 결과 기록
+    private void record(boolean failure) {
+        if (windowCalls == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCalls++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionToOpen() {
+        if (state == State.CLOSED) {
+            degradedSinceNanos = System.nanoTime();
+            log.warn("Redis 차단기 열림 - 저하 모드 진입: failures={}/{}", windowFailures, windowCalls);
+        } else {
+            log.warn("Redis 차단기 시험 호출 실패 - 다시 차단");
+        }
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+    }
+
+    private void transitionToClosed() {
+        long degradedNanos = System.nanoTime() - degradedSinceNanos;
+        degradedTotalNanos += degradedNanos;
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCalls = 0;
+        windowFailures = 0;
+        log.info("Redis 차단기 닫힘 - 저하 모드 종료: degraded={}ms", TimeUnit.NANOSECONDS.toMillis(degradedNanos));
+    }
+
+    private synchronized double degradedSeconds() {
+        long total = degradedTotalNanos;
+        if (state != State.CLOSED) {
+            total += System.nanoTime() - degradedSinceNanos;
+        }
+        return total / 1_000_000_000d;
+    }
+
+    private void runRecoveryListener(Runnable listener) {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            log.warn("Redis 복구 후 작업 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 연결/타임아웃 오류만 실패로 센다
+     * (Lettuce 명령 타임아웃은 QueryTimeoutException, 연결 오류는 RedisConnectionFailureException으로 변환된다)
+     * RedisSystemException은 원인이 Lettuce 타임아웃/연결 오류일 때만 센다. (스크립트 오류, WRONGTYPE 등은 Redis가 응답한 것)
+     */
+    private static boolean isRedisFailure(RuntimeException e) {
+        if (e instanceof QueryTimeoutException || e instanceof RedisConnectionFailureException) {
+            return true;
+        }
+        return e instanceof RedisSystemException
+                && (e.getCause() instanceof RedisCommandTimeoutException
+                || e.getCause() instanceof RedisConnectionException);
+    }
+
+    private Counter callCounter(RedisOperation operation, String result) {
+        return Counter.builder("redis.circuit.calls")
+                .description("차단기를 거친 Redis 작업")
+                .tag("operation", operation.tag())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,167 @@
+package com.edumanager.common.redis;
+
+import com.edumanager.common.constant.AppConstants;
+import com.edumanager.common.diagnostics.RequestTrace;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 명령 지연 지표 (Lettuce CommandListener)
+ *
+ * redis.commands{command, keyspace, result=success|failure}
+ * keyspace는 키 접두사(AppConstants.Redis)로 분류한 고정 집합이라 키 자체는 태그에 들어가지 않는다.
+ * command 종류 상한은 MetricsConfig의 MeterFilter가 막는다.
+ * 타이머는 실제로 나온 (command, keyspace, result) 조합만 처음 기록할 때 등록한다.
+ *
+ * 주 연결과 복제본 읽기 연결 모두에 붙인다. (연결 팩토리가 시작된 뒤 등록)
+ * 명령을 보낸 요청 스레드에 RequestTrace가 있으면 완료 시 그 요청의 REDIS 구간으로도 남긴다.
+ * (완료 콜백은 I/O 스레드에서 오므로 시작 시점에 trace를 잡아 둔다)
+ */
+@Slf4j
+@Component
+public class RedisCommandMetrics implements CommandListener {
+
+    private static final String START_NANOS = RedisCommandMetrics.class.getName() + ".start";
+    private static final String TRACE = RedisCommandMetrics.class.getName() + ".trace";
+
+    // 접두사 비교에 필요한 만큼만 키 앞부분을 읽는다
+    private static final int KEY_HEAD_BYTES = 32;
+
+    enum Keyspace {
+        REFRESH_SESSION(AppConstants.Redis.PREFIX_REFRESH_SESSION),
+        BLACKLIST(AppConstants.Redis.PREFIX_BLACKLIST),
+        TOKEN_EPOCH(AppConstants.Redis.PREFIX_TOKEN_EPOCH),
+        LOGIN_ATTEMPT(AppConstants.Redis.PREFIX_LOGIN_ATTEMPT),
+        EMAIL_VERIFY(AppConstants.Redis.PREFIX_EMAIL_VERIFICATION),
+        PASSWORD_RESET(AppConstants.Redis.PREFIX_PASSWORD_RESET),
+        SMS("sms:"),
+        USER_IMPORT(AppConstants.Redis.PREFIX_USER_IMPORT),
+        CACHE_LOCK(AppConstants.Redis.PREFIX_CACHE_LOAD_LOCK),
+        JWT("jwt:"),
+        CACHE(null),
+        OTHER(null),
+        NONE(null);
+
+        private final String prefix;
+
+        Keyspace(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final String cacheKeyPrefix;
+    private final List<LettuceConnectionFactory> connectionFactories;
+
+    private record TimerKey(String command, Keyspace keyspace, boolean failed) {
+    }
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public RedisCommandMetrics(MeterRegistry meterRegistry,
+                               @Value("${spring.cache.redis.key-prefix:}") String cacheKeyPrefix,
+                               List<LettuceConnectionFactory> connectionFactories) {
+        this.meterRegistry = meterRegistry;
+        this.cacheKeyPrefix = cacheKeyPrefix;
+        this.connectionFactories = connectionFactories;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        for (LettuceConnectionFactory factory : connectionFactories) {
+            factory.getNativeClient().addListener(this);
+        }
+        log.info("Redis 명령 지표 등록: 연결 팩토리 {}개", connectionFactories.size());
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        event.getContext().put(START_NANOS, System.nanoTime());
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            event.getContext().put(TRACE, trace);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getCommand(), event.getContext(), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getCommand(), event.getContext(), true);
+    }
+
+    private void record(RedisCommand<Object, Object, Object> command, Map<String, Object> context, boolean failed) {
+        if (!(context.get(START_NANOS) instanceof Long startNanos)) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        Keyspace keyspace = keyspaceOf(command.getArgs());
+        String commandName = commandName(command);
+        timers.computeIfAbsent(new TimerKey(commandName, keyspace, failed), this::timer)
+                .record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+
+        if (context.get(TRACE) instanceof RequestTrace trace) {
+            trace.add(RequestTrace.Category.REDIS, commandName, startNanos, endNanos);
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("redis.commands")
+                .description("Redis 명령 지연")
+                .tag("command", key.command())
+                .tag("keyspace", key.keyspace().name().toLowerCase(Locale.ROOT))
+                .tag("result", key.failed() ? "failure" : "success")
+                .register(meterRegistry);
+    }
+
+    private Keyspace keyspaceOf(CommandArgs<Object, Object> args) {
+        ByteBuffer key = args != null ? args.getFirstEncodedKey() : null;
+        if (key == null) {
+            return Keyspace.NONE;
+        }
+        ByteBuffer head = key.duplicate();
+        byte[] bytes = new byte[Math.min(head.remaining(), KEY_HEAD_BYTES)];
+        head.get(bytes);
+        String prefix = new String(bytes, StandardCharsets.US_ASCII);
+
+        if (!cacheKeyPrefix.isEmpty() && prefix.startsWith(cacheKeyPrefix)) {
+            return Keyspace.CACHE;
+        }
+        for (Keyspace keyspace : Keyspace.values()) {
+            if (keyspace.prefix != null && prefix.startsWith(keyspace.prefix)) {
+                return keyspace;
+            }
+        }
+        return Keyspace.OTHER;
+    }
+
+    private static String commandName(RedisCommand<?, ?, ?> command) {
+        return new String(command.getType().getBytes(), StandardCharsets.US_ASCII).toLowerCase(Locale.ROOT);
+    }
+}
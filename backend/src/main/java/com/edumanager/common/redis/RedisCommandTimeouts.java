@@ -0,0 +1,47 @@
+package com.edumanager.common.redis;
+
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.RedisCommand;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 작업별 Redis 명령 타임아웃 (Lettuce TimeoutSource)
+ *
+ * 명령은 호출 스레드에서 쓰이므로, 호출 스레드에 지정한 타임아웃이 있으면 그 값으로 명령을 만료시키고
+ * 없으면 연결 기본 타임아웃(spring.data.redis.timeout)을 쓴다.
+ */
+public class RedisCommandTimeouts extends TimeoutOptions.TimeoutSource {
+
+    private static final ThreadLocal<Duration> CURRENT = new ThreadLocal<>();
+
+    private final long defaultTimeoutMillis;
+
+    public RedisCommandTimeouts(Duration defaultTimeout) {
+        this.defaultTimeoutMillis = defaultTimeout.toMillis();
+    }
+
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+        Duration current = CURRENT.get();
+        return current != null ? current.toMillis() : defaultTimeoutMillis;
+    }
+
+    /**
+     * 지정한 타임아웃으로 호출 (중첩 호출 시 바깥 값을 복원)
+     */
+    static <T> T withTimeout(Duration timeout, Supplier<T> call) {
+        Duration previous = CURRENT.get();
+        CURRENT.set(timeout);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.edumanager.common.redis;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 키 SCAN 유틸리티
+ * 클러스터에서는 SCAN이 노드 하나만 훑으므로 모든 주 노드를 차례로 스캔한다.
+ */
+public final class RedisKeyScanner {
+
+    private RedisKeyScanner() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * @return 스캔한 키 수
+     */
+    public static long scan(StringRedisTemplate template, ScanOptions options, Consumer<String> consumer) {
+        RedisConnectionFactory factory = template.getRequiredConnectionFactory();
+        long count = 0;
+        if (factory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+            try (RedisClusterConnection connection = factory.getClusterConnection()) {
+                for (RedisClusterNode node : connection.clusterGetNodes()) {
+                    if (!node.isMaster()) {
+                        continue;
+                    }
+                    try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                        while (cursor.hasNext()) {
+                            consumer.accept(new String(cursor.next(), StandardCharsets.UTF_8));
+                            count++;
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+        try (Cursor<String> cursor = template.scan(options)) {
+            while (cursor.hasNext()) {
+                consumer.accept(cursor.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.edumanager.common.redis;
+
+import java.util.Locale;
+
+/**
+ * 차단기로 감싸는 Redis 작업 종류 (작업별 타임아웃, 지표 태그)
+ */
+public enum RedisOperation {
+    // 블랙리스트 확인/기록, 토큰 에포크 조회/증가
+    TOKEN,
+    // 리프레시 세션 생성/회전/조회/삭제
+    SESSION,
+    // 캐시 L2 조회/저장/무효화, 로드 락
+    CACHE,
+    // 로그인 시도 제한
+    THROTTLE,
+    // SMS 발송 한도, 인증번호 저장/확인
+    SMS,
+    // 사용자 가져오기 작업 상태
+    IMPORT,
+    // 노드 간 전파 (Pub/Sub 발행만 하는 경우)
+    PUBLISH;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.edumanager.common.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.redis.resilience")
+public class RedisResilienceProperties {
+
+    // false면 차단기 없이 작업별 타임아웃만 적용
+    private boolean enabled = true;
+
+    // 최근 호출 윈도에서 실패율이 이 값(%) 이상이면 차단(OPEN)
+    private int failureRateThreshold = 50;
+    private int slidingWindowSize = 50;
+    // 윈도에 이만큼 쌓이기 전에는 판정하지 않는다
+    private int minimumCalls = 10;
+    // 차단 후 시험 호출을 허용하기까지의 시간
+    private Duration openDuration = Duration.ofSeconds(10);
+    // 반개방(HALF_OPEN) 상태에서 복구 판정에 쓰는 시험 호출 수 (모두 성공해야 복구)
+    private int halfOpenCalls = 3;
+
+    // 작업별 명령 타임아웃 (전역 spring.data.redis.timeout보다 훨씬 짧게)
+    private Duration tokenTimeout = Duration.ofMillis(100);
+    private Duration sessionTimeout = Duration.ofMillis(300);
+    private Duration cacheTimeout = Duration.ofMillis(150);
+    private Duration throttleTimeout = Duration.ofMillis(100);
+    private Duration smsTimeout = Duration.ofMillis(200);
+    private Duration importTimeout = Duration.ofMillis(500);
+    private Duration publishTimeout = Duration.ofMillis(100);
+
+    // 저하 모드에서 캐시를 우회해 DB로 가는 로드의 동시 실행 한도와 대기 시간
+    private int degradedLoadConcurrency = 16;
+    private Duration degradedLoadWait = Duration.ofMillis(200);
+
+    public Duration timeoutOf(RedisOperation operation) {
+        return switch (operation) {
+            case TOKEN -> tokenTimeout;
+            case SESSION -> sessionTimeout;
+            case CACHE -> cacheTimeout;
+            case THROTTLE -> throttleTimeout;
+            case SMS -> smsTimeout;
+            case IMPORT -> importTimeout;
+            case PUBLISH -> publishTimeout;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.edumanager.common.redis;
+
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 복제본 읽기 연결 팩토리 (ReadFrom이 적용된 Lettuce 연결)
+ * 기본 연결 팩토리가 @Primary이므로 별도 타입으로 두어 한정자 없이 주입받는다.
+ */
+public class ReplicaLettuceConnectionFactory extends LettuceConnectionFactory {
+
+    public ReplicaLettuceConnectionFactory(RedisConfiguration redisConfiguration,
+                                           LettuceClientConfiguration clientConfiguration) {
+        super(redisConfiguration, clientConfiguration);
+    }
+}
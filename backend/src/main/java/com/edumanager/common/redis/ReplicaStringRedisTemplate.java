@@ -0,0 +1,16 @@
+package com.edumanager.common.redis;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 복제본 읽기용 StringRedisTemplate
+ * 읽기 전용 조회에만 쓴다. 쓰기와 스크립트는 기본 StringRedisTemplate(주 노드)으로 보낸다.
+ * 별도 타입으로 두어 한정자 없이 주입받는다.
+ */
+public class ReplicaStringRedisTemplate extends StringRedisTemplate {
+
+    public ReplicaStringRedisTemplate(RedisConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+}
@@ -0,0 +1,87 @@
+package com.edumanager.common.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 페이지네이션 API 응답 클래스
+ * COUNT와 OFFSET 없이 마지막 행의 정렬 키 다음부터 조회하므로 몇 번째 페이지든 첫 페이지와 비용이 같다.
+ * 전체 개수/페이지 수가 필요한 작은 관리 화면은 PageResponse를 사용한다.
+ * @param <T> 응답 데이터 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"success", "code", "message", "data", "cursor", "timestamp"})
+public class CursorPageResponse<T> {
+
+    private boolean success;
+    private String code;
+    private String message;
+    private List<T> data;
+    private CursorInfo cursor;
+    private Instant timestamp;
+
+    @Builder
+    private CursorPageResponse(boolean success, String code, String message, List<T> data, CursorInfo cursor) {
+        this.success = success;
+        this.code = code;
+        this.message = message;
+        this.data = data;
+        this.cursor = cursor;
+        this.timestamp = Instant.now();
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 응답 생성
+     * 한 행을 더 읽어 다음 페이지 존재 여부를 COUNT 없이 판단하고, 다음 커서는 이 페이지 마지막 행으로 만든다.
+     *
+     * @param rows     최대 size + 1개의 조회 결과
+     * @param cursorOf 행 -> 커서 인코더
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return CursorPageResponse.<T>builder()
+                .success(true)
+                .code("SUCCESS")
+                .message("요청이 성공적으로 처리되었습니다.")
+                .data(content)
+                .cursor(CursorInfo.builder()
+                        .size(size)
+                        .hasNext(hasNext)
+                        .nextCursor(nextCursor)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 커서 정보를 담는 내부 클래스
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"size", "hasNext", "nextCursor"})
+    public static class CursorInfo {
+        private int size;           // 요청한 페이지 크기
+        private boolean hasNext;    // 다음 페이지 존재 여부
+        private String nextCursor;  // 다음 페이지 요청 시 cursor 파라미터 (마지막 페이지면 없음)
+
+        @Builder
+        private CursorInfo(int size, boolean hasNext, String nextCursor) {
+            this.size = size;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+    }
+}
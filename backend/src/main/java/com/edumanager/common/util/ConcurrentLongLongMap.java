@@ -0,0 +1,169 @@
+package com.edumanager.common.util;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 키 → long 값 동시성 해시맵 (오픈 어드레싱, 선형 탐사)
+ *
+ * 박싱 없이 조회하며, 조회는 StampedLock 낙관적 읽기로 락 없이 끝난다.
+ * 쓰기가 드물고 조회가 매우 많은 용도(사용자별 토큰 에포크 등)를 위한 구조로 삭제는 지원하지 않는다.
+ */
+public class ConcurrentLongLongMap {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+
+    // 0은 빈 슬롯 표시로 쓰므로 키 0은 별도 보관
+    private volatile boolean hasZeroKey;
+    private volatile long zeroKeyValue;
+    private int size;
+
+    public ConcurrentLongLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentLongLongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.table = new Table(capacity);
+    }
+
+    public long get(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroKeyValue : defaultValue;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        long result = find(table, key, defaultValue);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = find(table, key, defaultValue);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    public void put(long key, long value) {
+        long stamp = lock.writeLock();
+        try {
+            insert(key, value, false);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 기존 값보다 클 때만 갱신 (단조 증가 값의 순서 뒤바뀐 이벤트 처리용)
+     */
+    public void putIfGreater(long key, long value) {
+        long stamp = lock.writeLock();
+        try {
+            insert(key, value, true);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void insert(long key, long value, boolean onlyIfGreater) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                size++;
+            } else if (onlyIfGreater && zeroKeyValue >= value) {
+                return;
+            }
+            zeroKeyValue = value;
+            hasZeroKey = true;
+            return;
+        }
+
+        Table current = table;
+        int slot = slotOf(current, key);
+        if (current.keys[slot] == key) {
+            if (!onlyIfGreater || current.values[slot] < value) {
+                current.values[slot] = value;
+            }
+            return;
+        }
+
+        if (size + 1 > current.keys.length * LOAD_FACTOR) {
+            current = resize(current);
+            slot = slotOf(current, key);
+        }
+        current.values[slot] = value;
+        current.keys[slot] = key;
+        size++;
+    }
+
+    private Table resize(Table old) {
+        Table resized = new Table(old.keys.length << 1);
+        for (int i = 0; i < old.keys.length; i++) {
+            long key = old.keys[i];
+            if (key != 0) {
+                int slot = slotOf(resized, key);
+                resized.keys[slot] = key;
+                resized.values[slot] = old.values[i];
+            }
+        }
+        table = resized;
+        return resized;
+    }
+
+    // 키가 있으면 그 슬롯, 없으면 삽입할 빈 슬롯
+    private static int slotOf(Table t, long key) {
+        int mask = t.keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (t.keys[slot] != 0 && t.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 낙관적 읽기 중 일관되지 않은 상태를 볼 수 있으므로 탐사 횟수를 배열 길이로 제한한다
+    private static long find(Table t, long key, long defaultValue) {
+        long[] keys = t.keys;
+        int mask = keys.length - 1;
+        int slot = (int) mix(key) & mask;
+        for (int probes = 0; probes < keys.length; probes++) {
+            long k = keys[slot];
+            if (k == key) {
+                return t.values[slot];
+            }
+            if (k == 0) {
+                return defaultValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final long[] values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.edumanager.common.util;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서 페이지네이션용 불투명 커서 인코더
+ *
+ * 커서 = base64url(범위 + 마지막 행의 정렬 키 값들) + "." + base64url(HMAC-SHA256 앞 16바이트)
+ * 서명으로 클라이언트가 커서를 조작해 임의 위치로 건너뛰지 못하게 하고,
+ * 범위(목록 + 정렬 + 필터)를 함께 서명해 다른 목록/정렬의 커서를 재사용하지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class CursorCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final char SEPARATOR = '\u001F';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    /**
+     * @param secretRequired true면 키가 없을 때 기동을 실패시킨다 (운영: 노드끼리 같은 키로 서명해야 함)
+     */
+    public CursorCodec(@Value("${app.business.pagination.cursor-secret:}") String secret,
+                       @Value("${app.business.pagination.cursor-secret-required:false}") boolean secretRequired) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            if (secretRequired) {
+                throw new IllegalStateException("app.business.pagination.cursor-secret이 설정되지 않았습니다.");
+            }
+            // 노드마다 키가 달라지고 재시작하면 기존 커서가 무효가 된다 - 개발/테스트용
+            log.warn("app.business.pagination.cursor-secret 미설정 - 임시 키로 커서를 서명합니다.");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+    }
+
+    public String encode(String scope, List<String> values) {
+        StringBuilder payload = new StringBuilder(scope);
+        for (String value : values) {
+            payload.append(SEPARATOR).append(value);
+        }
+        byte[] payloadBytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * @return 인코딩한 값 목록 (범위 제외)
+     * @throws BusinessException 서명이 맞지 않거나 다른 범위의 커서인 경우 (INVALID_CURSOR)
+     */
+    public List<String> decode(String scope, String cursor, int valueCount) {
+        int dot = cursor.indexOf('.');
+        if (dot <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(cursor.substring(0, dot));
+            signature = DECODER.decode(cursor.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+
+        String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != valueCount + 1 || !parts[0].equals(scope)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        return Arrays.asList(parts).subList(1, parts.length);
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+        } catch (GeneralSecurityException e) {
+            // 모든 JVM 구현체는 HmacSHA256을 지원해야 한다
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
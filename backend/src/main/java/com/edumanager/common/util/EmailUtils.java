@@ -0,0 +1,18 @@
+package com.edumanager.common.util;
+
+import java.util.Locale;
+
+/**
+ * 이메일 정규화 유틸리티
+ * 가입, 일괄 등록, 로그인, 이메일 인덱스가 같은 규칙(앞뒤 공백 제거 + 소문자)으로 비교/저장하도록 한곳에 둔다.
+ */
+public final class EmailUtils {
+
+    private EmailUtils() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
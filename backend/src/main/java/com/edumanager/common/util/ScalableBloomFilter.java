@@ -0,0 +1,86 @@
+package com.edumanager.common.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 크기가 늘어나는 블룸 필터 (Scalable Bloom Filter, Almeida et al.)
+ *
+ * 현재 층이 예상 항목 수에 도달하면 용량은 growthFactor배, 오탐률은 tighteningRatio배인 층을 새로 붙인다.
+ * 전체 오탐률은 초기 오탐률 / (1 - tighteningRatio) 이하로 유지된다.
+ * 조회는 모든 층을 확인하고, 추가는 마지막 층에만 한다.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<BloomFilter> layers = new CopyOnWriteArrayList<>();
+    private final double initialFalsePositiveRate;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        BloomFilter first = new BloomFilter(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO));
+        this.layers.add(first);
+        this.initialFalsePositiveRate = falsePositiveRate * (1 - TIGHTENING_RATIO);
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 새로 추가된 항목이면 true (이미 있을 수도 있으면 false)
+     */
+    public boolean put(String value) {
+        if (mightContain(value)) {
+            return false;
+        }
+        BloomFilter current = currentLayer();
+        boolean changed = current.put(value);
+        if (current.isSaturated()) {
+            grow(current);
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        for (BloomFilter layer : layers) {
+            if (layer.mightContain(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int layerCount() {
+        return layers.size();
+    }
+
+    public long approximateElementCount() {
+        long count = 0;
+        for (BloomFilter layer : layers) {
+            count += layer.approximateElementCount();
+        }
+        return count;
+    }
+
+    public long bitSize() {
+        long bits = 0;
+        for (BloomFilter layer : layers) {
+            bits += layer.bitSize();
+        }
+        return bits;
+    }
+
+    private BloomFilter currentLayer() {
+        return layers.get(layers.size() - 1);
+    }
+
+    // 동시에 여러 스레드가 포화를 감지해도 층은 하나만 추가한다
+    private synchronized void grow(BloomFilter saturated) {
+        if (currentLayer() != saturated) {
+            return;
+        }
+        int index = layers.size();
+        layers.add(new BloomFilter(saturated.expectedInsertions() * GROWTH_FACTOR,
+                initialFalsePositiveRate * Math.pow(TIGHTENING_RATIO, index)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.edumanager.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 문자열을 고정 길이 키로 변환하는 유틸리티
+ * 원본 토큰 대신 SHA-256 다이제스트를 캐시/저장소 키로 사용한다.
+ */
+public final class TokenHashUtils {
+
+    private TokenHashUtils() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * SHA-256 다이제스트를 Base64URL(패딩 없음) 문자열로 반환 (43자)
+     */
+    public static String sha256(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256Bytes(token));
+    }
+
+    public static byte[] sha256Bytes(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 지원해야 한다
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
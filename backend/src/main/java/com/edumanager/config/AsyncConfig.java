@@ -0,0 +1,137 @@
+package com.edumanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 가상 스레드 모드 - I/O 대기 위주 풀만 가상 스레드로 만든다 (풀 크기는 그대로 동시 실행 한도)
+    // CPU를 쓰는 해싱 풀(비밀번호, 가져오기)은 코어 수 제한이 목적이므로 플랫폼 스레드를 유지한다
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 0이면 CPU 코어 수
+    @Value("${app.security.password-hashing.threads:0}")
+    private int passwordHashingThreads;
+
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${app.sms.dispatch.threads:4}")
+    private int smsDispatchThreads;
+
+    @Value("${app.sms.dispatch.queue-capacity:2000}")
+    private int smsDispatchQueueCapacity;
+
+    @Value("${app.user.import.threads:1}")
+    private int userImportThreads;
+
+    @Value("${app.user.import.queue-capacity:4}")
+    private int userImportQueueCapacity;
+
+    @Value("${app.user.export.threads:4}")
+    private int userExportThreads;
+
+    @Value("${app.cache.refresh.threads:2}")
+    private int cacheRefreshThreads;
+
+    @Value("${app.cache.refresh.queue-capacity:100}")
+    private int cacheRefreshQueueCapacity;
+
+    /**
+     * 비밀번호 해싱 전용 풀
+     * 대기열이 가득 차면 호출 스레드에서 실행하지 않고 거절한다 (AbortPolicy).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int threads = passwordHashingThreads > 0
+                ? passwordHashingThreads
+                : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(passwordHashingQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    /**
+     * SMS 발송 전용 풀
+     * 외부 발송 API 호출은 요청 스레드에서 분리하고, 대기열이 가득 차면 즉시 거절한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor smsTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(smsDispatchThreads);
+        executor.setMaxPoolSize(smsDispatchThreads);
+        executor.setQueueCapacity(smsDispatchQueueCapacity);
+        executor.setThreadNamePrefix("sms-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 사용자 가져오기(파일) 작업 풀
+     * 해싱이 CPU를 많이 쓰므로 동시에 도는 작업 수를 작게 제한한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(userImportThreads);
+        executor.setMaxPoolSize(userImportThreads);
+        executor.setQueueCapacity(userImportQueueCapacity);
+        executor.setThreadNamePrefix("user-import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 종료 시 진행 중인 작업은 체크포인트에서 이어서 진행할 수 있으므로 기다리지 않는다
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 사용자 내보내기 전용 풀 (UserExportController가 WebAsyncTask로 지정)
+     * 내보내기 하나가 커서 하나(DB 커넥션 하나)를 끝까지 잡으므로 동시 실행 수를 풀 크기로 제한한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(userExportThreads);
+        executor.setMaxPoolSize(userExportThreads);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("user-export-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 캐시 미리 갱신(refresh-ahead) 풀
+     * 가득 차면 그 갱신은 건너뛰고 기존 값을 계속 쓴다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cacheRefreshThreads);
+        executor.setMaxPoolSize(cacheRefreshThreads);
+        executor.setQueueCapacity(cacheRefreshQueueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.edumanager.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 공통 설정
+ * 분포(히스토그램/SLO 구간)는 management.metrics.distribution.*에서 설정한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 사용하는 Redis 명령 종류는 수십 개 이내 - 넘어서면 새 명령의 시계열은 만들지 않는다
+    private static final int MAX_REDIS_COMMAND_TAGS = 40;
+
+    @Bean
+    public MeterFilter redisCommandTagLimit() {
+        return MeterFilter.maximumAllowableTags("redis.commands", "command", MAX_REDIS_COMMAND_TAGS, MeterFilter.deny());
+    }
+}
@@ -1,71 +1,239 @@
 package com.edumanager.config;
 
+import com.edumanager.common.cache.CompactRedisSerializer;
+import com.edumanager.common.cache.TwoTierCacheManager;
+import com.edumanager.common.cache.TwoTierCacheProperties;
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisCommandTimeouts;
+import com.edumanager.common.redis.RedisResilienceProperties;
+import com.edumanager.common.redis.ReplicaLettuceConnectionFactory;
+import com.edumanager.common.redis.ReplicaStringRedisTemplate;
+import com.edumanager.config.RedisTopologyProperties.ConnectionMode;
+import com.edumanager.config.RedisTopologyProperties.Topology;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 @EnableRedisRepositories
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host:localhost}")
-    private String host;
-
-    @Value("${spring.data.redis.port:6379}")
-    private int port;
-
-    @Value("${spring.data.redis.password:}")
-    private String password;
-
-    @Value("${spring.data.redis.timeout:6000}")
-    private long timeout;  // 밀리초 단위로 받기
-
     @Value("${spring.cache.redis.key-prefix:}")
     private String keyPrefix;
 
     @Value("${spring.cache.redis.time-to-live:600000}")
     private long defaultTtl;
 
+    @Value("${app.redis.serialization.format:json}")
+    private CompactRedisSerializer.Format serializationFormat;
+
+    @Value("${app.redis.serialization.compression-threshold:512}")
+    private int compressionThreshold;
+
+    /**
+     * Redis 연결 설정 (쓰기와 일반 읽기 - 주 노드)
+     * 토폴로지(app.redis.topology)에 따라 spring.data.redis의 단일 노드/센티널/클러스터 설정으로 연결한다.
+     */
+    @Bean
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory(RedisProperties redisProperties,
+                                                           RedisTopologyProperties redisTopologyProperties) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                redisConfiguration(redisProperties, redisTopologyProperties),
+                clientConfiguration(redisProperties, redisTopologyProperties, null));
+        // POOLED면 명령마다 풀에서 연결을 빌린다 (SHARED면 스레드 안전한 단일 연결을 함께 쓴다)
+        factory.setShareNativeConnection(redisTopologyProperties.getConnectionMode() == ConnectionMode.SHARED);
+        return factory;
+    }
+
+    /**
+     * 복제본 읽기 연결 (app.redis.read-from)
+     * 단일 노드 토폴로지에서는 주 노드로 연결된다.
+     * 복제본 읽기 경로(app.redis.replica-reads.*)가 하나라도 켜져 있을 때만 연결을 만든다.
+     */
+    @Bean
+    @ConditionalOnExpression("${app.redis.replica-reads.token-blacklist:true} or ${app.redis.replica-reads.cache:true}")
+    public ReplicaLettuceConnectionFactory replicaReadConnectionFactory(RedisProperties redisProperties,
+                                                                        RedisTopologyProperties redisTopologyProperties) {
+        ReadFrom readFrom = redisTopologyProperties.getTopology() == Topology.STANDALONE
+                ? null
+                : ReadFrom.valueOf(redisTopologyProperties.getReadFrom());
+        ReplicaLettuceConnectionFactory factory = new ReplicaLettuceConnectionFactory(
+                redisConfiguration(redisProperties, redisTopologyProperties),
+                clientConfiguration(redisProperties, redisTopologyProperties, readFrom));
+        factory.setShareNativeConnection(redisTopologyProperties.getConnectionMode() == ConnectionMode.SHARED);
+        return factory;
+    }
+
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
     /**
-     * Redis 연결 설정
-     * Lettuce 클라이언트를 사용하여 Redis 서버에 연결
+     * 복제본 읽기용 템플릿 (블랙리스트 조회, app.redis.replica-reads.token-blacklist)
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        // Redis 서버 설정
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName(host);
-        redisStandaloneConfiguration.setPort(port);
+    @ConditionalOnProperty(prefix = "app.redis.replica-reads", name = "token-blacklist", havingValue = "true",
+            matchIfMissing = true)
+    public ReplicaStringRedisTemplate replicaStringRedisTemplate(ReplicaLettuceConnectionFactory replicaReadConnectionFactory) {
+        return new ReplicaStringRedisTemplate(replicaReadConnectionFactory);
+    }
+
+    private static RedisConfiguration redisConfiguration(RedisProperties redisProperties,
+                                                         RedisTopologyProperties topology) {
+        return switch (topology.getTopology()) {
+            case STANDALONE -> standaloneConfiguration(redisProperties);
+            case SENTINEL -> sentinelConfiguration(redisProperties);
+            case CLUSTER -> clusterConfiguration(redisProperties);
+        };
+    }
+
+    private static LettuceClientConfiguration clientConfiguration(RedisProperties redisProperties,
+                                                                  RedisTopologyProperties topology,
+                                                                  ReadFrom readFrom) {
+        RedisProperties.Lettuce lettuce = redisProperties.getLettuce();
+        boolean pooled = topology.getConnectionMode() == ConnectionMode.POOLED;
+        Duration commandTimeout = redisProperties.getTimeout() != null ? redisProperties.getTimeout() : Duration.ofSeconds(6);
+        // 작업별 타임아웃 (app.redis.resilience.*-timeout) - 지정이 없으면 commandTimeout
+        TimeoutOptions timeoutOptions = TimeoutOptions.builder()
+                .timeoutSource(new RedisCommandTimeouts(commandTimeout))
+                .build();
+
+        // Lettuce 클라이언트 설정
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = pooled
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(lettuce.getPool()))
+                : LettuceClientConfiguration.builder();
+        builder.commandTimeout(commandTimeout)
+                .shutdownTimeout(lettuce.getShutdownTimeout() != null ? lettuce.getShutdownTimeout() : Duration.ofMillis(100));
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        if (topology.getTopology() == Topology.CLUSTER) {
+            // 장애 조치/리샤딩 후 MOVED, 연결 끊김 등을 계기로 슬롯 정보를 다시 읽는다
+            builder.clientOptions(ClusterClientOptions.builder()
+                    .timeoutOptions(timeoutOptions)
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enablePeriodicRefresh(topology.getClusterRefreshPeriod())
+                            .enableAllAdaptiveRefreshTriggers()
+                            .build())
+                    .build());
+        } else {
+            builder.clientOptions(ClientOptions.builder().timeoutOptions(timeoutOptions).build());
+        }
+        return builder.build();
+    }
 
+    private static RedisStandaloneConfiguration standaloneConfiguration(RedisProperties properties) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        configuration.setDatabase(properties.getDatabase());
+        configuration.setUsername(properties.getUsername());
         // 비밀번호가 설정되어 있으면 사용
-        if (password != null && !password.trim().isEmpty()) {
-            redisStandaloneConfiguration.setPassword(password);
+        if (properties.getPassword() != null && !properties.getPassword().isBlank()) {
+            configuration.setPassword(properties.getPassword());
         }
+        return configuration;
+    }
 
-        // Lettuce 클라이언트 설정
-        LettuceClientConfiguration lettuceClientConfiguration = LettuceClientConfiguration.builder()
-                .commandTimeout(Duration.ofMillis(timeout))
-                .shutdownTimeout(Duration.ofMillis(100))
-                .build();
+    private static RedisSentinelConfiguration sentinelConfiguration(RedisProperties properties) {
+        RedisProperties.Sentinel sentinel = properties.getSentinel();
+        if (sentinel == null || sentinel.getMaster() == null || sentinel.getNodes() == null) {
+            throw new IllegalStateException("app.redis.topology=SENTINEL requires spring.data.redis.sentinel.master/nodes");
+        }
+        RedisSentinelConfiguration configuration = new RedisSentinelConfiguration(sentinel.getMaster(),
+                new HashSet<>(sentinel.getNodes()));
+        configuration.setDatabase(properties.getDatabase());
+        configuration.setUsername(properties.getUsername());
+        if (properties.getPassword() != null && !properties.getPassword().isBlank()) {
+            configuration.setPassword(properties.getPassword());
+        }
+        if (sentinel.getPassword() != null && !sentinel.getPassword().isBlank()) {
+            configuration.setSentinelPassword(sentinel.getPassword());
+        }
+        return configuration;
+    }
+
+    private static RedisClusterConfiguration clusterConfiguration(RedisProperties properties) {
+        RedisProperties.Cluster cluster = properties.getCluster();
+        if (cluster == null || cluster.getNodes() == null) {
+            throw new IllegalStateException("app.redis.topology=CLUSTER requires spring.data.redis.cluster.nodes");
+        }
+        RedisClusterConfiguration configuration = new RedisClusterConfiguration(cluster.getNodes());
+        if (cluster.getMaxRedirects() != null) {
+            configuration.setMaxRedirects(cluster.getMaxRedirects());
+        }
+        configuration.setUsername(properties.getUsername());
+        if (properties.getPassword() != null && !properties.getPassword().isBlank()) {
+            configuration.setPassword(properties.getPassword());
+        }
+        return configuration;
+    }
+
+    private static GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
 
-        return new LettuceConnectionFactory(redisStandaloneConfiguration, lettuceClientConfiguration);
+    /**
+     * Redis 값 직렬화 (RedisTemplate, 캐시 공용)
+     * json: 기존 형식, smile: 바이너리 + LZ4 압축 (어느 모드든 두 형식을 모두 읽는다)
+     */
+    @Bean
+    public CompactRedisSerializer redisValueSerializer() {
+        return new CompactRedisSerializer(serializationFormat, compressionThreshold);
     }
 
     /**
@@ -75,7 +243,8 @@ public class RedisConfig {
     @Bean
     @Primary
     @ConditionalOnMissingBean(name = "redisTemplate")
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CompactRedisSerializer redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -83,24 +252,54 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value는 JSON으로 직렬화
-        GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jackson2JsonRedisSerializer);
-        template.setHashValueSerializer(jackson2JsonRedisSerializer);
+        // Value 직렬화 (app.redis.serialization.format)
+        template.setValueSerializer(redisValueSerializer);
+        template.setHashValueSerializer(redisValueSerializer);
 
         // 기본 직렬화 설정
-        template.setDefaultSerializer(jackson2JsonRedisSerializer);
+        template.setDefaultSerializer(redisValueSerializer);
 
         template.afterPropertiesSet();
         return template;
     }
 
     /**
-     * Redis Cache Manager 설정
-     * Spring Cache 추상화를 사용할 때 필요
+     * Redis Pub/Sub 리스너 컨테이너
+     * 노드 간 이벤트(토큰 폐기 등) 전파에 사용
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * Redis(L2) Cache Manager
+     * 직접 쓰지 않고 TwoTierCacheManager의 L2로만 사용한다. (트랜잭션 처리는 2단계 캐시 전체에 적용)
+     */
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               CompactRedisSerializer redisValueSerializer,
+                                               TwoTierCacheProperties twoTierCacheProperties) {
+        return buildRedisCacheManager(connectionFactory, redisValueSerializer, twoTierCacheProperties);
+    }
+
+    /**
+     * 복제본 읽기용 Redis Cache Manager (L2 조회 전용, app.redis.replica-reads.cache)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.redis.replica-reads", name = "cache", havingValue = "true",
+            matchIfMissing = true)
+    public RedisCacheManager replicaRedisCacheManager(ReplicaLettuceConnectionFactory replicaReadConnectionFactory,
+                                                      CompactRedisSerializer redisValueSerializer,
+                                                      TwoTierCacheProperties twoTierCacheProperties) {
+        return buildRedisCacheManager(replicaReadConnectionFactory, redisValueSerializer, twoTierCacheProperties);
+    }
+
+    private RedisCacheManager buildRedisCacheManager(RedisConnectionFactory connectionFactory,
+                                                     CompactRedisSerializer redisValueSerializer,
+                                                     TwoTierCacheProperties twoTierCacheProperties) {
         // 캐시 기본 설정
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMillis(defaultTtl)) // application.yml에서 설정한 기본 TTL
@@ -109,7 +308,7 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
                 )
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
+                        RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer)
                 );
 
         // 키 프리픽스 설정
@@ -117,9 +316,49 @@ public class RedisConfig {
             cacheConfig = cacheConfig.prefixCacheNameWith(keyPrefix);
         }
 
+        // 캐시 이름별 TTL (app.cache.caches.{이름}.ttl)
+        Map<String, RedisCacheConfiguration> perCacheConfigs = new HashMap<>();
+        for (Map.Entry<String, TwoTierCacheProperties.CacheSpec> entry : twoTierCacheProperties.getCaches().entrySet()) {
+            if (entry.getValue().getTtl() != null) {
+                perCacheConfigs.put(entry.getKey(), cacheConfig.entryTtl(entry.getValue().getTtl()));
+            }
+        }
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
-                .transactionAware() // 트랜잭션 지원
+                .withInitialCacheConfigurations(perCacheConfigs)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Spring Cache 추상화의 기본 CacheManager (로컬 L1 + Redis L2)
+     * 캐시 적중 대부분을 네트워크 왕복/역직렬화 없이 힙에서 처리하고, 변경은 Pub/Sub으로 다른 노드 L1에 전파한다.
+     * 복제본 캐시 매니저가 없으면(복제본 읽기 꺼짐) L2 조회도 주 노드로 보낸다.
+     */
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                            @Qualifier("replicaRedisCacheManager")
+                                            ObjectProvider<RedisCacheManager> replicaRedisCacheManager,
+                                            TwoTierCacheProperties twoTierCacheProperties,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            RedisMessageListenerContainer redisMessageListenerContainer,
+                                            MeterRegistry meterRegistry,
+                                            ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                            RedisCircuitBreaker redisCircuitBreaker,
+                                            RedisResilienceProperties redisResilienceProperties,
+                                            Environment environment) {
+        List<String> cacheNames = Binder.get(environment)
+                .bind("spring.cache.cache-names", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager,
+                replicaRedisCacheManager.getIfAvailable(),
+                twoTierCacheProperties,
+                cacheNames, stringRedisTemplate, redisMessageListenerContainer, meterRegistry,
+                Duration.ofMillis(defaultTtl), cacheRefreshExecutor,
+                redisCircuitBreaker, redisResilienceProperties);
+        cacheManager.setTransactionAware(true); // 트랜잭션 지원
+        return cacheManager;
+    }
+}
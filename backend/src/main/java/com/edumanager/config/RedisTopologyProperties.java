@@ -0,0 +1,49 @@
+package com.edumanager.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.redis")
+public class RedisTopologyProperties {
+
+    public enum Topology {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
+    public enum ConnectionMode {
+        // 스레드 간 공유 연결 하나 (Lettuce 기본, 대부분의 경우 가장 빠름)
+        SHARED,
+        // 명령마다 풀에서 연결을 빌림 (spring.data.redis.lettuce.pool 적용)
+        POOLED
+    }
+
+    // 연결 대상: spring.data.redis.host/port, .sentinel.*, .cluster.*
+    private Topology topology = Topology.STANDALONE;
+    private ConnectionMode connectionMode = ConnectionMode.SHARED;
+    // 복제본 읽기 연결의 Lettuce ReadFrom (REPLICA_PREFERRED, REPLICA, LOWEST_LATENCY, ANY ...)
+    private String readFrom = "REPLICA_PREFERRED";
+    // 클러스터 토폴로지 주기 갱신 (장애 조치 후 슬롯 재배치 반영)
+    private Duration clusterRefreshPeriod = Duration.ofSeconds(30);
+
+    private ReplicaReads replicaReads = new ReplicaReads();
+
+    /**
+     * 복제본으로 보내는 읽기 경로 (STANDALONE에서는 모두 주 노드로 간다)
+     * 복제 지연만큼 방금 쓴 값이 안 보일 수 있으므로, 각 경로는 지연을 견디는 방식으로만 사용한다.
+     */
+    @Getter
+    @Setter
+    public static class ReplicaReads {
+        // 액세스 토큰 블랙리스트 확인 (방금 폐기된 토큰은 로컬 정확 집합이 먼저 잡는다)
+        private boolean tokenBlacklist = true;
+        // 캐시 L2 조회 (쓰기와 락 이후 재확인은 주 노드)
+        private boolean cache = true;
+    }
+}
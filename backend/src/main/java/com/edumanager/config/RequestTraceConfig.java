@@ -0,0 +1,49 @@
+package com.edumanager.config;
+
+import com.edumanager.common.diagnostics.RepositoryTraceInterceptor;
+import com.edumanager.common.diagnostics.TracingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 추적(RequestTrace) 계측 지점 연결
+ * - DataSource: 커넥션 획득(풀 대기)
+ * - JPA 리포지토리: 메서드 호출 (Redis 리포지토리는 제외)
+ * Redis 명령은 RedisCommandMetrics, 서명/검증은 JwtTokenService, BCrypt는 BoundedPasswordEncoder,
+ * JSON은 WebMvcConfig의 변환기에서 남긴다.
+ */
+@Configuration
+public class RequestTraceConfig {
+
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryTracePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaRepositoryFactoryBean<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryTraceInterceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
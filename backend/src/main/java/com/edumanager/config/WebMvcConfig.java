@@ -1,13 +1,29 @@
 package com.edumanager.config;
 
+import com.edumanager.common.diagnostics.TracingJackson2HttpMessageConverter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    /**
+     * JSON 변환기를 요청 추적(직렬화 시간)을 남기는 변환기로 교체 (같은 ObjectMapper 사용)
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                && !(converter instanceof TracingJackson2HttpMessageConverter)
+                ? new TracingJackson2HttpMessageConverter(jackson.getObjectMapper())
+                : converter);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Swagger UI 정적 리소스
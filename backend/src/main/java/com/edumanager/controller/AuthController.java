@@ -3,14 +3,18 @@ package com.edumanager.controller;
 import com.edumanager.common.constant.AppConstants;
 import com.edumanager.common.response.ApiResponse;
 import com.edumanager.domain.auth.AuthService;
+import com.edumanager.domain.auth.SmsVerificationService;
 
 import static com.edumanager.common.constant.AppConstants.Api.*;
 import static com.edumanager.common.constant.AppConstants.Jwt.BEARER_PREFIX;
+import static com.edumanager.common.constant.AppConstants.Jwt.CLAIM_USER_ID;
 import static com.edumanager.common.constant.AppConstants.Message.Success.*;
 
 import com.edumanager.domain.auth.dto.request.LoginRequest;
 import com.edumanager.domain.auth.dto.request.RefreshTokenRequest;
 import com.edumanager.domain.auth.dto.request.SignupRequest;
+import com.edumanager.domain.auth.dto.request.SmsSendRequest;
+import com.edumanager.domain.auth.dto.request.SmsVerifyRequest;
 import com.edumanager.domain.auth.dto.response.LoginResponse;
 import com.edumanager.domain.auth.dto.response.SignupResponse;
 import com.edumanager.domain.auth.dto.response.TokenResponse;
@@ -23,6 +27,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +36,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "Auth", description = "인증 관련 API")
@@ -42,6 +47,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final SmsVerificationService smsVerificationService;
 
     @Operation(
             summary = "회원가입",
@@ -55,7 +61,7 @@ public class AuthController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청"
+                    description = "잘못된 요청 또는 휴대폰 미인증"
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "409",
@@ -95,19 +101,77 @@ public class AuthController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "403",
                     description = "계정이 비활성화됨"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "로그인 시도 횟수 초과 (Retry-After 헤더 참고)"
             )
     })
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
+            @Valid @RequestBody LoginRequest request,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+            @Parameter(hidden = true) HttpServletRequest httpRequest) {
 
         log.debug("로그인 요청: email={}", request.getEmail());
 
-        LoginResponse response = authService.login(request);
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr(), userAgent);
 
         return ResponseEntity.ok(ApiResponse.success(response, LOGIN));
     }
 
+    @Operation(
+            summary = "휴대폰 인증번호 발송",
+            description = "입력한 휴대폰 번호로 6자리 인증번호를 발송합니다. 발송은 비동기로 처리됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "발송 요청 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "발송 간격, 일일 한도 또는 IP별/전체 발송 한도 초과 (Retry-After 헤더 참고)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "발송 대기열 초과 또는 발송기 미설정"
+            )
+    })
+    @PostMapping("/sms/send")
+    public ResponseEntity<ApiResponse<Void>> sendSmsCode(
+            @Valid @RequestBody SmsSendRequest request,
+            @Parameter(hidden = true) HttpServletRequest httpRequest) {
+
+        smsVerificationService.sendVerificationCode(request.getPhone(), httpRequest.getRemoteAddr());
+
+        return ResponseEntity.ok(ApiResponse.success(SMS_SENT));
+    }
+
+    @Operation(
+            summary = "휴대폰 인증번호 확인",
+            description = "발송된 인증번호를 확인합니다. 최대 시도 횟수를 넘으면 인증번호를 다시 요청해야 합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "인증 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "인증번호 불일치 또는 만료"
+            )
+    })
+    @PostMapping("/sms/verify")
+    public ResponseEntity<ApiResponse<Void>> verifySmsCode(
+            @Valid @RequestBody SmsVerifyRequest request) {
+
+        smsVerificationService.verifyCode(request.getPhone(), request.getCode());
+
+        return ResponseEntity.ok(ApiResponse.success(SMS_VERIFIED));
+    }
+
     @Operation(
             summary = "토큰 갱신",
             description = "리프레시 토큰을 사용하여 새로운 액세스 토큰을 발급받습니다."
@@ -136,7 +200,7 @@ public class AuthController {
 
     @Operation(
             summary = "로그아웃",
-            description = "현재 토큰을 무효화하고 로그아웃합니다."
+            description = "현재 토큰을 무효화하고 이 기기의 세션을 종료합니다. 다른 기기의 세션은 유지됩니다."
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -155,15 +219,9 @@ public class AuthController {
             @Parameter(hidden = true)
             @RequestHeader(HttpHeaders.AUTHORIZATION) String authHeader,
             @Parameter(hidden = true)
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal Jwt jwt) {
 
-        // userDetails가 null인 경우 처리
-        if (userDetails == null) {
-            log.warn("로그아웃 요청: userDetails가 null입니다.");
-            // 토큰만으로도 로그아웃 처리 가능하도록 진행
-        } else {
-            log.debug("로그아웃 요청: username={}", userDetails.getUsername());
-        }
+        log.debug("로그아웃 요청: username={}", jwt.getSubject());
 
         // "Bearer " 접두사 제거
         String token = authHeader.substring(BEARER_PREFIX.length());
@@ -172,6 +230,35 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(LOGOUT));
     }
 
+    @Operation(
+            summary = "모든 기기에서 로그아웃",
+            description = "현재 사용자에게 발급된 모든 액세스/리프레시 토큰을 무효화합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "로그아웃 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 요청"
+            )
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/logout-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal Jwt jwt) {
+
+        log.debug("전체 기기 로그아웃 요청: username={}", jwt.getSubject());
+
+        Long userId = ((Number) jwt.getClaim(CLAIM_USER_ID)).longValue();
+        authService.logoutAll(userId);
+
+        return ResponseEntity.ok(ApiResponse.success(LOGOUT_ALL));
+    }
+
     @Operation(
             summary = "현재 사용자 정보 조회",
             description = "현재 로그인한 사용자의 정보를 조회합니다."
@@ -191,32 +278,17 @@ public class AuthController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<String>> getCurrentUser(
             @Parameter(hidden = true)
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal Jwt jwt) {
 
-        if (userDetails == null) {
-            log.warn("현재 사용자 정보 조회: userDetails가 null입니다.");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.<String>builder()
-                            .success(false)
-                            .code("UNAUTHORIZED")
-                            .message("인증 정보를 찾을 수 없습니다.")
-                            .data(null)
-                            .build());
-        }
-
-        log.debug("현재 사용자 정보 조회: username={}", userDetails.getUsername());
+        log.debug("현재 사용자 정보 조회: username={}", jwt.getSubject());
 
         // TODO: UserService를 통해 상세 사용자 정보 조회 구현
         // 현재는 간단히 username만 반환
         return ResponseEntity.ok(
-                ApiResponse.success(userDetails.getUsername(), "사용자 정보 조회 성공")
+                ApiResponse.success(jwt.getSubject(), "사용자 정보 조회 성공")
         );
     }
 
-
-
-
-
     @Operation(
             summary = "이메일 중복 확인",
             description = "회원가입 전 이메일 중복 여부를 확인합니다."
@@ -233,11 +305,11 @@ public class AuthController {
 
         log.debug("이메일 중복 확인: email={}", email);
 
-        // TODO: AuthService에 이메일 중복 확인 메서드 추가 필요
-        // boolean isAvailable = authService.isEmailAvailable(email);
+        boolean isAvailable = authService.isEmailAvailable(email);
 
         return ResponseEntity.ok(
-                ApiResponse.success(true, "사용 가능한 이메일입니다.")
+                ApiResponse.success(isAvailable,
+                        isAvailable ? EMAIL_AVAILABLE : AppConstants.Message.Error.EMAIL_ALREADY_EXISTS)
         );
     }
 
@@ -0,0 +1,77 @@
+package com.edumanager.controller;
+
+import com.edumanager.common.response.ApiResponse;
+import com.edumanager.domain.auth.dto.response.SigningKeyResponse;
+import com.edumanager.security.jwt.JwtKeyManager;
+import com.edumanager.security.jwt.JwtProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_JWT_KEYS;
+import static com.edumanager.common.constant.AppConstants.Api.JWKS_PATH;
+
+@Tag(name = "JWT Keys", description = "JWT 서명 키 API")
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+public class JwtKeyController {
+
+    private final JwtKeyManager jwtKeyManager;
+    private final JwtProperties jwtProperties;
+
+    @Operation(
+            summary = "JWKS",
+            description = "토큰 검증용 공개키 목록(RFC 7517)을 반환합니다."
+    )
+    @GetMapping(value = JWKS_PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        String jwks = jwtKeyManager.jwksJson();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtProperties.getSigning().getJwksMaxAge()).cachePublic())
+                .eTag(Integer.toHexString(jwks.hashCode()))
+                .body(jwks);
+    }
+
+    @Operation(summary = "서명 키 상태", description = "활성 서명 키와 검증 가능한 키 목록을 조회합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(ADMIN_JWT_KEYS)
+    public ResponseEntity<ApiResponse<SigningKeyResponse>> keys() {
+        return ResponseEntity.ok(ApiResponse.success(toResponse()));
+    }
+
+    @Operation(summary = "서명 키 재적재", description = "키 파일을 다시 읽어 새 키를 검증 목록과 JWKS에 반영합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(ADMIN_JWT_KEYS + "/reload")
+    public ResponseEntity<ApiResponse<SigningKeyResponse>> reload() {
+        jwtKeyManager.reload();
+        return ResponseEntity.ok(ApiResponse.success(toResponse()));
+    }
+
+    @Operation(summary = "활성 서명 키 전환", description = "새 토큰 서명에 사용할 키(kid)를 모든 서버에서 전환합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping(ADMIN_JWT_KEYS + "/active")
+    public ResponseEntity<ApiResponse<SigningKeyResponse>> activate(@RequestParam String kid) {
+        log.info("활성 서명 키 전환 요청: kid={}", kid);
+        jwtKeyManager.activate(kid);
+        return ResponseEntity.ok(ApiResponse.success(toResponse()));
+    }
+
+    private SigningKeyResponse toResponse() {
+        return SigningKeyResponse.builder()
+                .activeKeyId(jwtKeyManager.activeKeyId())
+                .algorithm(jwtKeyManager.signingHeader().getAlgorithm().getName())
+                .keyIds(jwtKeyManager.keyIds())
+                .build();
+    }
+}
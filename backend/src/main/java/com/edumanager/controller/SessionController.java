@@ -0,0 +1,100 @@
+package com.edumanager.controller;
+
+import com.edumanager.common.response.ApiResponse;
+import com.edumanager.domain.auth.SessionService;
+import com.edumanager.domain.auth.dto.request.BulkSessionRevokeRequest;
+import com.edumanager.domain.auth.dto.response.SessionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_SESSIONS_REVOKE;
+import static com.edumanager.common.constant.AppConstants.Api.AUTH_SESSIONS;
+import static com.edumanager.common.constant.AppConstants.Jwt.CLAIM_SESSION_ID;
+import static com.edumanager.common.constant.AppConstants.Jwt.CLAIM_USER_ID;
+import static com.edumanager.common.constant.AppConstants.Message.Success.LOGOUT_ALL;
+import static com.edumanager.common.constant.AppConstants.Message.Success.SESSIONS_BULK_REVOKE;
+import static com.edumanager.common.constant.AppConstants.Message.Success.SESSION_REVOKE;
+
+@Tag(name = "Session", description = "기기별 로그인 세션 API")
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class SessionController {
+
+    private final SessionService sessionService;
+
+    @Operation(summary = "로그인 세션 목록", description = "현재 사용자가 로그인한 기기 목록을 최근 사용 순으로 조회합니다.")
+    @GetMapping(AUTH_SESSIONS)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<SessionResponse>>> getSessions(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal Jwt jwt) {
+
+        List<SessionResponse> sessions = sessionService.getSessions(userIdOf(jwt), jwt.getClaimAsString(CLAIM_SESSION_ID));
+
+        return ResponseEntity.ok(ApiResponse.success(sessions));
+    }
+
+    @Operation(summary = "세션 종료", description = "선택한 기기에서 로그아웃합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "종료 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "세션 없음")
+    })
+    @DeleteMapping(AUTH_SESSIONS + "/{sessionId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Void>> revokeSession(
+            @PathVariable String sessionId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal Jwt jwt) {
+
+        sessionService.revokeSession(userIdOf(jwt), sessionId);
+
+        return ResponseEntity.ok(ApiResponse.success(SESSION_REVOKE));
+    }
+
+    @Operation(summary = "모든 세션 종료", description = "모든 기기에서 로그아웃합니다.")
+    @DeleteMapping(AUTH_SESSIONS)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<Void>> revokeAllSessions(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal Jwt jwt) {
+
+        sessionService.revokeAllSessions(userIdOf(jwt));
+
+        return ResponseEntity.ok(ApiResponse.success(LOGOUT_ALL));
+    }
+
+    @Operation(summary = "세션 일괄 종료 (관리자)", description = "여러 사용자의 모든 세션을 한 번에 종료합니다. (예: 반 전체 비활성화)")
+    @PostMapping(ADMIN_SESSIONS_REVOKE)
+    public ResponseEntity<ApiResponse<Void>> revokeSessions(
+            @Valid @RequestBody BulkSessionRevokeRequest request) {
+
+        log.info("세션 일괄 종료 요청: count={}", request.getUserIds().size());
+        sessionService.revokeAllSessions(request.getUserIds());
+
+        return ResponseEntity.ok(ApiResponse.success(SESSIONS_BULK_REVOKE));
+    }
+
+    private static Long userIdOf(Jwt jwt) {
+        return ((Number) jwt.getClaim(CLAIM_USER_ID)).longValue();
+    }
+}
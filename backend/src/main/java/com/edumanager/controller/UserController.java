@@ -0,0 +1,41 @@
+package com.edumanager.controller;
+
+import com.edumanager.common.response.CursorPageResponse;
+import com.edumanager.domain.user.UserQueryService;
+import com.edumanager.domain.user.UserSortKey;
+import com.edumanager.domain.user.dto.response.UserSummaryResponse;
+import com.edumanager.domain.user.entity.UserRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_USERS;
+import static com.edumanager.common.constant.AppConstants.Paging.*;
+
+@Tag(name = "User", description = "사용자 조회 API (관리자)")
+@RestController
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class UserController {
+
+    private final UserQueryService userQueryService;
+
+    @Operation(
+            summary = "사용자 목록",
+            description = "커서 기반으로 사용자 목록을 조회합니다. 다음 페이지는 응답의 cursor.nextCursor를 cursor 파라미터로 전달합니다. (size 최대 100)"
+    )
+    @GetMapping(ADMIN_USERS)
+    public ResponseEntity<CursorPageResponse<UserSummaryResponse>> listUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(name = PARAM_SORT, defaultValue = "CREATED_AT") UserSortKey sort,
+            @RequestParam(name = PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = PARAM_SIZE, defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+
+        return ResponseEntity.ok(userQueryService.listUsers(role, sort, cursor, size));
+    }
+}
@@ -0,0 +1,69 @@
+package com.edumanager.controller;
+
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.domain.user.exporter.ExportFormat;
+import com.edumanager.domain.user.exporter.UserExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_USERS_EXPORT;
+
+@Tag(name = "User Export", description = "사용자 명단 내보내기 API (관리자)")
+@RestController
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class UserExportController {
+
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+
+    private final UserExportService userExportService;
+    private final ThreadPoolTaskExecutor userExportExecutor;
+
+    @Value("${app.user.export.timeout:30m}")
+    private Duration timeout;
+
+    /**
+     * 내보내기 전용 풀과 타임아웃은 이 요청에만 적용한다. (MVC 비동기 기본값은 건드리지 않음)
+     * 응답은 작업 스레드에서 직접 쓰므로 핸들러는 값을 돌려주지 않는다.
+     */
+    @Operation(
+            summary = "사용자 명단 내보내기",
+            description = "사용자 명단을 CSV 또는 NDJSON으로 내려받습니다. 조회와 동시에 전송되며 gzip=true면 .gz 파일로 압축해서 보냅니다."
+    )
+    @GetMapping(ADMIN_USERS_EXPORT)
+    public WebAsyncTask<Void> exportUsers(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+
+        // gzip은 전송 인코딩이 아니라 파일 형식으로 보낸다 (받은 파일이 그대로 .gz)
+        String fileName = "users-" + LocalDate.now() + format.extension() + (gzip ? ".gz" : "");
+        response.setHeader(HttpHeaders.CONTENT_TYPE, gzip ? GZIP_CONTENT_TYPE : format.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        StreamingResponseBody body = userExportService.export(format, role, activeOnly, gzip);
+        return new WebAsyncTask<>(timeout.toMillis(), userExportExecutor, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
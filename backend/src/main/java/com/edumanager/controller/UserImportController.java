@@ -0,0 +1,69 @@
+package com.edumanager.controller;
+
+import com.edumanager.common.response.ApiResponse;
+import com.edumanager.domain.user.dto.response.UserImportJobResponse;
+import com.edumanager.domain.user.importer.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_USERS_IMPORT;
+import static com.edumanager.common.constant.AppConstants.Message.Success.USERS_IMPORT_STARTED;
+
+@Tag(name = "User Import", description = "사용자 파일 가져오기 API (관리자)")
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @Operation(
+            summary = "사용자 가져오기 시작",
+            description = "CSV(헤더: email,password,name,phone,role) 또는 NDJSON 파일을 업로드합니다. 처리는 비동기로 진행되며 작업 ID로 진행 상황을 조회합니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "작업 등록"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "진행 중인 작업이 많음")
+    })
+    @PostMapping(value = ADMIN_USERS_IMPORT, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<UserImportJobResponse>> startImport(
+            @RequestPart("file") MultipartFile file) {
+
+        UserImportJobResponse response = userImportService.start(file);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, USERS_IMPORT_STARTED));
+    }
+
+    @Operation(summary = "가져오기 진행 상황", description = "처리한 행 수, 진행률, 실패 행(최대 100개)을 조회합니다.")
+    @GetMapping(ADMIN_USERS_IMPORT + "/{jobId}")
+    public ResponseEntity<ApiResponse<UserImportJobResponse>> getImport(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(userImportService.getJob(jobId)));
+    }
+
+    @Operation(summary = "가져오기 재개", description = "실패했거나 중단된 작업을 마지막 체크포인트 다음 행부터 다시 진행합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "재개"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "재개할 수 없는 상태")
+    })
+    @PostMapping(ADMIN_USERS_IMPORT + "/{jobId}/resume")
+    public ResponseEntity<ApiResponse<UserImportJobResponse>> resumeImport(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(userImportService.resume(jobId)));
+    }
+}
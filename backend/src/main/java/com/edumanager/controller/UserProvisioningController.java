@@ -0,0 +1,48 @@
+package com.edumanager.controller;
+
+import com.edumanager.common.response.ApiResponse;
+import com.edumanager.domain.user.UserProvisioningService;
+import com.edumanager.domain.user.dto.request.BulkUserCreateRequest;
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.edumanager.common.constant.AppConstants.Api.ADMIN_USERS_BULK;
+import static com.edumanager.common.constant.AppConstants.Message.Success.USERS_BULK_CREATE;
+
+@Tag(name = "User Provisioning", description = "사용자 일괄 등록 API (관리자)")
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class UserProvisioningController {
+
+    private final UserProvisioningService userProvisioningService;
+
+    @Operation(
+            summary = "사용자 일괄 등록",
+            description = "학생 계정 등을 한 번에 최대 5000명까지 등록합니다. 실패한 행은 전체를 중단하지 않고 사유와 함께 반환됩니다."
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 완료 (행별 실패 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "목록이 비었거나 최대 개수 초과")
+    })
+    @PostMapping(ADMIN_USERS_BULK)
+    public ResponseEntity<ApiResponse<BulkUserCreateResponse>> createUsers(
+            @Valid @RequestBody BulkUserCreateRequest request) {
+
+        log.info("사용자 일괄 등록 요청: count={}", request.getUsers().size());
+        BulkUserCreateResponse response = userProvisioningService.createUsers(request.getUsers());
+
+        return ResponseEntity.ok(ApiResponse.success(response, USERS_BULK_CREATE));
+    }
+}
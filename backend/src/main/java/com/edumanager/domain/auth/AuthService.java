@@ -2,28 +2,41 @@ package com.edumanager.domain.auth;
 
 import static com.edumanager.common.constant.AppConstants.*;
 
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.util.EmailUtils;
 import com.edumanager.domain.auth.dto.request.LoginRequest;
 import com.edumanager.domain.auth.dto.request.SignupRequest;
 import com.edumanager.domain.auth.dto.response.LoginResponse;
 import com.edumanager.domain.auth.dto.response.SignupResponse;
 import com.edumanager.domain.auth.dto.response.TokenResponse;
+import com.edumanager.domain.user.EmailExistenceIndex;
 import com.edumanager.domain.user.entity.User;
 import com.edumanager.domain.user.repository.UserRepository;
 import com.edumanager.exception.auth.DuplicateEmailException;
+import com.edumanager.exception.auth.InvalidTokenException;
+import com.edumanager.exception.auth.LoginFailedException;
 import com.edumanager.exception.auth.UserNotFoundException;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.exception.sms.PhoneNotVerifiedException;
 import com.edumanager.security.jwt.JwtTokenService;
+import com.edumanager.security.service.CustomUserDetails;
+import com.edumanager.security.throttle.LoginThrottleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.Collections;
+import java.sql.SQLException;
 
 @Service
 @Slf4j
@@ -31,25 +44,56 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService jwtTokenService;
-    private final RedisTemplate<String, String> redisTemplate;
-
-    @Transactional
+    private final SessionService sessionService;
+    private final LoginThrottleService loginThrottleService;
+    private final EmailExistenceIndex emailExistenceIndex;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final SmsVerificationService smsVerificationService;
+
+    /**
+     * 회원가입
+     * 중복 판정은 유니크 제약에 맡기고, 사전 확인은 이메일 인덱스로만 한다.
+     * (새 이메일은 DB 조회 없이 통과하고, 이미 있는 이메일만 BCrypt 전에 걸러낸다)
+     * BCrypt 해싱 동안에는 커넥션을 잡지 않는다.
+     * 이메일은 정규화(공백 제거 + 소문자)해 저장한다. (일괄 등록과 같은 규칙)
+     * 휴대폰 번호를 입력했으면 SMS 인증 완료 표시가 있어야 하며, 표시는 가입 시도에서 소비된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateEmailException(request.getEmail());
+        String email = EmailUtils.normalize(request.getEmail());
+        if (emailExistenceIndex.exists(email)) {
+            throw new DuplicateEmailException(email);
+        }
+        // 휴대폰 번호를 등록하려면 인증을 마쳐야 한다 (인증 표시는 여기서 소비)
+        if (StringUtils.hasText(request.getPhone())
+                && !smsVerificationService.consumeVerification(request.getPhone())) {
+            throw new PhoneNotVerifiedException("휴대폰 인증을 먼저 완료해주세요.");
         }
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
         User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .email(email)
+                .password(encodedPassword)
                 .name(request.getName())
                 .phone(request.getPhone())
                 .role(request.getRole())
                 .build();
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 이메일 유니크 제약 위반만 중복으로 본다 (NOT NULL/길이 위반 등은 그대로 전파)
+            if (isUniqueViolation(e)) {
+                throw new DuplicateEmailException(email);
+            }
+            throw e;
+        }
 
         log.info("유저 회원가입:{}, 권한 :{}", savedUser.getEmail(), savedUser.getRole());
 
@@ -62,27 +106,48 @@ public class AuthService {
                 .build();
     }
 
-    public LoginResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-        User user = userRepository.findByEmailAndIsActiveTrue(request.getEmail())
-                .orElseThrow(() -> new UserNotFoundException(request.getEmail()));
+    /**
+     * 이메일 사용 가능 여부 (가입 폼 입력 중 반복 호출됨)
+     * 인덱스가 "없음"으로 판정하면 커넥션을 잡지 않도록 트랜잭션 밖에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isEmailAvailable(String email) {
+        return !emailExistenceIndex.exists(email);
+    }
 
-        Authentication authWithRole = new UsernamePasswordAuthenticationToken(
-                authentication.getPrincipal(),
-                authentication.getCredentials(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
+    /**
+     * 로그인
+     * 사용자 조회는 UserDetailsService에서 한 번만 하고 인증 주체(CustomUserDetails)에 실린 User를 그대로 쓴다.
+     * 트랜잭션 밖에서 실행되므로 BCrypt 검증 동안 DB 커넥션을 점유하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResponse login(LoginRequest request, String clientIp, String device) {
+        // 계정/IP 실패 한도 확인 - 차단 중이면 BCrypt 이전에 거절
+        String email = EmailUtils.normalize(request.getEmail());
+        int previousFailures = loginThrottleService.checkAllowed(email, clientIp);
+
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, request.getPassword())
+            );
+        } catch (BadCredentialsException e) {
+            loginThrottleService.recordFailure(email, clientIp);
+            throw new LoginFailedException();
+        }
+        if (previousFailures > 0) {
+            loginThrottleService.reset(email);
+        }
+        User user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
 
-        String accessToken = jwtTokenService.createAccessToken(authWithRole, user);
-        String refreshToken = jwtTokenService.createRefreshToken(user.getEmail(), user.getId());
+        // 기기마다 별도 세션 - 다른 기기의 기존 세션은 유지된다
+        JwtTokenService.IssuedTokens tokens = jwtTokenService.createSession(user, device);
 
         log.info("유저 로그인 {}", user.getEmail());
 
         return LoginResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
                 .tokenType(Jwt.TOKEN_TYPE_BEARER)
                 .expiresIn(Jwt.ACCESS_TOKEN_EXPIRE_SECONDS)
                 .user(LoginResponse.UserInfo.builder()
@@ -95,39 +160,63 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 토큰 갱신
+     * 리프레시 토큰 검증은 로컬에서, 회전(비교-교체)은 Redis 스크립트 한 번으로 처리한다.
+     * Redis 저하 모드에서는 회전할 수 없으므로 DB 조회 전에 바로 거절한다. (클라이언트는 기존 액세스 토큰으로 계속 요청)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse refreshToken(String refreshToken) {
-        String username = jwtTokenService.getUsernameFromToken(refreshToken);
-        String storedToken= redisTemplate.opsForValue().get(Redis.PREFIX_REFRESH_TOKEN + username);
-
-        if(storedToken==null || !storedToken.equals(refreshToken)){
-            throw new RuntimeException(Message.Error.INVALID_TOKEN);
+        if (redisCircuitBreaker.isDegraded()) {
+            throw new BusinessException(ErrorCode.SESSION_STORE_UNAVAILABLE);
         }
+        org.springframework.security.oauth2.jwt.Jwt jwt;
+        try {
+            jwt = jwtTokenService.decodeRefreshToken(refreshToken);
+        } catch (JwtException e) {
+            throw new InvalidTokenException();
+        }
+        String username = jwt.getSubject();
 
         User user = userRepository.findByEmailAndIsActiveTrue(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        Authentication auth = new UsernamePasswordAuthenticationToken(
-                username,null,Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
-
-        String newAccessToken = jwtTokenService.createAccessToken(auth, user);
-        String newRefreshToken = jwtTokenService.createRefreshToken(user.getEmail(), user.getId());
+        JwtTokenService.IssuedTokens tokens = jwtTokenService.rotateSession(jwt, user);
 
         return TokenResponse.builder()
-                .accessToken(newAccessToken)
-                .refreshToken(newRefreshToken)
+                .accessToken(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
                 .tokenType(Jwt.TOKEN_TYPE_BEARER)
                 .expiresIn(Jwt.ACCESS_TOKEN_EXPIRE_SECONDS)
                 .build();
     }
 
-    @Transactional
+    /**
+     * 로그아웃 - 현재 기기의 세션만 종료
+     */
     public void logout(String token) {
-        jwtTokenService.blacklistToken(token);
-
-        String username=jwtTokenService.getUsernameFromToken(token);
-        redisTemplate.delete(Redis.PREFIX_REFRESH_TOKEN + username);
+        String username = jwtTokenService.logout(token);
 
         log.info("유저 로그아웃:{}", username);
     }
+
+    /**
+     * 모든 기기에서 로그아웃
+     */
+    public void logoutAll(Long userId) {
+        sessionService.revokeAllSessions(userId);
+    }
+
+    /**
+     * 유니크 제약 위반(SQLState 23505) 여부
+     * users 테이블의 유니크 제약은 이메일뿐이다. (ID는 시퀀스)
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,77 @@
+package com.edumanager.domain.auth;
+
+import com.edumanager.domain.auth.dto.response.SessionResponse;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.security.jwt.JwtTokenService;
+import com.edumanager.security.jwt.RefreshSessionStore;
+import com.edumanager.security.jwt.TokenEpochRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 기기별 로그인 세션 조회/종료
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SessionService {
+
+    private final RefreshSessionStore refreshSessionStore;
+    private final JwtTokenService jwtTokenService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    public List<SessionResponse> getSessions(Long userId, String currentSessionId) {
+        return refreshSessionStore.findAll(userId).stream()
+                .map(session -> SessionResponse.builder()
+                        .sessionId(session.sessionId())
+                        .device(session.device())
+                        .createdAt(session.createdAt())
+                        .lastUsedAt(session.lastUsedAt())
+                        .expiresAt(session.expiresAt())
+                        .current(session.sessionId().equals(currentSessionId))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 세션 하나 종료 - 그 기기의 리프레시 토큰과 마지막 액세스 토큰을 폐기한다.
+     */
+    public void revokeSession(Long userId, String sessionId) {
+        RefreshSessionStore.Session session = refreshSessionStore.revoke(userId, sessionId);
+        if (session == null) {
+            throw new BusinessException(ErrorCode.SESSION_NOT_FOUND);
+        }
+        jwtTokenService.revokeAccessToken(session);
+
+        log.info("세션 종료: userId={}, sessionId={}", userId, sessionId);
+    }
+
+    /**
+     * 모든 세션 종료
+     * 토큰 에포크를 올려 이 사용자에게 발급된 액세스/리프레시 토큰을 한 번에 무효화한다.
+     */
+    public void revokeAllSessions(Long userId) {
+        tokenEpochRegistry.bump(userId);
+        refreshSessionStore.revokeAll(userId);
+
+        log.info("전체 세션 종료: userId={}", userId);
+    }
+
+    /**
+     * 여러 사용자의 모든 세션 일괄 종료 (관리자)
+     * 사용자 수와 관계없이 파이프라인 몇 번으로 끝난다.
+     */
+    public void revokeAllSessions(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(userIds));
+        tokenEpochRegistry.bumpAll(ids);
+        refreshSessionStore.revokeAll(ids);
+
+        log.info("세션 일괄 종료: count={}", ids.size());
+    }
+}
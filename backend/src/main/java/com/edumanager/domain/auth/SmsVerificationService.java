@@ -1,33 +1,282 @@
 package com.edumanager.domain.auth;
 
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.domain.auth.sms.SmsDispatcher;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
 import com.edumanager.exception.sms.InvalidVerificationCodeException;
+import com.edumanager.exception.sms.TooManyRequestsException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 import static com.edumanager.common.constant.AppConstants.Sms.*;
 import static com.edumanager.common.constant.AppConstants.Redis.*;
 
+/**
+ * 휴대폰 인증번호 발송/확인
+ *
+ * 발송 간격/일일 한도 확인과 인증번호 저장은 Lua 스크립트 한 번으로 처리하고,
+ * 실제 발송은 SMS 전용 스레드 풀에 맡긴다.
+ * 인증번호 키와 발송 기록 키는 같은 해시 태그({번호})를 써서 클러스터에서도 같은 슬롯에 둔다.
+ * 번호별 한도와 별도로 IP별/전체 발송 한도를 두어 여러 번호로 돌려가며 요청하는 문자 폭탄을 막는다.
+ *
+ * Redis 호출은 차단기를 거친다. 한도 확인/인증번호 확인은 Redis 없이 판단할 수 없으므로
+ * 저하 모드나 타임아웃이면 503으로 거절하고, 한도 반환은 실패해도 윈도가 지나면 풀리므로 로그만 남긴다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SmsVerificationService {
-    private final RedisTemplate<String,String> redisTemplate;
 
+    private static final RedisScript<List> SEND_QUOTA_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/sms-send-quota.lua"), List.class);
+    private static final RedisScript<List> VERIFY_ATTEMPT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/sms-verify-attempt.lua"), List.class);
+    private static final RedisScript<Long> SEND_REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/sms-send-refund.lua"), Long.class);
+    // 로그인 시도 제한과 같은 슬라이딩 윈도 스크립트 (IP별/전체 발송 한도)
+    private static final RedisScript<List> THROTTLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/login-throttle.lua"), List.class);
+    private static final String MODE_RECORD = "fail";
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int CODE_BOUND = (int) Math.pow(10, CODE_LENGTH);
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final long SENT = 0L;
+    private static final long INTERVAL_LIMITED = 1L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SmsDispatcher smsDispatcher;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Value("${app.sms.send-limit.window:PT1H}")
+    private Duration sendLimitWindow;
+
+    @Value("${app.sms.send-limit.ip-max:20}")
+    private int ipSendLimit;
+
+    @Value("${app.sms.send-limit.global-max:1000}")
+    private int globalSendLimit;
+
+    /**
+     * IP별/전체 발송 한도에 기록한 발송 한 건 (반환 시 이 멤버만 지운다)
+     */
+    private record SendSlot(String key, String member) {
+    }
+
+    /**
+     * 인증번호 발송
+     * IP별/전체 발송 한도를 먼저 차지한 뒤 번호별 발송 간격/일일 한도를 확인한다.
+     * 한도를 넘으면 차지한 한도를 돌려주고 429와 함께 재시도 가능 시각(Retry-After)을 알려준다.
+     * 발송기가 설정되지 않았으면 한도를 소비하지 않고 503으로 거절한다.
+     *
+     * @param clientIp 요청 IP (IP별 한도 키)
+     */
+    public void sendVerificationCode(String phoneNumber, String clientIp) {
+        if (!smsDispatcher.isAvailable()) {
+            throw new BusinessException(ErrorCode.SMS_UNAVAILABLE);
+        }
+        String phone = normalize(phoneNumber);
+        String code = newCode();
+
+        ZonedDateTime now = ZonedDateTime.now(QUOTA_ZONE);
+        String nowMillis = String.valueOf(now.toInstant().toEpochMilli());
+        String today = now.toLocalDate().format(DateTimeFormatter.BASIC_ISO_DATE);
+        long untilTomorrow = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(QUOTA_ZONE)).toMillis();
 
-    public void sendVerificationCode(String phoneNumber){
+        List<SendSlot> slots = acquireSendSlots(clientIp, nowMillis);
 
+        List<?> result;
+        try {
+            result = redisCircuitBreaker.execute(RedisOperation.SMS,
+                    () -> stringRedisTemplate.execute(SEND_QUOTA_SCRIPT,
+                            List.of(countKey(phone), codeKey(phone)),
+                            nowMillis,
+                            String.valueOf(TimeUnit.SECONDS.toMillis(SEND_INTERVAL_SECONDS)),
+                            String.valueOf(MAX_SEND_COUNT_PER_DAY),
+                            today,
+                            code,
+                            String.valueOf(TimeUnit.SECONDS.toMillis(SMS_CODE_TTL)),
+                            String.valueOf(untilTomorrow)),
+                    SmsVerificationService::sendUnavailable);
+        } catch (RuntimeException e) {
+            releaseSendSlots(slots);
+            throw e;
+        }
 
+        long status = result != null && !result.isEmpty() ? ((Number) result.get(0)).longValue() : SENT;
+        if (status != SENT) {
+            releaseSendSlots(slots);
+            long retryAfterSeconds = Math.max(1L, (((Number) result.get(1)).longValue() + 999) / 1000);
+            throw new TooManyRequestsException(status == INTERVAL_LIMITED
+                    ? "잠시 후 다시 요청해주세요."
+                    : "오늘 인증번호 요청 횟수를 초과했습니다.", retryAfterSeconds);
+        }
 
+        try {
+            smsDispatcher.dispatch(phone, "[EduManager] 인증번호 [" + code + "]를 입력해주세요.");
+        } catch (TaskRejectedException e) {
+            // 발송하지 못했으므로 인증번호를 지우고 번호별/IP별/전체 한도를 모두 돌려준다
+            redisCircuitBreaker.run(RedisOperation.SMS,
+                    () -> stringRedisTemplate.execute(SEND_REFUND_SCRIPT,
+                            List.of(countKey(phone), codeKey(phone)),
+                            today,
+                            nowMillis),
+                    () -> log.warn("SMS 번호별 한도 반환 건너뜀 (Redis 저하)"));
+            releaseSendSlots(slots);
+            log.warn("SMS 발송 대기열 초과: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.SMS_BUSY);
+        }
     }
 
+    /**
+     * IP별, 전체 순으로 발송 한도 한 칸씩 차지
+     * 로그인 시도 제한과 같은 슬라이딩 윈도 스크립트를 쓰며, 'fail' 모드로 발송 한 건을 기록한다.
+     * 기록 후 윈도 안의 건수가 한도를 넘으면 방금 기록을 지우고(앞서 차지한 칸도 반환) 거절한다.
+     */
+    private List<SendSlot> acquireSendSlots(String clientIp, String nowMillis) {
+        List<SendSlot> slots = new ArrayList<>(2);
+        String window = String.valueOf(sendLimitWindow.toMillis());
+        try {
+            acquireSendSlot(slots, ipSendKey(clientIp), ipSendLimit, nowMillis, window,
+                    "같은 네트워크에서 인증번호 요청이 너무 많습니다. 잠시 후 다시 요청해주세요.");
+            acquireSendSlot(slots, PREFIX_SMS_SEND + "global", globalSendLimit, nowMillis, window,
+                    "인증번호 요청이 많습니다. 잠시 후 다시 요청해주세요.");
+        } catch (RuntimeException e) {
+            releaseSendSlots(slots);
+            throw e;
+        }
+        return slots;
+    }
 
-    private boolean verifyCode(String phoneNumber, String inputCode){
-        String codeKey = PREFIX_SMS_CODE + phoneNumber;
-        String saveCode = redisTemplate.opsForValue().get(codeKey);
+    private void acquireSendSlot(List<SendSlot> slots, String key, int limit, String nowMillis, String window,
+                                 String message) {
+        String member = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        List<?> result = redisCircuitBreaker.execute(RedisOperation.SMS,
+                () -> stringRedisTemplate.execute(THROTTLE_SCRIPT,
+                        List.of(key),
+                        MODE_RECORD,
+                        nowMillis,
+                        window,
+                        window,
+                        String.valueOf(limit),
+                        member),
+                SmsVerificationService::sendUnavailable);
+        slots.add(new SendSlot(key, member));
+        long count = result != null && !result.isEmpty() ? ((Number) result.get(0)).longValue() : 0L;
+        if (count > limit) {
+            long retryAfterMillis = result.size() > 1 ? ((Number) result.get(1)).longValue() : 0L;
+            throw new TooManyRequestsException(message, Math.max(1L, (retryAfterMillis + 999) / 1000));
+        }
+    }
 
-        if(saveCode == null){
+    private void releaseSendSlots(List<SendSlot> slots) {
+        for (SendSlot slot : slots) {
+            try {
+                redisCircuitBreaker.run(RedisOperation.SMS,
+                        () -> stringRedisTemplate.opsForZSet().remove(slot.key(), slot.member()),
+                        () -> log.warn("SMS 발송 한도 반환 건너뜀 (Redis 저하): key={}", slot.key()));
+            } catch (RuntimeException e) {
+                log.warn("SMS 발송 한도 반환 실패: key={}, {}", slot.key(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인증번호 확인
+     * 시도 횟수는 Redis에서 먼저 올리고, 번호 비교는 상수 시간으로 한다.
+     * 최대 시도 횟수에 도달하면 인증번호가 폐기되어 다시 발송받아야 한다.
+     */
+    public void verifyCode(String phoneNumber, String inputCode) {
+        String phone = normalize(phoneNumber);
+
+        List<?> result = redisCircuitBreaker.execute(RedisOperation.SMS,
+                () -> stringRedisTemplate.execute(VERIFY_ATTEMPT_SCRIPT,
+                        List.of(codeKey(phone)),
+                        String.valueOf(MAX_VERIFY_ATTEMPTS)),
+                SmsVerificationService::degraded);
+
+        long attempts = result != null && !result.isEmpty() ? ((Number) result.get(0)).longValue() : 0L;
+        if (attempts == 0) {
             throw new InvalidVerificationCodeException("인증번호가 만료되었습니다.");
         }
-        return true;
+
+        String savedCode = (String) result.get(1);
+        if (!MessageDigest.isEqual(savedCode.getBytes(StandardCharsets.UTF_8),
+                inputCode.getBytes(StandardCharsets.UTF_8))) {
+            throw new InvalidVerificationCodeException(attempts >= MAX_VERIFY_ATTEMPTS
+                    ? "인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요."
+                    : "인증번호가 일치하지 않습니다.");
+        }
+
+        // 인증 완료 표시를 남기지 못하면 성공으로 응답하지 않는다 (가입에서 다시 막히므로)
+        redisCircuitBreaker.run(RedisOperation.SMS,
+                () -> {
+                    stringRedisTemplate.delete(codeKey(phone));
+                    stringRedisTemplate.opsForValue()
+                            .set(PREFIX_SMS_VERIFIED + phone, "1", SMS_VERIFIED_TTL, TimeUnit.SECONDS);
+                },
+                SmsVerificationService::degraded);
     }
 
+    /**
+     * 인증 완료 표시 소비 (인증 후 SMS_VERIFIED_TTL 동안 유효, 한 번 쓰면 사라진다)
+     * 같은 인증으로 두 번 가입하지 못하도록 주 노드에서 GETDEL로 확인과 삭제를 한 번에 한다.
+     *
+     * @return 인증 완료 표시가 있었으면 true
+     */
+    public boolean consumeVerification(String phoneNumber) {
+        String key = PREFIX_SMS_VERIFIED + normalize(phoneNumber);
+        return redisCircuitBreaker.execute(RedisOperation.SMS,
+                () -> stringRedisTemplate.opsForValue().getAndDelete(key),
+                SmsVerificationService::degraded) != null;
+    }
+
+    private static <T> T sendUnavailable() {
+        throw new BusinessException(ErrorCode.SMS_UNAVAILABLE);
+    }
+
+    private static <T> T degraded() {
+        throw new BusinessException(ErrorCode.SERVICE_DEGRADED);
+    }
+
+    private static String newCode() {
+        return String.format("%0" + CODE_LENGTH + "d", SECURE_RANDOM.nextInt(CODE_BOUND));
+    }
+
+    private static String normalize(String phoneNumber) {
+        return phoneNumber.replace("-", "").trim();
+    }
+
+    private static String codeKey(String phone) {
+        return PREFIX_SMS_CODE + "{" + phone + "}";
+    }
+
+    private static String ipSendKey(String clientIp) {
+        return PREFIX_SMS_SEND + "ip:" + clientIp;
+    }
+
+    private static String countKey(String phone) {
+        return PREFIX_SMS_COUNT + "{" + phone + "}";
+    }
 }
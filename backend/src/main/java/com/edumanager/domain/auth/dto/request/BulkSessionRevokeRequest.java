@@ -0,0 +1,16 @@
+package com.edumanager.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class BulkSessionRevokeRequest {
+    @NotEmpty(message = "사용자 ID 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000명까지 처리할 수 있습니다.")
+    private List<Long> userIds;
+}
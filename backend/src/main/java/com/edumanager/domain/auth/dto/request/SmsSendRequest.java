@@ -0,0 +1,16 @@
+package com.edumanager.domain.auth.dto.request;
+
+import com.edumanager.common.constant.ValidationMessages;
+import com.edumanager.common.validation.annotation.ValidPhone;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SmsSendRequest {
+
+    @NotBlank(message = "휴대폰 번호는 필수입니다.")
+    @ValidPhone(message = ValidationMessages.PHONE_INVALID)
+    private String phone;
+}
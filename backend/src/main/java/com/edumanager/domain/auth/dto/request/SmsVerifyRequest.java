@@ -0,0 +1,21 @@
+package com.edumanager.domain.auth.dto.request;
+
+import com.edumanager.common.constant.ValidationMessages;
+import com.edumanager.common.validation.annotation.ValidPhone;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SmsVerifyRequest {
+
+    @NotBlank(message = "휴대폰 번호는 필수입니다.")
+    @ValidPhone(message = ValidationMessages.PHONE_INVALID)
+    private String phone;
+
+    @NotBlank(message = "인증번호는 필수입니다.")
+    @Pattern(regexp = "^[0-9]{6}$", message = "인증번호는 6자리 숫자입니다.")
+    private String code;
+}
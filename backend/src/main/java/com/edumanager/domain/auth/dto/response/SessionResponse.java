@@ -0,0 +1,18 @@
+package com.edumanager.domain.auth.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+public class SessionResponse {
+    private String sessionId;
+    private String device;
+    private Instant createdAt;
+    private Instant lastUsedAt;
+    private Instant expiresAt;
+    // 이 요청을 보낸 세션인지 여부
+    private boolean current;
+}
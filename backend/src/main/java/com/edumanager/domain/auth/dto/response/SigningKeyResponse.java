@@ -0,0 +1,14 @@
+package com.edumanager.domain.auth.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SigningKeyResponse {
+    private String activeKeyId;
+    private String algorithm;
+    private List<String> keyIds;
+}
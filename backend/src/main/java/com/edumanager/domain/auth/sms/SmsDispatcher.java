@@ -0,0 +1,43 @@
+package com.edumanager.domain.auth.sms;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * SMS 비동기 발송
+ * smsTaskExecutor 대기열에 넣고 바로 반환하므로 HTTP 스레드가 발송 업체 응답을 기다리지 않는다.
+ * 대기열이 가득 차면 호출 시점에 TaskRejectedException이 발생한다.
+ *
+ * 발송기 빈이 없어도 기동은 하며, 이때 isAvailable()이 false를 반환한다. (호출 측에서 503으로 응답)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmsDispatcher {
+
+    private final ObjectProvider<SmsSender> smsSender;
+
+    /**
+     * 발송기 설정 여부 (app.sms.provider에 맞는 SmsSender 빈이 있는지)
+     */
+    public boolean isAvailable() {
+        return smsSender.getIfAvailable() != null;
+    }
+
+    @Async("smsTaskExecutor")
+    public void dispatch(String phoneNumber, String message) {
+        SmsSender sender = smsSender.getIfAvailable();
+        if (sender == null) {
+            log.error("SMS 발송기가 설정되지 않아 발송하지 못함");
+            return;
+        }
+        try {
+            sender.send(phoneNumber, message);
+        } catch (Exception e) {
+            log.error("SMS 발송 실패: {}", e.getMessage(), e);
+        }
+    }
+}
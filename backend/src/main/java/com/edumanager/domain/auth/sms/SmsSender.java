@@ -0,0 +1,16 @@
+package com.edumanager.domain.auth.sms;
+
+/**
+ * SMS 발송 업체 연동 지점
+ * 업체별 구현체를 빈으로 등록하고 app.sms.provider 값으로 선택한다.
+ * 선택된 구현체가 없으면 발송 기능만 비활성화된다. (SMS_UNAVAILABLE)
+ */
+public interface SmsSender {
+
+    /**
+     * 문자 발송 (SMS 전용 스레드에서 호출된다)
+     *
+     * @param phoneNumber 하이픈 없는 휴대폰 번호
+     */
+    void send(String phoneNumber, String message);
+}
@@ -0,0 +1,30 @@
+package com.edumanager.domain.auth.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 발송기 - 실제로 발송하지 않고 로그만 남긴다.
+ * 본문의 숫자(인증 코드)는 가려서 남기고, prod 프로필에서는 등록하지 않는다.
+ * (발송기 빈이 없으면 인증번호 발송 요청은 503으로 거절된다)
+ */
+@Slf4j
+@Component
+@Profile("!prod")
+@ConditionalOnProperty(prefix = "app.sms", name = "provider", havingValue = "stub")
+public class StubSmsSender implements SmsSender {
+
+    @Override
+    public void send(String phoneNumber, String message) {
+        log.info("[SMS stub] to={}, message={}", mask(phoneNumber), message.replaceAll("\\d", "*"));
+    }
+
+    private static String mask(String phoneNumber) {
+        if (phoneNumber.length() < 8) {
+            return "****";
+        }
+        return phoneNumber.substring(0, 3) + "****" + phoneNumber.substring(phoneNumber.length() - 4);
+    }
+}
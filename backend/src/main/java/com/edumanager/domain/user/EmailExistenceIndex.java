@@ -0,0 +1,221 @@
+package com.edumanager.domain.user;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.common.util.EmailUtils;
+import com.edumanager.common.util.ScalableBloomFilter;
+import com.edumanager.domain.user.event.UserRegisteredEvent;
+import com.edumanager.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static com.edumanager.common.constant.AppConstants.Redis.CHANNEL_USER_EMAIL;
+
+/**
+ * 가입된 이메일의 로컬 인덱스 (이메일 중복 확인용)
+ *
+ * 정규화(trim, 소문자)한 users.email을 확장형 블룸 필터에 담아 두고,
+ * 필터가 "확실히 없음"이라고 답하면 DB를 조회하지 않는다. "있을 수도 있음"일 때만 existsByEmail로 확인한다.
+ *
+ * - 기동 시 users 테이블을 스트리밍해 필터를 만들고, 주기적으로 다시 만든다. (탈퇴 이메일 정리, 놓친 메시지 보정)
+ * - 가입이 커밋되면 로컬 필터에 추가하고 Pub/Sub으로 다른 노드에 전파한다.
+ *   전파는 Redis 차단기를 거치며, 저하 모드면 건너뛰고 다음 재구성에 맡긴다.
+ * - 첫 구성 전에는 필터를 신뢰하지 않고 항상 DB를 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailExistenceIndex implements MessageListener {
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Value("${app.user.email-index.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${app.user.email-index.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private final AtomicReference<ScalableBloomFilter> filter = new AtomicReference<>();
+    // 재구성 중 추가된 이메일은 새 필터에도 넣는다
+    private volatile ScalableBloomFilter rebuilding;
+    private volatile boolean synced = false;
+    private volatile long lastRebuildCount = 0;
+
+    private Counter filterNegative;
+    private Counter databaseHit;
+    private Counter databaseMiss;
+
+    @PostConstruct
+    void init() {
+        this.filter.set(newFilter());
+        this.filterNegative = checkCounter("filter_negative");
+        this.databaseHit = checkCounter("db_exists");
+        this.databaseMiss = checkCounter("db_absent");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_USER_EMAIL));
+    }
+
+    /**
+     * 이메일 사용 여부
+     * 대부분의 "사용 가능" 응답은 필터에서 I/O 없이 끝난다.
+     */
+    public boolean exists(String email) {
+        if (synced && !filter.get().mightContain(normalize(email))) {
+            filterNegative.increment();
+            return false;
+        }
+        boolean exists = userRepository.existsByEmail(normalize(email));
+        (exists ? databaseHit : databaseMiss).increment();
+        return exists;
+    }
+
+    /**
+     * 가입이 커밋된 뒤 인덱스에 추가하고 다른 노드에 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        String email = normalize(event.email());
+        addLocal(email);
+        try {
+            redisCircuitBreaker.run(RedisOperation.PUBLISH,
+                    () -> stringRedisTemplate.convertAndSend(CHANNEL_USER_EMAIL, email),
+                    () -> log.warn("이메일 인덱스 전파 건너뜀 (Redis 저하)"));
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 반영된다 (그 전까지는 가입 시 existsByEmail이 중복을 막는다)
+            log.warn("이메일 인덱스 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 등록(JDBC)으로 저장된 이메일 추가
+     * JPA 이벤트를 거치지 않으므로 호출 측에서 직접 알리고, 전파는 PUBLISH 파이프라인 한 번으로 보낸다.
+     */
+    public void addAll(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        List<String> normalized = emails.stream().map(EmailExistenceIndex::normalize).toList();
+        normalized.forEach(this::addLocal);
+
+        byte[] channel = CHANNEL_USER_EMAIL.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisCircuitBreaker.run(RedisOperation.PUBLISH,
+                    () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (String email : normalized) {
+                            connection.publish(channel, email.getBytes(StandardCharsets.UTF_8));
+                        }
+                        return null;
+                    }),
+                    () -> log.warn("이메일 인덱스 일괄 전파 건너뜀 (Redis 저하): count={}", normalized.size()));
+        } catch (Exception e) {
+            log.warn("이메일 인덱스 일괄 전파 실패: count={}, error={}", normalized.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)의 가입 이벤트 수신
+     * 메시지 형식: 정규화된 이메일
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedDelayString = "${app.user.email-index.resync-interval:PT6H}",
+            initialDelayString = "${app.user.email-index.resync-interval:PT6H}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * users 테이블을 스트리밍해 필터를 새로 만든 뒤 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ScalableBloomFilter rebuilt = newFilter();
+        rebuilding = rebuilt;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        Long count;
+        try {
+            count = transactionTemplate.execute(status -> {
+                long scanned = 0;
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    for (String email : (Iterable<String>) emails::iterator) {
+                        rebuilt.put(normalize(email));
+                        scanned++;
+                    }
+                }
+                return scanned;
+            });
+        } catch (Exception e) {
+            rebuilding = null;
+            log.error("이메일 인덱스 구성 실패 (기존 상태 유지): {}", e.getMessage());
+            return;
+        }
+
+        // 교체 후에 해제해야 그 사이 추가된 이메일이 빠지지 않는다 (addLocal과 순서 반대)
+        filter.set(rebuilt);
+        rebuilding = null;
+        lastRebuildCount = count != null ? count : 0;
+        synced = true;
+
+        log.info("이메일 인덱스 구성 완료: count={}, layers={}, bits={}, elapsed={}ms",
+                lastRebuildCount, rebuilt.layerCount(), rebuilt.bitSize(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void addLocal(String normalizedEmail) {
+        ScalableBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(normalizedEmail);
+        }
+        filter.get().put(normalizedEmail);
+    }
+
+    // 사용자가 설정값보다 많으면 다음 재구성부터 첫 층을 키워 층 수를 줄인다
+    private ScalableBloomFilter newFilter() {
+        return new ScalableBloomFilter(Math.max(expectedInsertions, lastRebuildCount * 2), falsePositiveRate);
+    }
+
+    private Counter checkCounter(String result) {
+        return Counter.builder("user.email.check")
+                .description("이메일 중복 확인 판정 경로")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String normalize(String email) {
+        return EmailUtils.normalize(email);
+    }
+}
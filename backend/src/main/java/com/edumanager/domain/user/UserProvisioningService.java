@@ -0,0 +1,223 @@
+package com.edumanager.domain.user;
+
+import com.edumanager.common.util.EmailUtils;
+import com.edumanager.domain.user.dto.request.BulkUserRow;
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse;
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse.Failure;
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.security.password.BulkPasswordHasher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 일괄 등록 (학기 시작 시 학생 계정 생성 등)
+ *
+ * 행마다 JPA save를 하면 행당 nextval + INSERT 왕복과 순차 BCrypt가 쌓여 수천 명에 수십 분이 걸린다.
+ * 여기서는 청크 단위로
+ * 1) 이미 가입된 이메일을 쿼리 한 번으로 걸러 해싱 비용을 아끼고
+ * 2) 남은 비밀번호를 ForkJoinPool에서 병렬 해싱한 뒤
+ * 3) unnest 배열 INSERT 한 문장으로 저장한다. ID는 같은 문장 안에서 nextval로 받으므로 추가 왕복이 없다.
+ * 중복은 유니크 제약(ON CONFLICT DO NOTHING)으로 판정하고, 실패한 행만 사유와 함께 돌려준다.
+ * 청크마다 별도로 커밋되므로 한 청크의 오류가 다른 청크를 되돌리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT email FROM users WHERE email = ANY (?)";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, password, name, phone, role, is_active, is_verified, create_at, updated_at)
+            SELECT nextval('user_sequence'), u.email, u.password, u.name, u.phone, u.role, true, false, now(), now()
+            FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[]) AS u(email, password, name, phone, role)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING email
+            """;
+
+    private static final String REASON_DUPLICATE = "이미 사용중인 이메일입니다.";
+    private static final String REASON_DUPLICATE_IN_REQUEST = "요청 안에 같은 이메일이 있습니다.";
+    private static final String REASON_ADMIN = "관리자 계정은 일괄 등록할 수 없습니다.";
+    private static final String REASON_SAVE_FAILED = "저장에 실패했습니다.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final BulkPasswordHasher bulkPasswordHasher;
+    private final EmailExistenceIndex emailExistenceIndex;
+
+    /**
+     * 청크 저장 결과
+     *
+     * @param createdEmails 실제로 저장된 이메일
+     * @param failures      중복 등으로 저장하지 않은 행
+     */
+    public record ChunkResult(List<String> createdEmails, List<Failure> failures) {
+    }
+
+    /**
+     * 검증을 통과한 행 (index는 원본 목록/파일에서의 위치)
+     */
+    public record PendingUser(int index, BulkUserRow row) {
+        String email() {
+            return EmailUtils.normalize(row.getEmail());
+        }
+    }
+
+    public BulkUserCreateResponse createUsers(List<BulkUserRow> rows) {
+        long startedAt = System.currentTimeMillis();
+        List<Failure> failures = new ArrayList<>();
+        List<PendingUser> accepted = new ArrayList<>(rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            BulkUserRow row = rows.get(i);
+            String reason = validate(row);
+            if (reason != null) {
+                failures.add(new Failure(i, row != null ? row.getEmail() : null, reason));
+            } else {
+                accepted.add(new PendingUser(i, row));
+            }
+        }
+
+        int created = 0;
+        for (int from = 0; from < accepted.size(); from += CHUNK_SIZE) {
+            List<PendingUser> chunk = accepted.subList(from, Math.min(from + CHUNK_SIZE, accepted.size()));
+            try {
+                ChunkResult result = insertChunk(chunk);
+                created += result.createdEmails().size();
+                failures.addAll(result.failures());
+            } catch (DataAccessException e) {
+                log.error("사용자 일괄 등록 청크 저장 실패: size={}, error={}", chunk.size(), e.getMessage());
+                chunk.forEach(u -> failures.add(new Failure(u.index(), u.email(), REASON_SAVE_FAILED)));
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(Failure::index));
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("사용자 일괄 등록: requested={}, created={}, failed={}, elapsed={}ms",
+                rows.size(), created, failures.size(), elapsed);
+
+        return BulkUserCreateResponse.builder()
+                .requested(rows.size())
+                .created(created)
+                .failed(failures.size())
+                .elapsedMillis(elapsed)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * 검증을 통과한 행 묶음 저장 (최대 CHUNK_SIZE개 권장)
+     * 같은 청크 안의 중복 이메일은 첫 행만 저장하고, 앞선 청크나 기존 사용자와의 중복은 유니크 제약으로 판정한다.
+     * 저장된 이메일은 이메일 인덱스에 반영한다.
+     *
+     * @throws DataAccessException 청크 전체 저장 실패 (커밋된 행 없음)
+     */
+    public ChunkResult insertChunk(List<PendingUser> chunk) {
+        List<Failure> failures = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> unique = new ArrayList<>(chunk.size());
+        for (PendingUser user : chunk) {
+            if (seenEmails.add(user.email())) {
+                unique.add(user);
+            } else {
+                failures.add(new Failure(user.index(), user.email(), REASON_DUPLICATE_IN_REQUEST));
+            }
+        }
+
+        Set<String> existing = new HashSet<>(jdbcTemplate.query(SELECT_EXISTING_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text",
+                        unique.stream().map(PendingUser::email).toArray())),
+                (rs, rowNum) -> rs.getString(1)));
+
+        List<PendingUser> toInsert = new ArrayList<>(unique.size());
+        for (PendingUser user : unique) {
+            if (existing.contains(user.email())) {
+                failures.add(new Failure(user.index(), user.email(), REASON_DUPLICATE));
+            } else {
+                toInsert.add(user);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return new ChunkResult(List.of(), failures);
+        }
+
+        List<String> hashes = bulkPasswordHasher.encodeAll(toInsert.stream().map(u -> u.row().getPassword()).toList());
+
+        int size = toInsert.size();
+        String[] emails = new String[size];
+        String[] names = new String[size];
+        String[] phones = new String[size];
+        String[] roles = new String[size];
+        for (int i = 0; i < size; i++) {
+            BulkUserRow row = toInsert.get(i).row();
+            emails[i] = toInsert.get(i).email();
+            names[i] = row.getName();
+            phones[i] = row.getPhone() == null || row.getPhone().isBlank() ? null : row.getPhone();
+            roles[i] = (row.getRole() != null ? row.getRole() : UserRole.STUDENT).name();
+        }
+        String[] passwords = hashes.toArray(String[]::new);
+
+        List<String> inserted = jdbcTemplate.query(INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("text", emails));
+            ps.setArray(2, connection.createArrayOf("text", passwords));
+            ps.setArray(3, connection.createArrayOf("text", names));
+            ps.setArray(4, connection.createArrayOf("text", phones));
+            ps.setArray(5, connection.createArrayOf("text", roles));
+        }, (rs, rowNum) -> rs.getString(1));
+
+        // 조회와 INSERT 사이에 다른 요청이 먼저 가입시킨 이메일
+        if (inserted.size() < size) {
+            Set<String> insertedSet = new HashSet<>(inserted);
+            for (PendingUser user : toInsert) {
+                if (!insertedSet.contains(user.email())) {
+                    failures.add(new Failure(user.index(), user.email(), REASON_DUPLICATE));
+                }
+            }
+        }
+        emailExistenceIndex.addAll(inserted);
+        return new ChunkResult(inserted, failures);
+    }
+
+    /**
+     * 행 검증 (Bean Validation - PhoneValidator/PasswordValidator 등 + 역할 제한)
+     *
+     * @return 실패 사유 (통과하면 null)
+     */
+    public String validate(BulkUserRow row) {
+        if (row == null) {
+            return "빈 행입니다.";
+        }
+        Set<ConstraintViolation<BulkUserRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            // 여러 위반이 있으면 필드 이름순으로 첫 번째만 알려준다
+            Map<String, String> messages = new HashMap<>();
+            violations.forEach(v -> messages.putIfAbsent(v.getPropertyPath().toString(), v.getMessage()));
+            return messages.entrySet().stream()
+                    .min(Map.Entry.comparingByKey())
+                    .map(e -> e.getKey() + ": " + e.getValue())
+                    .orElse(null);
+        }
+        if (row.getRole() == UserRole.ADMIN) {
+            return REASON_ADMIN;
+        }
+        return null;
+    }
+}
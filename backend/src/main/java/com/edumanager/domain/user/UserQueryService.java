@@ -0,0 +1,86 @@
+package com.edumanager.domain.user;
+
+import com.edumanager.common.response.CursorPageResponse;
+import com.edumanager.common.util.CursorCodec;
+import com.edumanager.domain.user.dto.response.UserSummaryResponse;
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.domain.user.repository.UserRepository;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static com.edumanager.common.constant.AppConstants.Paging.MAX_PAGE_SIZE;
+
+/**
+ * 사용자 목록 조회 (키셋 페이지네이션)
+ * 커서에는 이전 페이지 마지막 행의 (정렬 키, id)가 서명되어 담기고,
+ * 다음 페이지는 그 값 이후를 (정렬 키, id) 인덱스로 바로 찾아 size + 1행만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryService {
+
+    private static final String CURSOR_SCOPE = "users";
+
+    private final UserRepository userRepository;
+    private final CursorCodec cursorCodec;
+
+    /**
+     * @param role   null이면 전체 역할
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size   1 ~ MAX_PAGE_SIZE로 보정
+     */
+    public CursorPageResponse<UserSummaryResponse> listUsers(UserRole role, UserSortKey sort, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        String scope = scopeOf(role, sort);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<UserSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = sort == UserSortKey.NAME
+                    ? userRepository.findSummariesByName(role, limit)
+                    : userRepository.findSummariesByCreatedAt(role, limit);
+        } else {
+            List<String> position = cursorCodec.decode(scope, cursor, 2);
+            Long id = parseId(position.get(1));
+            rows = sort == UserSortKey.NAME
+                    ? userRepository.findSummariesByNameAfterCursor(role, position.get(0), id, limit)
+                    : userRepository.findSummariesByCreatedAtAfterCursor(role, parseDateTime(position.get(0)), id, limit);
+        }
+
+        return CursorPageResponse.of(rows, pageSize, last -> cursorCodec.encode(scope, List.of(
+                sort == UserSortKey.NAME ? last.name() : last.createdAt().toString(),
+                last.id().toString())));
+    }
+
+    /**
+     * 커서 범위 - 정렬이나 역할 필터가 바뀌면 이전 커서는 쓸 수 없다
+     */
+    private static String scopeOf(UserRole role, UserSortKey sort) {
+        return CURSOR_SCOPE + ":" + sort + ":" + (role != null ? role : "ALL");
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.edumanager.domain.user;
+
+/**
+ * 사용자 목록 정렬 기준 (모두 id를 보조 키로 사용해 순서가 유일하다)
+ */
+public enum UserSortKey {
+    /** 가입일 최신순 */
+    CREATED_AT,
+    /** 이름 가나다순 */
+    NAME
+}
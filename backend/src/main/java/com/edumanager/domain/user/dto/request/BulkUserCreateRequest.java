@@ -0,0 +1,20 @@
+package com.edumanager.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 요청
+ * 행 단위 검증은 서비스에서 하고 실패한 행만 응답에 담는다. (한 행 때문에 전체를 거절하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+public class BulkUserCreateRequest {
+    @NotEmpty(message = "등록할 사용자 목록은 필수입니다.")
+    @Size(max = 5000, message = "한 번에 최대 5000명까지 등록할 수 있습니다.")
+    private List<BulkUserRow> users;
+}
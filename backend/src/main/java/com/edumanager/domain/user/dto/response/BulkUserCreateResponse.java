@@ -0,0 +1,24 @@
+package com.edumanager.domain.user.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkUserCreateResponse {
+    private int requested;
+    private int created;
+    private int failed;
+    private long elapsedMillis;
+    private List<Failure> failures;
+
+    /**
+     * 실패한 행
+     *
+     * @param index 요청 목록에서의 위치 (0부터)
+     */
+    public record Failure(int index, String email, String reason) {
+    }
+}
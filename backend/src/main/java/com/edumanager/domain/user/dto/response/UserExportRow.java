@@ -0,0 +1,14 @@
+package com.edumanager.domain.user.dto.response;
+
+import com.edumanager.domain.user.entity.UserRole;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 내보내기 한 행 (JPQL 생성자 프로젝션 - 영속성 컨텍스트에 올라가지 않음)
+ */
+@JsonPropertyOrder({"id", "email", "name", "phone", "role", "active", "createdAt"})
+public record UserExportRow(Long id, String email, String name, String phone, UserRole role,
+                            boolean active, LocalDateTime createdAt) {
+}
@@ -0,0 +1,47 @@
+package com.edumanager.domain.user.dto.response;
+
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse.Failure;
+import com.edumanager.domain.user.importer.UserImportJobStore.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder
+public class UserImportJobResponse {
+    private String jobId;
+    private String status;
+    private String fileName;
+    // 읽은 바이트 기준 진행률 (0~100)
+    private int progressPercent;
+    // 커밋된 행 수 (재개 시 이 행부터 다시 읽음)
+    private long processedRows;
+    private long createdRows;
+    private long failedRows;
+    private Instant startedAt;
+    private Instant updatedAt;
+    private String error;
+    // 실패 행 일부 (앞에서부터 최대 100개)
+    private List<Failure> failures;
+
+    public static UserImportJobResponse of(ImportJob job, List<Failure> failures) {
+        int percent = job.totalBytes() > 0
+                ? (int) Math.min(100, job.bytesRead() * 100 / job.totalBytes())
+                : 0;
+        return UserImportJobResponse.builder()
+                .jobId(job.jobId())
+                .status(job.status().name())
+                .fileName(job.fileName())
+                .progressPercent(percent)
+                .processedRows(job.checkpoint())
+                .createdRows(job.created())
+                .failedRows(job.failed())
+                .startedAt(job.startedAt())
+                .updatedAt(job.updatedAt())
+                .error(job.error() == null || job.error().isEmpty() ? null : job.error())
+                .failures(failures)
+                .build();
+    }
+}
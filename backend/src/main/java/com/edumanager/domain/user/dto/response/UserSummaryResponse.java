@@ -0,0 +1,12 @@
+package com.edumanager.domain.user.dto.response;
+
+import com.edumanager.domain.user.entity.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 한 행 (JPQL 생성자 프로젝션)
+ */
+public record UserSummaryResponse(Long id, String email, String name, UserRole role,
+                                  boolean active, LocalDateTime createdAt) {
+}
@@ -1,14 +1,27 @@
 package com.edumanager.domain.user.entity;
 
 import com.edumanager.domain.common.BaseTimeEntity;
+import com.edumanager.domain.user.event.UserRegisteredEvent;
+import com.edumanager.domain.user.event.UserSessionsInvalidatedEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 @Entity
-@Table(name="users")
+@Table(name = "users", indexes = {
+        // 키셋 페이지네이션 정렬 기준 (정렬 키, id)
+        @Index(name = "idx_users_create_at_id", columnList = "create_at, id"),
+        @Index(name = "idx_users_name_id", columnList = "name, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
@@ -43,6 +56,11 @@ public class User extends BaseTimeEntity {
     @Column(columnDefinition = "boolean default false")
     private boolean isVerified = false; // 학생부 인증 여부 (나중에 사용)
 
+    // save() 시 발행되는 도메인 이벤트
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     @Builder
     public User(String email, String password, String name, String phone, UserRole role) {
         this.email = email;
@@ -50,15 +68,18 @@ public class User extends BaseTimeEntity {
         this.name = name;
         this.phone = phone;
         this.role = role;
+        domainEvents.add(new UserRegisteredEvent(email));
     }
 
     // 비즈니스 메서드들
 
     /**
      * 비밀번호 변경
+     * 저장 시 기존에 발급된 모든 토큰이 무효화된다.
      */
     public void changePassword(String newPassword) {
         this.password = newPassword;
+        registerSessionsInvalidated();
     }
 
     /**
@@ -75,9 +96,13 @@ public class User extends BaseTimeEntity {
 
     /**
      * 계정 활성화/비활성화
+     * 비활성화하면 저장 시 기존에 발급된 모든 토큰이 무효화된다.
      */
     public void changeActiveStatus(boolean isActive) {
         this.isActive = isActive;
+        if (!isActive) {
+            registerSessionsInvalidated();
+        }
     }
 
     /**
@@ -86,4 +111,20 @@ public class User extends BaseTimeEntity {
     public void verify() {
         this.isVerified = true;
     }
+
+    private void registerSessionsInvalidated() {
+        if (this.id != null) {
+            domainEvents.add(new UserSessionsInvalidatedEvent(this.id));
+        }
+    }
+
+    @DomainEvents
+    protected Collection<Object> domainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    protected void clearDomainEvents() {
+        domainEvents.clear();
+    }
 }
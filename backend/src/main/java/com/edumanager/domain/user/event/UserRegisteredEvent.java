@@ -0,0 +1,9 @@
+package com.edumanager.domain.user.event;
+
+/**
+ * 신규 사용자가 저장될 때 발행되는 이벤트
+ *
+ * @param email 가입한 이메일
+ */
+public record UserRegisteredEvent(String email) {
+}
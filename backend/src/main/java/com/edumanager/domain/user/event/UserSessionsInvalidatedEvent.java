@@ -0,0 +1,10 @@
+package com.edumanager.domain.user.event;
+
+/**
+ * 사용자의 기존 토큰을 모두 무효화해야 할 때 발행되는 이벤트
+ * (비밀번호 변경, 계정 비활성화 등)
+ *
+ * @param userId 대상 사용자 ID
+ */
+public record UserSessionsInvalidatedEvent(Long userId) {
+}
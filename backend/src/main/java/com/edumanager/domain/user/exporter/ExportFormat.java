@@ -0,0 +1,25 @@
+package com.edumanager.domain.user.exporter;
+
+/**
+ * 내보내기 파일 형식
+ */
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", ".csv"),
+    NDJSON("application/x-ndjson", ".ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
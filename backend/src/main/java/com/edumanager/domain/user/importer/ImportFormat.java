@@ -0,0 +1,29 @@
+package com.edumanager.domain.user.importer;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+
+import java.util.Locale;
+
+/**
+ * 가져오기 파일 형식 (확장자로 판정)
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromFileName(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+
+    public String extension() {
+        return this == CSV ? ".csv" : ".ndjson";
+    }
+}
@@ -0,0 +1,263 @@
+package com.edumanager.domain.user.importer;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse.Failure;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_USER_IMPORT;
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_USER_IMPORT_LOCK;
+
+/**
+ * 가져오기 작업 상태 저장소 (Redis Hash)
+ *
+ * 작업은 업로드를 받은 노드에서 실행되지만 진행 상황은 Redis에 있으므로 어느 노드에서나 조회할 수 있다.
+ * 체크포인트(다음에 읽을 행 번호)와 누적 건수는 청크가 커밋될 때마다 함께 기록한다.
+ * 실패 행은 최대 max-stored-failures개까지만 리스트에 남긴다.
+ * 실행 중인 작업은 실행 락(SET NX PX)을 쥐고 체크포인트마다 임대를 연장해서, 같은 작업이 두 노드에서 동시에 돌지 않게 한다.
+ *
+ * Redis 호출은 차단기를 거친다. 작업 등록/조회는 저하 모드나 타임아웃이면 503으로 거절하고,
+ * 실행 중 상태/체크포인트 기록과 실패 행 조회는 건너뛴다. (기록을 놓친 작업은 중단된 것으로 보여 체크포인트부터 다시 실행된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserImportJobStore {
+
+    private static final Duration JOB_TTL = Duration.ofDays(7);
+    private static final String FAILURES_SUFFIX = ":failures";
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/renew-lock.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/release-lock.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Value("${app.user.import.max-stored-failures:1000}")
+    private int maxStoredFailures;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 작업 상태
+     *
+     * @param checkpoint 다음에 처리할 행 번호 (이전 행은 모두 커밋됨)
+     */
+    public record ImportJob(String jobId, Status status, String fileName, ImportFormat format, String filePath,
+                            long totalBytes, long bytesRead, long checkpoint, long created, long failed,
+                            Instant startedAt, Instant updatedAt, String error) {
+
+        static ImportJob from(String jobId, Map<Object, Object> fields) {
+            return new ImportJob(jobId,
+                    Status.valueOf(string(fields, "status")),
+                    string(fields, "fileName"),
+                    ImportFormat.valueOf(string(fields, "format")),
+                    string(fields, "filePath"),
+                    number(fields, "totalBytes"),
+                    number(fields, "bytesRead"),
+                    number(fields, "checkpoint"),
+                    number(fields, "created"),
+                    number(fields, "failed"),
+                    Instant.ofEpochMilli(number(fields, "startedAt")),
+                    Instant.ofEpochMilli(number(fields, "updatedAt")),
+                    string(fields, "error"));
+        }
+
+        private static String string(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value != null ? value.toString() : null;
+        }
+
+        private static long number(Map<Object, Object> fields, String name) {
+            Object value = fields.get(name);
+            return value != null ? Long.parseLong(value.toString()) : 0L;
+        }
+    }
+
+    public void create(String jobId, String fileName, ImportFormat format, String filePath, long totalBytes) {
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", Status.QUEUED.name());
+        fields.put("fileName", fileName);
+        fields.put("format", format.name());
+        fields.put("filePath", filePath);
+        fields.put("totalBytes", String.valueOf(totalBytes));
+        fields.put("bytesRead", "0");
+        fields.put("checkpoint", "0");
+        fields.put("created", "0");
+        fields.put("failed", "0");
+        fields.put("startedAt", now);
+        fields.put("updatedAt", now);
+        redisCircuitBreaker.run(RedisOperation.IMPORT,
+                () -> {
+                    stringRedisTemplate.opsForHash().putAll(key(jobId), fields);
+                    stringRedisTemplate.expire(key(jobId), JOB_TTL);
+                },
+                UserImportJobStore::unavailable);
+    }
+
+    public Optional<ImportJob> find(String jobId) {
+        Map<Object, Object> fields = redisCircuitBreaker.execute(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.opsForHash().entries(key(jobId)),
+                UserImportJobStore::unavailable);
+        return fields.isEmpty() ? Optional.empty() : Optional.of(ImportJob.from(jobId, fields));
+    }
+
+    public void updateStatus(String jobId, Status status, String error) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", status.name());
+        fields.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+        fields.put("error", error != null ? error : "");
+        redisCircuitBreaker.run(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.opsForHash().putAll(key(jobId), fields),
+                () -> log.warn("가져오기 상태 기록 건너뜀 (Redis 저하): jobId={}, status={}", jobId, status));
+    }
+
+    /**
+     * 청크 커밋 후 체크포인트 기록 (파이프라인 한 번)
+     */
+    public void saveCheckpoint(String jobId, long checkpoint, long created, long failed, long bytesRead,
+                               List<Failure> newFailures) {
+        byte[] jobKey = key(jobId).getBytes(StandardCharsets.UTF_8);
+        byte[] failuresKey = (key(jobId) + FAILURES_SUFFIX).getBytes(StandardCharsets.UTF_8);
+
+        Map<byte[], byte[]> fields = new HashMap<>();
+        fields.put(bytes("checkpoint"), bytes(String.valueOf(checkpoint)));
+        fields.put(bytes("created"), bytes(String.valueOf(created)));
+        fields.put(bytes("failed"), bytes(String.valueOf(failed)));
+        fields.put(bytes("bytesRead"), bytes(String.valueOf(bytesRead)));
+        fields.put(bytes("updatedAt"), bytes(String.valueOf(System.currentTimeMillis())));
+
+        // 이미 가득 찬 경우 더 넣지 않는다
+        long alreadyStored = failed - newFailures.size();
+        List<byte[]> serialized = new ArrayList<>();
+        for (int i = 0; i < newFailures.size() && alreadyStored + i < maxStoredFailures; i++) {
+            serialized.add(serialize(newFailures.get(i)));
+        }
+
+        redisCircuitBreaker.run(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    connection.hashCommands().hMSet(jobKey, fields);
+                    if (!serialized.isEmpty()) {
+                        connection.listCommands().rPush(failuresKey, serialized.toArray(byte[][]::new));
+                        connection.keyCommands().expire(failuresKey, JOB_TTL.toSeconds());
+                    }
+                    connection.keyCommands().expire(jobKey, JOB_TTL.toSeconds());
+                    return null;
+                }),
+                () -> log.warn("가져오기 체크포인트 기록 건너뜀 (Redis 저하): jobId={}, checkpoint={}", jobId, checkpoint));
+    }
+
+    public List<Failure> failures(String jobId, int limit) {
+        List<String> values = redisCircuitBreaker.execute(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.opsForList().range(key(jobId) + FAILURES_SUFFIX, 0, limit - 1),
+                () -> null);
+        if (values == null) {
+            return List.of();
+        }
+        List<Failure> failures = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                failures.add(objectMapper.readValue(value, Failure.class));
+            } catch (JsonProcessingException e) {
+                log.warn("가져오기 실패 행 역직렬화 실패: {}", e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 실행 락 획득 (노드가 중단되면 임대 시간이 지나 풀린다)
+     * Redis를 쓸 수 없으면 획득하지 못한 것으로 본다. (락 없이 실행하면 다른 노드의 재개와 겹칠 수 있다)
+     *
+     * @return 획득하면 연장/해제용 토큰, 다른 실행이 보유 중이거나 Redis 저하면 null
+     */
+    public String tryLock(String jobId, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisCircuitBreaker.execute(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.opsForValue().setIfAbsent(lockKey(jobId), token, leaseTime),
+                () -> Boolean.FALSE);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 실행 락 임대 연장 (하트비트)
+     * Redis 저하로 연장하지 못한 경우는 계속 진행한다. (그동안 다른 노드도 락을 얻을 수 없다)
+     *
+     * @return 락을 잃었으면(만료 후 다른 실행이 획득) false
+     */
+    public boolean renewLock(String jobId, String token, Duration leaseTime) {
+        Long renewed = redisCircuitBreaker.execute(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(lockKey(jobId)), token,
+                        String.valueOf(leaseTime.toMillis())),
+                () -> 1L);
+        return renewed != null && renewed > 0;
+    }
+
+    public void unlock(String jobId, String token) {
+        redisCircuitBreaker.run(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey(jobId)), token),
+                () -> log.warn("가져오기 실행 락 해제 건너뜀 (임대 만료 후 풀림): jobId={}", jobId));
+    }
+
+    /**
+     * 다른 실행이 락을 쥐고 있는지 (재개 전 확인용)
+     */
+    public boolean isLocked(String jobId) {
+        return Boolean.TRUE.equals(redisCircuitBreaker.execute(RedisOperation.IMPORT,
+                () -> stringRedisTemplate.hasKey(lockKey(jobId)),
+                UserImportJobStore::unavailable));
+    }
+
+    private static <T> T unavailable() {
+        throw new BusinessException(ErrorCode.SERVICE_DEGRADED);
+    }
+
+    private byte[] serialize(Failure failure) {
+        try {
+            return objectMapper.writeValueAsBytes(failure);
+        } catch (JsonProcessingException e) {
+            return bytes(failure.index() + " " + failure.reason());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String key(String jobId) {
+        return PREFIX_USER_IMPORT + jobId;
+    }
+
+    private static String lockKey(String jobId) {
+        return PREFIX_USER_IMPORT_LOCK + jobId;
+    }
+}
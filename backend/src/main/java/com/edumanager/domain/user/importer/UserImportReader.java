@@ -0,0 +1,130 @@
+package com.edumanager.domain.user.importer;
+
+import com.edumanager.domain.user.dto.request.BulkUserRow;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는 파서
+ *
+ * CSV는 첫 줄을 헤더(email,password,name,phone,role)로 쓰고, NDJSON은 한 줄에 JSON 객체 하나다.
+ * 두 형식 모두 필요한 만큼만 읽으므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * 모르는 열/필드는 무시한다.
+ *
+ * 행 하나가 깨져 있어도(JSON 문법 오류, 값 변환 실패) 그 행만 실패로 던지고 다음 행부터 계속 읽는다.
+ * NDJSON은 줄 단위로 잘라 파싱하므로 항상 다음 줄에서 복구되고,
+ * CSV는 MappingIterator가 실패한 행의 나머지를 건너뛴다.
+ */
+@Component
+public class UserImportReader {
+
+    /**
+     * 행 단위 읽기
+     * hasNext()의 IOException은 더 읽을 수 없다는 뜻이고,
+     * next()의 JsonProcessingException은 그 행만 실패한 것이라 다음 hasNext()부터 이어서 읽을 수 있다.
+     */
+    public interface Rows extends Closeable {
+
+        boolean hasNext() throws IOException;
+
+        BulkUserRow next() throws IOException;
+    }
+
+    private final ObjectReader csvReader;
+    private final ObjectReader ndjsonReader;
+
+    public UserImportReader(ObjectMapper objectMapper) {
+        CsvMapper csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(BulkUserRow.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        // 한 줄에 값이 둘 이상이면 그 줄을 실패로 본다
+        this.ndjsonReader = objectMapper.readerFor(BulkUserRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    public Rows open(ImportFormat format, InputStream in) throws IOException {
+        return format == ImportFormat.CSV
+                ? new CsvRows(csvReader.readValues(in))
+                : new NdjsonRows(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    private static final class CsvRows implements Rows {
+
+        private final MappingIterator<BulkUserRow> iterator;
+
+        CsvRows(MappingIterator<BulkUserRow> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            return iterator.hasNextValue();
+        }
+
+        @Override
+        public BulkUserRow next() throws IOException {
+            // 실패하면 MappingIterator가 다음 hasNextValue()에서 행 끝까지 건너뛴다
+            return iterator.nextValue();
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+
+    private final class NdjsonRows implements Rows {
+
+        private final BufferedReader lines;
+        private String pending;
+
+        NdjsonRows(BufferedReader lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            while (pending == null) {
+                String line = lines.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    pending = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public BulkUserRow next() throws IOException {
+            String line = pending;
+            pending = null;
+            return ndjsonReader.readValue(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.edumanager.domain.user.importer;
+
+import com.edumanager.domain.user.UserProvisioningService;
+import com.edumanager.domain.user.UserProvisioningService.ChunkResult;
+import com.edumanager.domain.user.UserProvisioningService.PendingUser;
+import com.edumanager.domain.user.dto.request.BulkUserRow;
+import com.edumanager.domain.user.dto.response.BulkUserCreateResponse.Failure;
+import com.edumanager.domain.user.dto.response.UserImportJobResponse;
+import com.edumanager.domain.user.importer.UserImportJobStore.ImportJob;
+import com.edumanager.domain.user.importer.UserImportJobStore.Status;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.domain.user.importer.UserImportReader.Rows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 파일(CSV/NDJSON) 사용자 가져오기
+ *
+ * 업로드는 디스크에 스트리밍으로 저장한 뒤 전용 풀에서 처리하고, 요청은 작업 ID를 받아 바로 끝난다.
+ * 파서는 쓰기 쪽이 청크를 커밋한 뒤에야 다음 행을 읽으므로(pull 방식) 별도 대기열 없이 역압이 걸리고,
+ * 메모리에는 청크 하나만 올라간다.
+ * 청크가 커밋될 때마다 체크포인트를 남기며, 실패한 작업은 체크포인트 다음 행부터 이어서 진행할 수 있다.
+ * 실행은 작업별 락을 쥐고 하므로, 중단된 것으로 보인 작업을 재개해도 아직 살아 있는 실행과 겹치지 않는다.
+ * 대기 중에 노드가 내려가 남은 QUEUED 작업은 기동 시 다시 등록한다.
+ *
+ * 업로드 파일에는 평문 비밀번호가 들어 있으므로 완료 즉시 지우고,
+ * 실패한 작업의 파일도 보관 기간(failed-retention)이 지나거나 작업 기록이 만료되면 정리 작업이 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final int FAILURE_SAMPLE_SIZE = 100;
+    // 이 시간 동안 체크포인트가 갱신되지 않은 RUNNING/QUEUED 작업은 노드가 중단된 것으로 본다 (실행 락 임대 시간도 같다)
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+    private final UserProvisioningService userProvisioningService;
+    private final UserImportReader userImportReader;
+    private final UserImportJobStore userImportJobStore;
+    private final ThreadPoolTaskExecutor userImportExecutor;
+
+    @Value("${app.user.import.directory:./uploads/imports}")
+    private String directory;
+
+    @Value("${app.user.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.user.import.failed-retention:PT24H}")
+    private Duration failedRetention;
+
+    /**
+     * 업로드 파일을 저장하고 가져오기 작업 등록
+     */
+    public UserImportJobResponse start(MultipartFile file) {
+        ImportFormat format = ImportFormat.fromFileName(file.getOriginalFilename());
+        String jobId = UUID.randomUUID().toString();
+        Path path = Paths.get(directory).toAbsolutePath().resolve(jobId + format.extension());
+
+        try {
+            Files.createDirectories(path.getParent());
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 파일 저장 실패", e);
+        }
+
+        try {
+            userImportJobStore.create(jobId, file.getOriginalFilename(), format, path.toString(), file.getSize());
+        } catch (BusinessException e) {
+            // 작업 기록 없이 남은 평문 비밀번호 파일을 바로 지운다
+            deleteQuietly(path);
+            throw e;
+        }
+        submit(jobId);
+        log.info("사용자 가져오기 등록: jobId={}, file={}, size={}", jobId, file.getOriginalFilename(), file.getSize());
+
+        return getJob(jobId);
+    }
+
+    public UserImportJobResponse getJob(String jobId) {
+        ImportJob job = findJob(jobId);
+        return UserImportJobResponse.of(job, userImportJobStore.failures(jobId, FAILURE_SAMPLE_SIZE));
+    }
+
+    /**
+     * 실패했거나 중단된 작업을 체크포인트부터 다시 실행
+     * 파일이 이 노드에 있어야 하므로 업로드를 받은 노드에서 호출해야 한다.
+     * 실행 락이 남아 있으면(체크포인트가 늦을 뿐 아직 실행 중) 거절한다.
+     */
+    public UserImportJobResponse resume(String jobId) {
+        ImportJob job = findJob(jobId);
+        boolean stale = (job.status() == Status.RUNNING || job.status() == Status.QUEUED)
+                && job.updatedAt().isBefore(Instant.now().minus(STALE_AFTER));
+        if ((job.status() != Status.FAILED && !stale) || !Files.exists(Path.of(job.filePath()))
+                || userImportJobStore.isLocked(jobId)) {
+            throw new BusinessException(ErrorCode.IMPORT_NOT_RESUMABLE);
+        }
+
+        userImportJobStore.updateStatus(jobId, Status.QUEUED, null);
+        submit(jobId);
+        log.info("사용자 가져오기 재개: jobId={}, checkpoint={}", jobId, job.checkpoint());
+
+        return getJob(jobId);
+    }
+
+    /**
+     * 대기 중에 노드가 내려가 실행되지 못한 작업 다시 등록
+     * 파일이 이 노드에 있는 QUEUED 작업만 대상이며, 다른 노드가 이미 실행 중이면 실행 락에서 걸러진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeuePending() {
+        Path dir = Paths.get(directory).toAbsolutePath();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        int requeued = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String jobId = jobIdOf(file);
+                Optional<ImportJob> job = userImportJobStore.find(jobId);
+                if (job.isPresent() && job.get().status() == Status.QUEUED) {
+                    submit(jobId);
+                    requeued++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("가져오기 디렉터리 조회 실패: {}", dir, e);
+        } catch (BusinessException e) {
+            // Redis 저하 또는 대기열 초과 - 남은 작업은 재개 API로 이어서 진행한다
+            log.warn("대기 중이던 가져오기 재등록 중단: {}", e.getMessage());
+        }
+        if (requeued > 0) {
+            log.info("대기 중이던 가져오기 재등록: {}건", requeued);
+        }
+    }
+
+    private void submit(String jobId) {
+        try {
+            userImportExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            userImportJobStore.updateStatus(jobId, Status.FAILED, ErrorCode.IMPORT_BUSY.getMessage());
+            throw new BusinessException(ErrorCode.IMPORT_BUSY);
+        }
+    }
+
+    private void run(String jobId) {
+        String lockToken = userImportJobStore.tryLock(jobId, STALE_AFTER);
+        if (lockToken == null) {
+            log.warn("사용자 가져오기 건너뜀 (다른 실행이 진행 중이거나 Redis 저하): jobId={}", jobId);
+            return;
+        }
+        try {
+            run(jobId, lockToken);
+        } finally {
+            userImportJobStore.unlock(jobId, lockToken);
+        }
+    }
+
+    private void run(String jobId, String lockToken) {
+        // 락을 얻기 전에 다른 실행이 끝냈을 수 있다 (재등록과 재개가 겹친 경우)
+        ImportJob job = findJob(jobId);
+        if (job.status() == Status.COMPLETED) {
+            return;
+        }
+        userImportJobStore.updateStatus(jobId, Status.RUNNING, null);
+
+        long checkpoint = job.checkpoint();
+        long created = job.created();
+        long failed = job.failed();
+        int rowIndex = 0;
+        List<PendingUser> chunk = new ArrayList<>(chunkSize);
+        List<Failure> failures = new ArrayList<>();
+
+        Path path = Path.of(job.filePath());
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(path));
+             Rows rows = userImportReader.open(job.format(), in)) {
+
+            while (rows.hasNext()) {
+                BulkUserRow row;
+                try {
+                    row = rows.next();
+                } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+                    // 문법 오류나 값 변환 실패 (예: 깨진 JSON 줄, 알 수 없는 역할) - 행만 실패 처리하고 다음 행으로
+                    if (rowIndex >= checkpoint) {
+                        failures.add(new Failure(rowIndex, null, "형식 오류: " + e.getMessage()));
+                    }
+                    rowIndex++;
+                    continue;
+                }
+
+                int index = rowIndex++;
+                if (index < checkpoint) {
+                    continue;
+                }
+                String reason = userProvisioningService.validate(row);
+                if (reason != null) {
+                    failures.add(new Failure(index, row != null ? row.getEmail() : null, reason));
+                } else {
+                    chunk.add(new PendingUser(index, row));
+                }
+
+                if (chunk.size() >= chunkSize || failures.size() >= chunkSize) {
+                    ChunkResult result = flush(chunk);
+                    failures.addAll(result.failures());
+                    created += result.createdEmails().size();
+                    failed += failures.size();
+                    userImportJobStore.saveCheckpoint(jobId, rowIndex, created, failed, in.count(), failures);
+                    chunk.clear();
+                    failures.clear();
+                    if (!userImportJobStore.renewLock(jobId, lockToken, STALE_AFTER)) {
+                        // 임대가 만료되어 다른 실행이 이어받았다 - 상태와 파일은 그쪽에 맡긴다
+                        log.warn("사용자 가져오기 중단 (실행 락 상실): jobId={}, row={}", jobId, rowIndex);
+                        return;
+                    }
+                }
+            }
+
+            ChunkResult result = flush(chunk);
+            failures.addAll(result.failures());
+            created += result.createdEmails().size();
+            failed += failures.size();
+            userImportJobStore.saveCheckpoint(jobId, rowIndex, created, failed, in.count(), failures);
+            userImportJobStore.updateStatus(jobId, Status.COMPLETED, null);
+
+            log.info("사용자 가져오기 완료: jobId={}, rows={}, created={}, failed={}", jobId, rowIndex, created, failed);
+        } catch (Exception e) {
+            log.error("사용자 가져오기 실패: jobId={}, row={}, error={}", jobId, rowIndex, e.getMessage(), e);
+            userImportJobStore.updateStatus(jobId, Status.FAILED, e.getMessage());
+            return;
+        }
+
+        deleteQuietly(path);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("가져오기 파일 삭제 실패: {}", path);
+        }
+    }
+
+    /**
+     * 더 이상 이어서 진행하지 않을 가져오기 파일 삭제
+     * 작업 기록이 없거나(만료) 완료된 작업, 보관 기간이 지난 실패/중단/대기 작업의 파일이 대상이다.
+     * 업로드 직후 작업 기록을 만들기 전의 파일은 건드리지 않도록 수정 시각도 본다.
+     */
+    @Scheduled(fixedDelayString = "${app.user.import.cleanup-interval:PT1H}",
+            initialDelayString = "${app.user.import.cleanup-interval:PT1H}")
+    public void purgeFiles() {
+        Path dir = Paths.get(directory).toAbsolutePath();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        Instant now = Instant.now();
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isAfter(now.minus(STALE_AFTER))) {
+                        continue;
+                    }
+                    if (isExpired(jobIdOf(file), now) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    log.warn("가져오기 파일 정리 실패: {}", file);
+                }
+            }
+        } catch (BusinessException e) {
+            // Redis 저하 중에는 작업 기록을 확인할 수 없으므로 이번 정리를 건너뛴다 (기록이 없는 것으로 보고 지우지 않도록)
+            log.warn("가져오기 파일 정리 건너뜀: {}", e.getMessage());
+            return;
+        } catch (IOException e) {
+            log.warn("가져오기 디렉터리 조회 실패: {}", dir, e);
+            return;
+        }
+        if (deleted > 0) {
+            log.info("가져오기 파일 정리: {}개 삭제", deleted);
+        }
+    }
+
+    private boolean isExpired(String jobId, Instant now) {
+        Optional<ImportJob> found = userImportJobStore.find(jobId);
+        if (found.isEmpty()) {
+            return true;
+        }
+        ImportJob job = found.get();
+        boolean stale = job.updatedAt().isBefore(now.minus(STALE_AFTER));
+        return switch (job.status()) {
+            case COMPLETED -> true;
+            // 대기 중에 노드가 내려가고 재등록되지 않은 작업도 보관 기간이 지나면 정리한다
+            case FAILED, RUNNING, QUEUED -> stale && job.updatedAt().isBefore(now.minus(failedRetention));
+        };
+    }
+
+    private static String jobIdOf(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private ChunkResult flush(List<PendingUser> chunk) {
+        return chunk.isEmpty() ? new ChunkResult(List.of(), List.of()) : userProvisioningService.insertChunk(chunk);
+    }
+
+    private ImportJob findJob(String jobId) {
+        return userImportJobStore.find(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 읽은 바이트 수 집계 (진행률 표시용)
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package com.edumanager.domain.user.repository;
 
+import com.edumanager.domain.user.dto.response.UserExportRow;
+import com.edumanager.domain.user.dto.response.UserSummaryResponse;
 import com.edumanager.domain.user.entity.User;
 import com.edumanager.domain.user.entity.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    String SUMMARY_SELECT = "SELECT new com.edumanager.domain.user.dto.response.UserSummaryResponse(" +
+            "u.id, u.email, u.name, u.role, u.isActive, u.createAt) FROM User u ";
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -27,5 +38,60 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role AND u.isActive = true")
     long countActiveUsersByRole(@Param("role") UserRole role);
 
+    /**
+     * 전체 이메일 스트리밍 (이메일 인덱스 구성용)
+     * 트랜잭션 안에서 호출하고 사용 후 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * 사용자 내보내기용 스트리밍 조회 (엔티티 대신 프로젝션, 서버 측 커서)
+     * 트랜잭션 안에서 호출하고 사용 후 닫아야 한다.
+     *
+     * @param role       null이면 전체 역할
+     * @param activeOnly true면 활성 사용자만
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.edumanager.domain.user.dto.response.UserExportRow(" +
+            "u.id, u.email, u.name, u.phone, u.role, u.isActive, u.createAt) " +
+            "FROM User u " +
+            "WHERE (:role IS NULL OR u.role = :role) AND (:activeOnly = false OR u.isActive = true) " +
+            "ORDER BY u.id")
+    Stream<UserExportRow> streamExportRows(@Param("role") UserRole role, @Param("activeOnly") boolean activeOnly);
+
+    // ===== 키셋 페이지네이션 (COUNT/OFFSET 없음, (정렬 키, id) 복합 인덱스를 따라 읽음) =====
+
+    @Query(SUMMARY_SELECT +
+            "WHERE (:role IS NULL OR u.role = :role) " +
+            "ORDER BY u.createAt DESC, u.id DESC")
+    List<UserSummaryResponse> findSummariesByCreatedAt(@Param("role") UserRole role, Limit limit);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE (:role IS NULL OR u.role = :role) AND (u.createAt, u.id) < (:createdAt, :id) " +
+            "ORDER BY u.createAt DESC, u.id DESC")
+    List<UserSummaryResponse> findSummariesByCreatedAtAfterCursor(@Param("role") UserRole role,
+                                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("id") Long id,
+                                                                  Limit limit);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE (:role IS NULL OR u.role = :role) " +
+            "ORDER BY u.name ASC, u.id ASC")
+    List<UserSummaryResponse> findSummariesByName(@Param("role") UserRole role, Limit limit);
 
+    @Query(SUMMARY_SELECT +
+            "WHERE (:role IS NULL OR u.role = :role) AND (u.name, u.id) > (:name, :id) " +
+            "ORDER BY u.name ASC, u.id ASC")
+    List<UserSummaryResponse> findSummariesByNameAfterCursor(@Param("role") UserRole role,
+                                                             @Param("name") String name,
+                                                             @Param("id") Long id,
+                                                             Limit limit);
 }
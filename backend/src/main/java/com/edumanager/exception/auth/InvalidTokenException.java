@@ -0,0 +1,15 @@
+package com.edumanager.exception.auth;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+
+public class InvalidTokenException extends BusinessException {
+
+    public InvalidTokenException() {
+        super(ErrorCode.INVALID_TOKEN);
+    }
+
+    public InvalidTokenException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
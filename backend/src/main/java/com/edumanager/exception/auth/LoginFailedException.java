@@ -0,0 +1,15 @@
+package com.edumanager.exception.auth;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+
+/**
+ * 로그인 실패 (자격 증명 불일치)
+ * 대입 공격 시 대량으로 발생하므로 스택 트레이스를 만들지 않는다.
+ */
+public class LoginFailedException extends BusinessException {
+
+    public LoginFailedException() {
+        super(ErrorCode.LOGIN_FAILED, false);
+    }
+}
@@ -0,0 +1,20 @@
+package com.edumanager.exception.auth;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 로그인 시도 제한 초과
+ * 대량으로 발생하는 예상된 거절이므로 스택 트레이스를 만들지 않는다.
+ */
+@Getter
+public class LoginThrottledException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
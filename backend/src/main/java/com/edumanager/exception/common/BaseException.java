@@ -21,4 +21,12 @@ public abstract class BaseException extends RuntimeException{
         this.errorCode = errorCode;
 
     }
+
+    /**
+     * 스택 트레이스를 남기지 않는 예외 (로그인 폭주 등 대량으로 발생하는 예상된 거절용)
+     */
+    protected BaseException(ErrorCode errorCode, boolean writableStackTrace){
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
 }
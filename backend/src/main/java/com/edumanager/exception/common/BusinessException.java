@@ -14,4 +14,8 @@ public class BusinessException extends BaseException {
         super(errorCode, message, cause);
 
     }
+
+    protected BusinessException(ErrorCode errorCode, boolean writableStackTrace){
+        super(errorCode, writableStackTrace);
+    }
 }
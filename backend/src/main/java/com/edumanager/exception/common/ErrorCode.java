@@ -15,22 +15,36 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "서버 오류가 발생했습니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "잘못된 타입의 값입니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "접근이 거부되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "C007", "유효하지 않은 페이지 커서입니다."),
+    SERVICE_DEGRADED(HttpStatus.SERVICE_UNAVAILABLE, "C008", "요청이 많아 일시적으로 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "U002", "이미 사용중인 이메일입니다."),
     INVALID_PASSWORD(HttpStatus.BAD_REQUEST, "U003", "비밀번호가 일치하지 않습니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "U004", "가져오기 작업을 찾을 수 없습니다."),
+    IMPORT_NOT_RESUMABLE(HttpStatus.CONFLICT, "U005", "이어서 진행할 수 없는 가져오기 작업입니다."),
+    IMPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "U006", "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+    UNSUPPORTED_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "U007", "CSV 또는 NDJSON 파일만 가져올 수 있습니다."),
 
     // Auth
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증이 필요합니다."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A002", "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "A003", "만료된 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "A005", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "A006", "세션을 찾을 수 없습니다."),
+    LOGIN_FAILED(HttpStatus.UNAUTHORIZED, "A007", "이메일 또는 비밀번호가 올바르지 않습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "A008", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "A004", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SESSION_STORE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "A009", "일시적으로 로그인/토큰 갱신을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // SMS
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "SMS001", "너무 많은 요청입니다."),
     INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "SMS002", "잘못된 인증번호입니다."),
     PHONE_NOT_VERIFIED(HttpStatus.BAD_REQUEST, "SMS003", "휴대폰 인증이 필요합니다."),
     SMS_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SMS004", "SMS 발송에 실패했습니다."),
+    SMS_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SMS005", "인증번호 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SMS_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SMS006", "현재 인증번호 발송을 사용할 수 없습니다."),
 
 
     ;
@@ -2,8 +2,10 @@ package com.edumanager.exception.handler;
 
 
 import com.edumanager.common.response.ErrorResponse;
+import com.edumanager.exception.auth.LoginThrottledException;
 import com.edumanager.exception.common.BusinessException;
 import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.exception.sms.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -27,6 +29,50 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    /**
+     * 로그인 시도 제한 초과 - 대량으로 발생하므로 스택 트레이스 없이 debug 로그만 남긴다.
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    protected ResponseEntity<ErrorResponse> handleLoginThrottledException(
+            LoginThrottledException e, HttpServletRequest request) {
+        log.debug("LoginThrottledException: retryAfter={}s", e.getRetryAfterSeconds());
+
+        ErrorResponse response = ErrorResponse.of(
+                e.getErrorCode(),
+                e.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity
+                .status(e.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.CONTENT_TYPE, ErrorResponse.PROBLEM_MEDIA_TYPE.toString())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * SMS 발송 한도 초과 - 재시도 가능 시각을 Retry-After로 알려준다.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException e, HttpServletRequest request) {
+        log.debug("TooManyRequestsException: {}, retryAfter={}s", e.getMessage(), e.getRetryAfterSeconds());
+
+        ErrorResponse response = ErrorResponse.of(
+                e.getErrorCode(),
+                e.getMessage(),
+                request.getRequestURI()
+        );
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(e.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.CONTENT_TYPE, ErrorResponse.PROBLEM_MEDIA_TYPE.toString());
+        if (e.getRetryAfterSeconds() > 0) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+        return builder.body(response);
+    }
+
     /**
      * BusinessException 처리
      */
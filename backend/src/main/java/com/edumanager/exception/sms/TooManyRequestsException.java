@@ -2,9 +2,20 @@ package com.edumanager.exception.sms;
 
 import com.edumanager.exception.common.BusinessException;
 import com.edumanager.exception.common.ErrorCode;
+import lombok.Getter;
 
+@Getter
 public class TooManyRequestsException extends BusinessException {
+
+    // 0이면 Retry-After 헤더를 보내지 않는다
+    private final long retryAfterSeconds;
+
     public TooManyRequestsException(String message) {
+        this(message, 0L);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
         super(ErrorCode.TOO_MANY_REQUESTS,message);
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
@@ -10,9 +10,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
@@ -27,8 +26,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtDecoder jwtDecoder;
-    private final JwtAuthenticationConverter jwtAuthenticationConverter;
     private final JwtTokenService jwtTokenService;
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
@@ -37,39 +34,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/v3/api-docs/**",
             "/swagger-resources/**",
             "/webjars/**",
-            "/actuator/**",
+            "/actuator/health/**",
+            "/actuator/prometheus",
             "/api/auth/signup",
             "/api/auth/login",
             "/api/auth/refresh",
-            "/api/auth/check-email"
+            "/api/auth/check-email",
+            "/api/auth/sms/**",
+            "/.well-known/jwks.json"
     );
 
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String token = resolveToken(request);
         String requestPath = request.getRequestURI();
-        
+
         if(shouldNotFilter(requestPath)){
             filterChain.doFilter(request,response);
             return;
         }
 
+        String token = resolveToken(request);
+
         // 로그아웃 요청인 경우 토큰이 있으면 검증하지만 실패해도 진행
         boolean isLogoutRequest = requestPath.equals("/api/auth/logout");
         
         if (StringUtils.hasText(token)) {
-            if (jwtTokenService.validateToken(token)) {
-                try {
-                    Authentication authentication = jwtAuthenticationConverter.convert(jwtDecoder.decode(token));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("JWT 인증 성공: {}", authentication.getName());
-                } catch (Exception e) {
-                    log.error("JWT 인증 변환 실패: {}", e.getMessage());
-                    if (!isLogoutRequest) {
-                        log.debug("인증 실패로 인한 SecurityContext 미설정");
-                    }
-                }
+            // 서명 검증과 권한 변환을 한 번에 수행 (검증 완료 토큰은 캐시에서 재사용)
+            Authentication authentication = jwtTokenService.authenticate(token);
+            if (authentication != null) {
+                // 기존 컨텍스트 객체를 고치지 않고 새로 만들어 건다 (스레드/요청 간 컨텍스트 공유 방지)
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                log.debug("JWT 인증 성공: {}", authentication.getName());
             } else {
                 log.debug("JWT 토큰 검증 실패 - 토큰이 유효하지 않음");
                 if (isLogoutRequest) {
@@ -0,0 +1,319 @@
+package com.edumanager.security.jwt;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.edumanager.common.constant.AppConstants.Redis.CHANNEL_JWT_ACTIVE_KEY;
+import static com.edumanager.common.constant.AppConstants.Redis.KEY_JWT_ACTIVE_KEY;
+
+/**
+ * JWT 서명 키 관리 (kid 기반 키 순환)
+ *
+ * 설정된 키와 키 디렉터리의 PEM 파일을 읽어 JWK 세트를 만들고, 원자적으로 교체한다.
+ * - 서명: 활성 키(active kid) 하나로만 서명하고 헤더에 kid를 넣는다.
+ * - 검증: 세트에 있는 모든 키로 검증하므로 교체 전에 발급된 토큰도 만료 시까지 유효하다.
+ *
+ * 키 순환 절차: 새 키 추가(재적재) → JWKS에 게시 → 활성 키 전환 → 이전 토큰 만료 후 이전 키 제거.
+ * 활성 키 전환은 Redis에 저장하고 Pub/Sub으로 전파해 모든 노드가 같은 키로 서명한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyManager implements JWKSource<SecurityContext>, MessageListener {
+
+    // 검증 시 허용하는 알고리즘 (헤더의 alg를 그대로 신뢰하지 않는다)
+    public static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS = Set.of(
+            JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512, JWSAlgorithm.PS256,
+            JWSAlgorithm.ES256, JWSAlgorithm.ES384, JWSAlgorithm.ES512
+    );
+
+    private static final String PRIVATE_KEY_SUFFIX = ".private.pem";
+    private static final String PUBLIC_KEY_SUFFIX = ".public.pem";
+
+    private final JwtProperties jwtProperties;
+    private final ResourceLoader resourceLoader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final AtomicReference<KeyState> state = new AtomicReference<>();
+
+    /**
+     * 현재 키 상태 (불변)
+     *
+     * @param keys       검증용 전체 키 (개인키 포함)
+     * @param activeKey  서명 키
+     * @param header     서명 시 사용할 JWS 헤더 (alg, kid)
+     * @param jwksJson   공개키만 담은 JWKS 응답 본문
+     */
+    private record KeyState(JWKSet keys, JWK activeKey, JwsHeader header, String jwksJson) {
+    }
+
+    /**
+     * 기동 시 키를 읽지 못하면 애플리케이션을 시작하지 않는다.
+     */
+    @PostConstruct
+    void init() {
+        state.set(load(resolveActiveKeyId(null)));
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_JWT_ACTIVE_KEY));
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        return jwkSelector.select(state.get().keys());
+    }
+
+    /**
+     * 서명에 사용할 JWS 헤더 (활성 키의 alg, kid)
+     */
+    public JwsHeader signingHeader() {
+        return state.get().header();
+    }
+
+    public String activeKeyId() {
+        return state.get().activeKey().getKeyID();
+    }
+
+    public List<String> keyIds() {
+        return state.get().keys().getKeys().stream().map(JWK::getKeyID).toList();
+    }
+
+    /**
+     * 공개키 JWKS (JSON) - 키가 바뀔 때만 다시 직렬화한다.
+     */
+    public String jwksJson() {
+        return state.get().jwksJson();
+    }
+
+    /**
+     * 키 파일 재적재
+     * 실패하면 기존 키를 그대로 사용한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:PT5M}",
+            initialDelayString = "${jwt.signing.reload-interval:PT5M}")
+    public void reload() {
+        try {
+            KeyState current = state.get();
+            KeyState reloaded = load(resolveActiveKeyId(current.activeKey().getKeyID()));
+            state.set(reloaded);
+            if (!reloaded.jwksJson().equals(current.jwksJson())
+                    || !reloaded.activeKey().getKeyID().equals(current.activeKey().getKeyID())) {
+                log.info("JWT 서명 키 갱신: active={}, keys={}", activeKeyId(), keyIds());
+            }
+        } catch (RuntimeException e) {
+            log.error("JWT 서명 키 재적재 실패 (기존 키 유지): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 키 전환 - 모든 노드에 전파
+     *
+     * @throws BusinessException 없는 키이거나 개인키가 없는 검증 전용 키인 경우
+     */
+    public void activate(String keyId) {
+        KeyState current = state.get();
+        try {
+            state.set(withActiveKey(current.keys(), keyId));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e.getMessage());
+        }
+
+        stringRedisTemplate.opsForValue().set(KEY_JWT_ACTIVE_KEY, keyId);
+        stringRedisTemplate.convertAndSend(CHANNEL_JWT_ACTIVE_KEY, keyId);
+        log.info("JWT 활성 서명 키 전환: {} -> {}", current.activeKey().getKeyID(), keyId);
+    }
+
+    /**
+     * 다른 노드의 활성 키 전환 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String keyId = new String(message.getBody(), StandardCharsets.UTF_8);
+        KeyState current = state.get();
+        if (keyId.equals(current.activeKey().getKeyID())) {
+            return;
+        }
+        try {
+            state.set(withActiveKey(current.keys(), keyId));
+            log.info("JWT 활성 서명 키 전환 수신: {}", keyId);
+        } catch (IllegalArgumentException e) {
+            // 아직 이 노드에 키 파일이 반영되지 않은 경우 - 재적재 후 다시 시도
+            reload();
+            log.warn("JWT 활성 서명 키 전환 보류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 활성 키 결정 순서: Redis에 저장된 전환 값 → 현재 값 → 설정값
+     */
+    private String resolveActiveKeyId(String current) {
+        try {
+            String stored = stringRedisTemplate.opsForValue().get(KEY_JWT_ACTIVE_KEY);
+            if (StringUtils.hasText(stored)) {
+                return stored;
+            }
+        } catch (Exception e) {
+            log.warn("저장된 JWT 활성 키 조회 실패: {}", e.getMessage());
+        }
+        return current != null ? current : jwtProperties.getSigning().getActiveKeyId();
+    }
+
+    private KeyState load(String activeKeyId) {
+        Map<String, JWK> keys = new LinkedHashMap<>();
+        for (JwtProperties.Key key : jwtProperties.getSigning().getKeys()) {
+            keys.put(key.getId(), toJwk(key.getId(), key.getAlgorithm(),
+                    resourceOrNull(key.getPrivateKeyPath()), resourceLoader.getResource(key.getPublicKeyPath())));
+        }
+        loadKeyDirectory(keys);
+
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("JWT 서명 키가 설정되지 않았습니다 (jwt.signing.keys)");
+        }
+
+        JWKSet keySet = new JWKSet(new ArrayList<>(keys.values()));
+        String keyId = keys.containsKey(activeKeyId) ? activeKeyId : jwtProperties.getSigning().getActiveKeyId();
+        return withActiveKey(keySet, keyId);
+    }
+
+    private KeyState withActiveKey(JWKSet keySet, String keyId) {
+        JWK activeKey = keySet.getKeyByKeyId(keyId);
+        if (activeKey == null || !activeKey.isPrivate()) {
+            throw new IllegalArgumentException("서명에 사용할 수 없는 키입니다: " + keyId);
+        }
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.from(activeKey.getAlgorithm().getName()))
+                .keyId(keyId)
+                .build();
+        return new KeyState(keySet, activeKey, header, keySet.toPublicJWKSet().toString());
+    }
+
+    /**
+     * 키 디렉터리의 {kid}.{alg}.public.pem / {kid}.{alg}.private.pem 파일 적재
+     * 개인키 파일이 없으면 검증 전용 키로 등록한다.
+     */
+    private void loadKeyDirectory(Map<String, JWK> keys) {
+        String directory = jwtProperties.getSigning().getKeyDirectory();
+        if (!StringUtils.hasText(directory)) {
+            return;
+        }
+
+        String base = directory.endsWith("/") ? directory : directory + "/";
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(resourceLoader);
+        try {
+            for (Resource publicKey : resolver.getResources(base + "*" + PUBLIC_KEY_SUFFIX)) {
+                String filename = publicKey.getFilename();
+                String name = filename.substring(0, filename.length() - PUBLIC_KEY_SUFFIX.length());
+                int separator = name.lastIndexOf('.');
+                if (separator <= 0) {
+                    log.warn("JWT 키 파일 이름 형식 오류 ({kid}.{alg}.public.pem): {}", filename);
+                    continue;
+                }
+                String keyId = name.substring(0, separator);
+                Resource privateKey = publicKey.createRelative(name + PRIVATE_KEY_SUFFIX);
+                keys.put(keyId, toJwk(keyId, name.substring(separator + 1),
+                        privateKey.exists() ? privateKey : null, publicKey));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private Resource resourceOrNull(String location) {
+        return StringUtils.hasText(location) ? resourceLoader.getResource(location) : null;
+    }
+
+    private JWK toJwk(String keyId, String algorithmName, Resource privateKeyResource, Resource publicKeyResource) {
+        JWSAlgorithm algorithm = JWSAlgorithm.parse(algorithmName);
+        if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithmName + " (kid=" + keyId + ")");
+        }
+
+        boolean rsa = JWSAlgorithm.Family.RSA.contains(algorithm);
+        String keyType = rsa ? "RSA" : "EC";
+        try {
+            PublicKey publicKey = KeyFactory.getInstance(keyType)
+                    .generatePublic(new X509EncodedKeySpec(readPem(publicKeyResource)));
+            PrivateKey privateKey = privateKeyResource != null
+                    ? KeyFactory.getInstance(keyType).generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyResource)))
+                    : null;
+
+            if (rsa) {
+                return new RSAKey.Builder((RSAPublicKey) publicKey)
+                        .privateKey((RSAPrivateKey) privateKey)
+                        .keyID(keyId)
+                        .algorithm(algorithm)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .build();
+            }
+            Curve curve = Curve.forJWSAlgorithm(algorithm).iterator().next();
+            return new ECKey.Builder(curve, (ECPublicKey) publicKey)
+                    .privateKey((ECPrivateKey) privateKey)
+                    .keyID(keyId)
+                    .algorithm(algorithm)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .build();
+
+        } catch (GeneralSecurityException | IOException | ClassCastException e) {
+            throw new IllegalStateException("JWT 키를 읽을 수 없습니다 (kid=" + keyId + "): " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * PEM 본문 디코딩
+     * 파일 시스템 경로가 없는 jar 내부 리소스도 읽을 수 있도록 스트림으로 읽는다.
+     */
+    private static byte[] readPem(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(pem);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.context.annotation.Configuration;
 import com.edumanager.common.constant.AppConstants;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -15,14 +17,59 @@ import java.time.Duration;
 public class JwtProperties {
 
     private String issuer = "edu-manager";
-    private String privateKeyPath;
-    private String publicKeyPath;
     private Duration accessTokenValidity = Duration.ofHours(24);
     private Duration refreshTokenValidity = Duration.ofDays(7);
     private String audience = "edu-manager-api";
+    // 직전 리프레시 토큰을 동시 갱신으로 간주하는 시간 (이후 재사용은 탈취로 처리)
+    private Duration refreshReuseGrace = Duration.ofSeconds(10);
+    // 사용자당 동시 로그인 기기 수 (초과 시 가장 오래 사용하지 않은 세션 종료)
+    private int maxSessionsPerUser = 10;
 
     // JWT Claims
     private String authoritiesClaim = AppConstants.Jwt.CLAIM_AUTHORITIES;
     private String userIdClaim = AppConstants.Jwt.CLAIM_USER_ID;
-    private String emailClaim = AppConstants.Jwt.CLAIM_EMAIL;
+
+    // 검증 완료 토큰 캐시
+    private long verifiedTokenCacheSize = 10_000;
+    private Duration verifiedTokenCacheTtl = Duration.ofMinutes(5);
+
+    // 서명 키
+    private Signing signing = new Signing();
+
+    // 로컬 토큰 폐기 필터
+    private Revocation revocation = new Revocation();
+
+    @Getter
+    @Setter
+    public static class Revocation {
+        private long expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.001;
+        private long recentCacheSize = 10_000;
+        private Duration resyncInterval = Duration.ofMinutes(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Signing {
+        // 새 토큰 서명에 사용할 키 ID (kid)
+        private String activeKeyId;
+        // 키 파일 재적재 주기
+        private Duration reloadInterval = Duration.ofMinutes(5);
+        // JWKS 응답 캐시 시간
+        private Duration jwksMaxAge = Duration.ofMinutes(10);
+        // 선택: {kid}.{alg}.private.pem / {kid}.{alg}.public.pem 파일을 두는 디렉터리 (재시작 없이 키 추가)
+        private String keyDirectory;
+        private List<Key> keys = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String id;
+        // RS256, RS384, RS512, PS256, ES256, ES384, ES512
+        private String algorithm = "RS256";
+        // 비어 있으면 검증 전용 키 (폐기 예정 키 등)
+        private String privateKeyPath;
+        private String publicKeyPath;
+    }
 }
@@ -2,118 +2,355 @@ package com.edumanager.security.jwt;
 
 import com.edumanager.common.constant.AppConstants;
 //import static com.edumanager.common.constant.AppConstants.*;
+import com.edumanager.common.diagnostics.RequestTrace;
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import com.edumanager.common.util.TokenHashUtils;
 import com.edumanager.domain.user.entity.User;
+import com.edumanager.exception.auth.InvalidTokenException;
+import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.security.metrics.AuthMetrics;
+import com.edumanager.security.metrics.AuthMetrics.IssueOutcome;
+import com.edumanager.security.metrics.AuthMetrics.TokenOperation;
+import com.edumanager.security.metrics.AuthMetrics.VerifyOutcome;
+import com.edumanager.security.jwt.VerifiedTokenCache.VerifiedToken;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.stereotype.Service;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.Base64;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtTokenService {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final JwtEncoder jwtEncoder;
     private final JwtDecoder jwtDecoder;
     private final JwtProperties jwtProperties;
-    private final StringRedisTemplate stringRedisTemplate;
-    private final RSAPrivateKey rsaPrivateKey;
-    private final RSAPublicKey rsaPublicKey;
+    private final JwtAuthenticationConverter jwtAuthenticationConverter;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final JwtKeyManager jwtKeyManager;
+    private final RefreshSessionStore refreshSessionStore;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 발급한 토큰 쌍
+     *
+     * @param sessionId 리프레시 세션 ID (기기별)
+     */
+    public record IssuedTokens(String accessToken, String refreshToken, String sessionId) {
+    }
+
+    /**
+     * 로그인 - 새 기기 세션 생성
+     * 최대 세션 수를 넘으면 가장 오래 사용하지 않은 세션을 밀어내고 그 세션의 액세스 토큰도 폐기한다.
+     */
+    public IssuedTokens createSession(User user, String device) {
+        Timer.Sample sample = authMetrics.start();
+        try {
+            IssuedTokens tokens = issueSession(user, device);
+            authMetrics.tokenIssued(sample, TokenOperation.LOGIN, IssueOutcome.ISSUED);
+            return tokens;
+        } catch (RuntimeException e) {
+            authMetrics.tokenIssued(sample, TokenOperation.LOGIN, IssueOutcome.ERROR);
+            throw e;
+        }
+    }
+
+    private IssuedTokens issueSession(User user, String device) {
+        Instant now = Instant.now();
+        Instant accessExpiresAt = now.plus(jwtProperties.getAccessTokenValidity());
+        Instant refreshExpiresAt = now.plus(jwtProperties.getRefreshTokenValidity());
+        String sessionId = newTokenId();
+        String accessTokenId = newTokenId();
+        String refreshTokenId = newTokenId();
+
+        String accessToken = encodeAccessToken(user, sessionId, accessTokenId, now, accessExpiresAt);
+        String refreshToken = encodeRefreshToken(user, sessionId, refreshTokenId, now, refreshExpiresAt);
+
+        RefreshSessionStore.Session evicted = refreshSessionStore.create(user.getId(), sessionId,
+                refreshTokenId, refreshExpiresAt, accessTokenId, accessExpiresAt, device);
+        if (evicted != null) {
+            revokeAccessToken(evicted);
+        }
+        return new IssuedTokens(accessToken, refreshToken, sessionId);
+    }
+
+    /**
+     * 토큰 갱신 - 세션의 리프레시 토큰 회전
+     * 새 토큰을 먼저 서명한 뒤, 제시된 토큰이 세션의 현재 토큰일 때만 교체하는 스크립트를 한 번 실행한다.
+     * 회전에 성공하면 세션의 이전 액세스 토큰을 폐기한다.
+     * 직전 토큰이 유예 시간 이후 다시 제시되면 탈취로 보고 그 세션과 세션의 액세스 토큰을 폐기한다.
+     *
+     * @param presented decodeRefreshToken으로 검증한 리프레시 토큰
+     */
+    public IssuedTokens rotateSession(Jwt presented, User user) {
+        Timer.Sample sample = authMetrics.start();
+        String sessionId = presented.getClaimAsString(AppConstants.Jwt.CLAIM_SESSION_ID);
+        if (sessionId == null || userIdOf(presented) != user.getId()) {
+            authMetrics.tokenIssued(sample, TokenOperation.REFRESH, IssueOutcome.REJECTED);
+            throw new InvalidTokenException();
+        }
 
-    public String createAccessToken(Authentication authentication, User user) {
         Instant now = Instant.now();
-        Instant expiresAt = now.plus(jwtProperties.getAccessTokenValidity());
+        Instant accessExpiresAt = now.plus(jwtProperties.getAccessTokenValidity());
+        Instant refreshExpiresAt = now.plus(jwtProperties.getRefreshTokenValidity());
+        String accessTokenId = newTokenId();
+        String refreshTokenId = newTokenId();
+
+        String accessToken = encodeAccessToken(user, sessionId, accessTokenId, now, accessExpiresAt);
+        String refreshToken = encodeRefreshToken(user, sessionId, refreshTokenId, now, refreshExpiresAt);
+
+        RefreshSessionStore.Rotation rotation;
+        try {
+            rotation = refreshSessionStore.rotate(user.getId(), sessionId,
+                    presented.getId(), refreshTokenId, refreshExpiresAt, accessTokenId, accessExpiresAt);
+        } catch (RuntimeException e) {
+            authMetrics.tokenIssued(sample, TokenOperation.REFRESH, IssueOutcome.ERROR);
+            throw e;
+        }
 
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        switch (rotation.outcome()) {
+            case ROTATED -> {
+                // 세션당 유효한 액세스 토큰은 마지막 하나뿐 - 기기 폐기/재사용 탐지가 그 하나만 폐기하면 되도록
+                if (rotation.revoked() != null) {
+                    revokeAccessToken(rotation.revoked());
+                }
+                authMetrics.tokenIssued(sample, TokenOperation.REFRESH, IssueOutcome.ISSUED);
+                return new IssuedTokens(accessToken, refreshToken, sessionId);
+            }
+            case REUSED -> {
+                authMetrics.tokenIssued(sample, TokenOperation.REFRESH, IssueOutcome.REUSED);
+                log.warn("리프레시 토큰 재사용 탐지 - 세션 폐기: userId={}, sessionId={}", user.getId(), sessionId);
+                revokeAccessToken(rotation.revoked());
+                throw new InvalidTokenException(ErrorCode.REFRESH_TOKEN_REUSED);
+            }
+            default -> {
+                authMetrics.tokenIssued(sample, TokenOperation.REFRESH, IssueOutcome.REJECTED);
+                throw new InvalidTokenException();
+            }
+        }
+    }
+
+    /**
+     * 세션에서 마지막으로 발급한 액세스 토큰 폐기
+     */
+    public void revokeAccessToken(RefreshSessionStore.Session session) {
+        if (session.accessExpiresAt().isAfter(Instant.now())) {
+            tokenRevocationRegistry.revoke(session.accessTokenId(), session.accessExpiresAt());
+        }
+    }
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer(jwtProperties.getIssuer())
+    /**
+     * 액세스 토큰
+     * 모든 요청 헤더에 실리므로 sub, jti, iat, exp, 역할, 사용자 ID, 세션 ID, 토큰 타입, 토큰 에포크(0이면 생략)만 담는다.
+     * 역할은 접두사 없이 저장하고 JwtAuthenticationConverter가 ROLE_ 접두사를 붙인다.
+     */
+    private String encodeAccessToken(User user, String sessionId, String tokenId, Instant now, Instant expiresAt) {
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .id(tokenId)
                 .issuedAt(now)
                 .expiresAt(expiresAt)
-                .subject(authentication.getName())
-                .audience(List.of(jwtProperties.getAudience()))
-                .claim(jwtProperties.getAuthoritiesClaim(), authorities)
+                .subject(user.getEmail())
+                .claim(jwtProperties.getAuthoritiesClaim(), user.getRole().name())
                 .claim(jwtProperties.getUserIdClaim(), user.getId())
-                .claim(jwtProperties.getEmailClaim(), user.getEmail())
-                .build();
+                .claim(AppConstants.Jwt.CLAIM_SESSION_ID, sessionId)
+                .claim(AppConstants.Jwt.CLAIM_TOKEN_TYPE, AppConstants.Jwt.TOKEN_TYPE_ACCESS);
+        putEpoch(claims, user.getId());
 
-        return this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return encode(claims);
     }
 
-    public String createRefreshToken(String username, Long userId) {
-        Instant now = Instant.now();
-        Instant expiresAt = now.plus(jwtProperties.getRefreshTokenValidity());
-
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer(jwtProperties.getIssuer())
+    private String encodeRefreshToken(User user, String sessionId, String tokenId, Instant now, Instant expiresAt) {
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .id(tokenId)
                 .issuedAt(now)
                 .expiresAt(expiresAt)
-                .subject(username)
-                .audience(List.of(jwtProperties.getAudience()))
-                .claim(jwtProperties.getUserIdClaim(), userId)
-                .claim(AppConstants.Jwt.CLAIM_TOKEN_TYPE, AppConstants.Jwt.TOKEN_TYPE_REFRESH)
-                .build();
+                .subject(user.getEmail())
+                .claim(jwtProperties.getUserIdClaim(), user.getId())
+                .claim(AppConstants.Jwt.CLAIM_SESSION_ID, sessionId)
+                .claim(AppConstants.Jwt.CLAIM_TOKEN_TYPE, AppConstants.Jwt.TOKEN_TYPE_REFRESH);
+        putEpoch(claims, user.getId());
 
-        String refreshToken = this.jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return encode(claims);
+    }
 
-        // Redis에 저장
-        stringRedisTemplate.opsForValue().set(
-                AppConstants.Redis.PREFIX_REFRESH_TOKEN + username,
-                refreshToken,
-                jwtProperties.getRefreshTokenValidity().toMillis(),
-                TimeUnit.MILLISECONDS
-        );
+    /**
+     * 액세스 토큰 검증 후 인증 객체 반환
+     *
+     * 서명 검증과 권한 변환은 토큰당 한 번만 수행하고 결과를 만료 시각까지 캐시한다.
+     * 캐시 적중 시에도 블랙리스트와 사용자 토큰 에포크는 매번 확인한다.
+     * (둘 다 로컬에서 판정하며, 폐기 필터에 걸린 경우에만 Redis를 조회)
+     * 토큰 타입이 access가 아닌 토큰(리프레시 토큰 등)은 거부하며 캐시에 넣지 않는다.
+     *
+     * @return 유효한 토큰이면 Authentication, 아니면 null
+     */
+    public Authentication authenticate(String token) {
+        Timer.Sample sample = authMetrics.start();
+        String tokenKey = TokenHashUtils.sha256(token);
 
-        return refreshToken;
-    }
+        VerifiedToken cached = verifiedTokenCache.get(tokenKey);
+        if (cached != null) {
+            if (isRevoked(cached.tokenId(), cached.userId(), cached.epoch())) {
+                authMetrics.tokenVerified(sample, true, VerifyOutcome.REVOKED);
+                return null;
+            }
+            authMetrics.tokenVerified(sample, true, VerifyOutcome.VALID);
+            return cached.authentication();
+        }
 
-    public boolean validateToken(String token) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            Jwt jwt = decode(token);
+            if (!isAccessToken(jwt)) {
+                authMetrics.tokenVerified(sample, false, VerifyOutcome.INVALID);
+                log.debug("액세스 토큰이 아닌 토큰 거부: typ={}", jwt.getClaimAsString(AppConstants.Jwt.CLAIM_TOKEN_TYPE));
+                return null;
+            }
+            String tokenId = tokenIdOf(jwt, tokenKey);
+            long userId = userIdOf(jwt);
+            long epoch = epochOf(jwt);
 
-            // 블랙리스트 체크
-            Boolean isBlacklisted = stringRedisTemplate.hasKey(AppConstants.Redis.PREFIX_BLACKLIST + token);
-            return !isBlacklisted;
+            if (isRevoked(tokenId, userId, epoch)) {
+                authMetrics.tokenVerified(sample, false, VerifyOutcome.REVOKED);
+                return null;
+            }
+
+            Authentication authentication = jwtAuthenticationConverter.convert(jwt);
+            if (jwt.getExpiresAt() != null) {
+                verifiedTokenCache.put(tokenKey,
+                        new VerifiedToken(authentication, tokenId, userId, epoch, jwt.getExpiresAt()));
+            }
+            authMetrics.tokenVerified(sample, false, VerifyOutcome.VALID);
+            return authentication;
 
         } catch (JwtException e) {
+            authMetrics.tokenVerified(sample, false, VerifyOutcome.INVALID);
             log.error("Token validation error: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
-    public String getUsernameFromToken(String token) {
-        return jwtDecoder.decode(token).getSubject();
+    public boolean validateToken(String token) {
+        return authenticate(token) != null;
+    }
+
+    /**
+     * 리프레시 토큰 디코딩
+     * 서명/만료 검증과 함께 토큰 타입이 refresh인지, 사용자 토큰 에포크가 현재 값인지 확인한다.
+     */
+    public Jwt decodeRefreshToken(String token) {
+        Jwt jwt = decode(token);
+        if (!AppConstants.Jwt.TOKEN_TYPE_REFRESH.equals(jwt.getClaimAsString(AppConstants.Jwt.CLAIM_TOKEN_TYPE))) {
+            throw new BadJwtException("Not a refresh token");
+        }
+        long userId = userIdOf(jwt);
+        if (userId != 0 && !tokenEpochRegistry.isCurrent(userId, epochOf(jwt))) {
+            throw new BadJwtException("Refresh token has been invalidated");
+        }
+        return jwt;
     }
 
-    public void blacklistToken(String token) {
+    /**
+     * 로그아웃 - 액세스 토큰을 폐기하고 토큰의 기기 세션을 삭제한다.
+     *
+     * @return 토큰 주체(username), 토큰 검증에 실패하면 null
+     */
+    public String logout(String accessToken) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            long expirationTime = jwt.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
-
-            if (expirationTime > 0) {
-                stringRedisTemplate.opsForValue().set(
-                        AppConstants.Redis.PREFIX_BLACKLIST + token,
-                        "true",
-                        expirationTime,
-                        TimeUnit.MILLISECONDS
-                );
+            String tokenKey = TokenHashUtils.sha256(accessToken);
+            Jwt jwt = decode(accessToken);
+            if (!isAccessToken(jwt)) {
+                log.debug("액세스 토큰이 아닌 토큰으로 로그아웃 요청 - 무시");
+                return null;
             }
-        } catch (Exception e) {
-            log.error("Error blacklisting token: {}", e.getMessage());
+            tokenRevocationRegistry.revoke(tokenIdOf(jwt, tokenKey), jwt.getExpiresAt());
+            verifiedTokenCache.invalidate(tokenKey);
+
+            String sessionId = jwt.getClaimAsString(AppConstants.Jwt.CLAIM_SESSION_ID);
+            long userId = userIdOf(jwt);
+            if (sessionId != null && userId != 0) {
+                refreshSessionStore.revoke(userId, sessionId);
+            }
+            return jwt.getSubject();
+        } catch (JwtException e) {
+            log.error("Error revoking token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 활성 키로 서명 (헤더에 alg, kid 포함)
+     */
+    private String encode(JwtClaimsSet.Builder claims) {
+        long started = RequestTrace.start();
+        try {
+            return this.jwtEncoder.encode(JwtEncoderParameters.from(jwtKeyManager.signingHeader(), claims.build()))
+                    .getTokenValue();
+        } finally {
+            RequestTrace.record(Category.CRYPTO, "jwt.sign", started);
+        }
+    }
+
+    /**
+     * 서명/만료 검증
+     */
+    private Jwt decode(String token) {
+        long started = RequestTrace.start();
+        try {
+            return jwtDecoder.decode(token);
+        } finally {
+            RequestTrace.record(Category.CRYPTO, "jwt.verify", started);
+        }
+    }
+
+    private boolean isAccessToken(Jwt jwt) {
+        return AppConstants.Jwt.TOKEN_TYPE_ACCESS.equals(jwt.getClaimAsString(AppConstants.Jwt.CLAIM_TOKEN_TYPE));
+    }
+
+    private boolean isRevoked(String tokenId, long userId, long epoch) {
+        if (userId != 0 && !tokenEpochRegistry.isCurrent(userId, epoch)) {
+            return true;
+        }
+        return tokenRevocationRegistry.isRevoked(tokenId);
+    }
+
+    private void putEpoch(JwtClaimsSet.Builder claims, Long userId) {
+        long epoch = userId != null ? tokenEpochRegistry.currentEpoch(userId) : 0L;
+        if (epoch > 0) {
+            claims.claim(AppConstants.Jwt.CLAIM_TOKEN_EPOCH, epoch);
         }
     }
+
+    private long userIdOf(Jwt jwt) {
+        return jwt.getClaims().get(jwtProperties.getUserIdClaim()) instanceof Number userId ? userId.longValue() : 0L;
+    }
+
+    private long epochOf(Jwt jwt) {
+        return jwt.getClaims().get(AppConstants.Jwt.CLAIM_TOKEN_EPOCH) instanceof Number epoch ? epoch.longValue() : 0L;
+    }
+
+    /**
+     * 폐기/갱신 관리에 쓰는 토큰 식별자
+     * jti가 없는 이전 형식 토큰은 토큰 다이제스트를 사용한다.
+     */
+    private String tokenIdOf(Jwt jwt, String tokenKey) {
+        return jwt.getId() != null ? jwt.getId() : tokenKey;
+    }
+
+    private static String newTokenId() {
+        byte[] bytes = new byte[AppConstants.Jwt.TOKEN_ID_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
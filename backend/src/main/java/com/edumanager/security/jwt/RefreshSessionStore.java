@@ -0,0 +1,240 @@
+package com.edumanager.security.jwt;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_REFRESH_SESSION;
+
+/**
+ * 기기별 리프레시 세션 저장소 (Redis Hash)
+ *
+ * 사용자마다 refresh_session:{userId} 해시 하나를 두고, 필드는 세션 ID(sid), 값은 세션 정보다.
+ * 값 형식: jti|prevJti|lastUsedAt|createdAt|expiresAt|accessJti|accessExpiresAt|device
+ *
+ * 해시 필드에는 개별 TTL이 없으므로 값에 만료 시각을 두고 생성/회전/조회 시 만료된 필드를 지운다.
+ * 키 TTL은 가장 늦게 만료되는 세션에 맞춘다.
+ * 생성/회전/삭제는 Lua 스크립트 한 번으로 처리하므로 각각 한 번의 왕복으로 끝난다.
+ * 모든 작업은 Redis 차단기를 거치며, 저하 모드나 타임아웃이면 기다리지 않고 503으로 거절한다.
+ * (세션 삭제가 조용히 실패하면 로그아웃한 기기의 리프레시 토큰이 살아남으므로 조회/삭제도 같다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionStore {
+
+    private static final RedisScript<List> CREATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/create-refresh-session.lua"), List.class);
+    private static final RedisScript<List> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate-refresh-session.lua"), List.class);
+    private static final RedisScript<String> REVOKE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/revoke-refresh-session.lua"), String.class);
+
+    private static final char SEPARATOR = '|';
+    private static final int MAX_DEVICE_LENGTH = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtProperties jwtProperties;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    /**
+     * 리프레시 세션
+     *
+     * @param tokenId       현재 리프레시 토큰 jti
+     * @param accessTokenId 이 세션에서 마지막으로 발급한 액세스 토큰 jti (세션 삭제 시 함께 폐기)
+     */
+    public record Session(String sessionId, String tokenId, Instant lastUsedAt, Instant createdAt,
+                          Instant expiresAt, String accessTokenId, Instant accessExpiresAt, String device) {
+
+        static Session parse(String sessionId, String value) {
+            String[] parts = value.split("\\|", -1);
+            return new Session(sessionId, parts[0],
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[4])),
+                    parts[5],
+                    Instant.ofEpochMilli(Long.parseLong(parts[6])),
+                    parts.length > 7 ? parts[7] : "");
+        }
+
+        public boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    public enum Outcome {
+        // 교체 완료
+        ROTATED,
+        // 세션이 없거나 현재 토큰이 아님
+        INVALID,
+        // 직전 토큰이 유예 시간 안에 다시 제시됨 (동시 갱신) - 세션은 유지
+        CONCURRENT,
+        // 직전 토큰이 유예 시간 이후 다시 제시됨 (탈취 의심) - 세션 삭제됨
+        REUSED
+    }
+
+    /**
+     * 회전 결과
+     *
+     * @param revoked ROTATED: 교체 전 세션 (이전 액세스 토큰 폐기용), REUSED: 재사용 탐지로 삭제된 세션, 그 외 null
+     */
+    public record Rotation(Outcome outcome, Session revoked) {
+    }
+
+    /**
+     * 새 세션 저장
+     *
+     * @return 최대 세션 수를 넘어 밀어낸 세션 (없으면 null)
+     */
+    public Session create(long userId, String sessionId, String tokenId, Instant expiresAt,
+                          String accessTokenId, Instant accessExpiresAt, String device) {
+        long now = System.currentTimeMillis();
+        String value = String.join(String.valueOf(SEPARATOR),
+                tokenId, "", String.valueOf(now), String.valueOf(now), String.valueOf(expiresAt.toEpochMilli()),
+                accessTokenId, String.valueOf(accessExpiresAt.toEpochMilli()), sanitizeDevice(device));
+
+        List<?> evicted = redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.execute(CREATE_SCRIPT,
+                        List.of(key(userId)),
+                        sessionId,
+                        value,
+                        String.valueOf(keyTtl().toMillis()),
+                        String.valueOf(now),
+                        String.valueOf(jwtProperties.getMaxSessionsPerUser())),
+                RefreshSessionStore::unavailable);
+
+        if (evicted == null || evicted.size() < 2) {
+            return null;
+        }
+        log.info("최대 세션 수 초과로 세션 종료: userId={}, sessionId={}", userId, evicted.get(0));
+        return Session.parse((String) evicted.get(0), (String) evicted.get(1));
+    }
+
+    public Rotation rotate(long userId, String sessionId, String presentedTokenId, String newTokenId,
+                           Instant expiresAt, String accessTokenId, Instant accessExpiresAt) {
+        List<?> result = redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.execute(ROTATE_SCRIPT,
+                        List.of(key(userId)),
+                        sessionId,
+                        presentedTokenId,
+                        newTokenId,
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(jwtProperties.getRefreshReuseGrace().toMillis()),
+                        String.valueOf(expiresAt.toEpochMilli()),
+                        accessTokenId,
+                        String.valueOf(accessExpiresAt.toEpochMilli()),
+                        String.valueOf(keyTtl().toMillis())),
+                RefreshSessionStore::unavailable);
+
+        if (result == null || result.isEmpty()) {
+            return new Rotation(Outcome.INVALID, null);
+        }
+        return switch (((Number) result.get(0)).intValue()) {
+            case 1 -> new Rotation(Outcome.ROTATED,
+                    result.size() > 1 ? Session.parse(sessionId, (String) result.get(1)) : null);
+            case 2 -> new Rotation(Outcome.CONCURRENT, null);
+            case -1 -> new Rotation(Outcome.REUSED, Session.parse(sessionId, (String) result.get(1)));
+            default -> new Rotation(Outcome.INVALID, null);
+        };
+    }
+
+    /**
+     * 유효한 세션 목록 (최근 사용 순)
+     * 만료된 세션은 이때 함께 지운다.
+     */
+    public List<Session> findAll(long userId) {
+        Map<Object, Object> entries = redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.opsForHash().entries(key(userId)),
+                RefreshSessionStore::unavailable);
+        Instant now = Instant.now();
+
+        List<Session> sessions = new ArrayList<>(entries.size());
+        List<Object> expired = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            Session session = Session.parse((String) field, (String) value);
+            if (session.isExpired(now)) {
+                expired.add(field);
+            } else {
+                sessions.add(session);
+            }
+        });
+        if (!expired.isEmpty()) {
+            // 정리는 다음 생성/회전 때도 하므로 실패해도 목록은 돌려준다
+            redisCircuitBreaker.run(RedisOperation.SESSION,
+                    () -> stringRedisTemplate.opsForHash().delete(key(userId), expired.toArray()),
+                    () -> log.debug("만료 세션 정리 건너뜀: userId={}", userId));
+        }
+
+        sessions.sort(Comparator.comparing(Session::lastUsedAt).reversed());
+        return sessions;
+    }
+
+    /**
+     * 세션 하나 삭제
+     *
+     * @return 삭제한 세션 (없으면 null)
+     */
+    public Session revoke(long userId, String sessionId) {
+        String value = redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.execute(REVOKE_SCRIPT, List.of(key(userId)), sessionId),
+                RefreshSessionStore::unavailable);
+        return value != null ? Session.parse(sessionId, value) : null;
+    }
+
+    public void revokeAll(long userId) {
+        redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.delete(key(userId)),
+                RefreshSessionStore::unavailable);
+    }
+
+    /**
+     * 여러 사용자의 세션 일괄 삭제 (파이프라인 한 번)
+     */
+    public void revokeAll(Collection<Long> userIds) {
+        redisCircuitBreaker.execute(RedisOperation.SESSION,
+                () -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Long userId : userIds) {
+                        connection.keyCommands().del(key(userId).getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                }),
+                RefreshSessionStore::unavailable);
+    }
+
+    private Duration keyTtl() {
+        return jwtProperties.getRefreshTokenValidity();
+    }
+
+    private static String key(long userId) {
+        return PREFIX_REFRESH_SESSION + userId;
+    }
+
+    private static String sanitizeDevice(String device) {
+        if (device == null) {
+            return "";
+        }
+        String sanitized = device.replace(SEPARATOR, '/');
+        return sanitized.length() > MAX_DEVICE_LENGTH ? sanitized.substring(0, MAX_DEVICE_LENGTH) : sanitized;
+    }
+
+    private static <T> T unavailable() {
+        throw new BusinessException(ErrorCode.SESSION_STORE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,265 @@
+package com.edumanager.security.jwt;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisKeyScanner;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.common.util.ConcurrentLongLongMap;
+import com.edumanager.domain.user.event.UserSessionsInvalidatedEvent;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.edumanager.common.constant.AppConstants.Redis.CHANNEL_TOKEN_EPOCH;
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_TOKEN_EPOCH;
+
+/**
+ * 사용자별 토큰 에포크 관리 ("모든 기기에서 로그아웃")
+ *
+ * 토큰에는 발급 시점의 에포크(ep)가 들어가고, 현재 에포크 이상일 때만 유효하다.
+ * 에포크를 한 번 올리면(INCR) 그 사용자에게 발급된 모든 토큰이 한꺼번에 무효화된다.
+ *
+ * 현재 에포크는 Redis가 원본이고 각 노드는 박싱 없는 long 맵에 복제해 두므로
+ * 요청마다 Redis를 조회하지 않는다. 변경은 Pub/Sub으로 전파되고 기동 시/주기적으로 재동기화한다.
+ * 에포크를 올린 적 없는 사용자는 0이다.
+ *
+ * 에포크 증가는 Redis에 기록하지 못하면 다른 노드가 무효화를 모르므로 실패로 처리한다. (503)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochRegistry implements MessageListener {
+
+    private static final int SCAN_COUNT = 1000;
+    private static final int MGET_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    private final ConcurrentLongLongMap epochs = new ConcurrentLongLongMap();
+    private volatile boolean synced = false;
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_TOKEN_EPOCH));
+    }
+
+    public long currentEpoch(long userId) {
+        return epochs.get(userId, 0L);
+    }
+
+    /**
+     * 토큰의 에포크가 사용자의 현재 에포크 이상인지 확인
+     *
+     * 에포크는 단조 증가하고 토큰의 에포크는 서버가 서명한 값이므로, 로컬 값보다 큰 에포크는
+     * 이 노드가 아직 받지 못한 증가분이다. 그 값을 로컬에 반영하고 유효로 본다. (Pub/Sub 유실 대비)
+     * 첫 동기화 전에는 로컬 맵이 비어 있으므로 Redis 값을 직접 확인하고, Redis도 실패하면 거부한다.
+     */
+    public boolean isCurrent(long userId, long tokenEpoch) {
+        long local = synced ? epochs.get(userId, 0L) : loadFromRedis(userId);
+        if (local < 0) {
+            return false;
+        }
+        if (tokenEpoch > local) {
+            epochs.putIfGreater(userId, tokenEpoch);
+            return true;
+        }
+        return tokenEpoch == local;
+    }
+
+    /**
+     * 에포크 증가 - 사용자의 기존 토큰을 모두 무효화
+     *
+     * @return 새 에포크
+     */
+    public long bump(long userId) {
+        long newEpoch = redisCircuitBreaker.execute(RedisOperation.TOKEN, () -> {
+            Long epoch = stringRedisTemplate.opsForValue().increment(PREFIX_TOKEN_EPOCH + userId);
+            long value = epoch != null ? epoch : 0L;
+            // 전파가 실패해도 이 노드에서는 바로 무효화되도록 먼저 반영한다
+            epochs.putIfGreater(userId, value);
+            stringRedisTemplate.convertAndSend(CHANNEL_TOKEN_EPOCH, userId + " " + value);
+            return value;
+        }, TokenEpochRegistry::unavailable);
+
+        log.info("사용자 토큰 에포크 증가: userId={}, epoch={}", userId, newEpoch);
+        return newEpoch;
+    }
+
+    /**
+     * 여러 사용자의 에포크 일괄 증가
+     * 사용자 수와 관계없이 INCR 파이프라인 한 번, PUBLISH 파이프라인 한 번으로 처리한다.
+     */
+    public void bumpAll(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        int count = redisCircuitBreaker.execute(RedisOperation.TOKEN, () -> {
+            List<Object> epochsByUser = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : ids) {
+                    connection.stringCommands().incr((PREFIX_TOKEN_EPOCH + userId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            List<String> messages = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                if (epochsByUser.get(i) instanceof Number epoch) {
+                    epochs.putIfGreater(ids.get(i), epoch.longValue());
+                    messages.add(ids.get(i) + " " + epoch.longValue());
+                }
+            }
+
+            byte[] channel = CHANNEL_TOKEN_EPOCH.getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String message : messages) {
+                    connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            return messages.size();
+        }, TokenEpochRegistry::unavailable);
+
+        log.info("사용자 토큰 에포크 일괄 증가: count={}", count);
+    }
+
+    /**
+     * 비밀번호 변경/계정 비활성화가 커밋된 뒤 에포크 증가
+     * 이미 커밋된 뒤이므로 실패해도 되돌릴 수 없다. (기존 토큰은 만료 시까지 유효 - 오류 로그로 남긴다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSessionsInvalidated(UserSessionsInvalidatedEvent event) {
+        try {
+            bump(event.userId());
+        } catch (BusinessException e) {
+            log.error("Redis를 쓸 수 없어 토큰 에포크를 올리지 못함 - 기존 토큰이 만료 전까지 유효: userId={}", event.userId());
+        }
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)의 에포크 변경 수신
+     * 메시지 형식: "{userId} {epoch}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(' ');
+        try {
+            epochs.putIfGreater(Long.parseLong(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 에포크 메시지: {}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval:PT30M}",
+            initialDelayString = "${jwt.revocation.resync-interval:PT30M}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 에포크 키를 스캔해 로컬 맵에 반영
+     * 에포크는 단조 증가하므로 더 큰 값만 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (redisCircuitBreaker.isDegraded()) {
+            log.info("Redis 저하 모드 - 토큰 에포크 동기화 건너뜀 (기존 상태 유지)");
+            return;
+        }
+        long[] count = {0};
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(PREFIX_TOKEN_EPOCH + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        List<String> batch = new ArrayList<>(MGET_BATCH_SIZE);
+        try {
+            RedisKeyScanner.scan(stringRedisTemplate, options, key -> {
+                batch.add(key);
+                if (batch.size() == MGET_BATCH_SIZE) {
+                    count[0] += load(batch);
+                    batch.clear();
+                }
+            });
+            count[0] += load(batch);
+        } catch (Exception e) {
+            log.error("토큰 에포크 동기화 실패 (기존 상태 유지): {}", e.getMessage());
+            return;
+        }
+        synced = true;
+        log.info("토큰 에포크 동기화 완료: count={}", count[0]);
+    }
+
+    /**
+     * 첫 동기화 전 단건 조회 (실패 시 -1)
+     */
+    private long loadFromRedis(long userId) {
+        try {
+            Long epoch = redisCircuitBreaker.execute(RedisOperation.TOKEN, () -> {
+                String value = stringRedisTemplate.opsForValue().get(PREFIX_TOKEN_EPOCH + userId);
+                return value != null ? Long.parseLong(value) : 0L;
+            }, () -> null);
+            if (epoch == null) {
+                log.warn("동기화 전 토큰 에포크 조회 실패 (Redis 저하) - 거부: userId={}", userId);
+                return -1L;
+            }
+            epochs.putIfGreater(userId, epoch);
+            return epochs.get(userId, 0L);
+        } catch (RuntimeException e) {
+            log.warn("동기화 전 토큰 에포크 조회 실패 - 거부: userId={}, {}", userId, e.getMessage());
+            return -1L;
+        }
+    }
+
+    private int load(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                long userId = Long.parseLong(keys.get(i).substring(PREFIX_TOKEN_EPOCH.length()));
+                epochs.putIfGreater(userId, Long.parseLong(value));
+                loaded++;
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 토큰 에포크 키: {}={}", keys.get(i), value);
+            }
+        }
+        return loaded;
+    }
+
+    private static <T> T unavailable() {
+        throw new BusinessException(ErrorCode.SESSION_STORE_UNAVAILABLE);
+    }
+}
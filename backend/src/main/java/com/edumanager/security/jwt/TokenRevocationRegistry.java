@@ -0,0 +1,209 @@
+package com.edumanager.security.jwt;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisKeyScanner;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.common.redis.ReplicaStringRedisTemplate;
+import com.edumanager.common.util.BloomFilter;
+import com.edumanager.security.metrics.AuthMetrics;
+import com.edumanager.security.metrics.AuthMetrics.BlacklistPath;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.edumanager.common.constant.AppConstants.Redis.CHANNEL_TOKEN_REVOCATION;
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_BLACKLIST;
+
+/**
+ * 폐기(블랙리스트)된 토큰의 로컬 인덱스
+ *
+ * 블룸 필터가 "확실히 폐기되지 않음"을 I/O 없이 판정하고, 최근 폐기된 토큰은 정확 집합으로 바로 확인한다.
+ * 필터에 걸렸지만 정확 집합에 없는 경우(오탐 가능)에만 Redis를 조회한다.
+ *
+ * - 폐기는 Redis에 기록한 뒤 Pub/Sub으로 모든 노드에 전파된다.
+ * - 기동 시와 주기적으로 Redis를 스캔해 필터를 재구성한다. (놓친 메시지 보정, 만료 항목 정리)
+ * - 첫 동기화 전에는 필터를 신뢰하지 않고 항상 Redis를 조회한다. Redis도 쓸 수 없으면 폐기된 것으로 본다. (fail-closed)
+ * - Redis 조회와 스캔은 복제본으로 보낸다. (방금 폐기된 토큰은 복제 지연과 무관하게 정확 집합이 잡는다)
+ *   복제본 읽기(app.redis.replica-reads.token-blacklist)를 끄면 복제본 템플릿이 없으므로 주 노드로 보낸다.
+ * - Redis 저하 모드에서는 로컬 스냅샷(필터 + 정확 집합)만으로 판정한다.
+ * - 폐기 기록/전파가 실패하면 이 노드에만 반영하고 요청은 계속 진행한다. (세션 삭제와 에포크 증가는 실패 시 503)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry implements MessageListener {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<ReplicaStringRedisTemplate> replicaStringRedisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final JwtProperties jwtProperties;
+    private final AuthMetrics authMetrics;
+
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+    private volatile boolean synced = false;
+    private volatile long lastRebuildCount = 0;
+    private Cache<String, Long> recentRevocations;
+
+    @PostConstruct
+    void init() {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        this.recentRevocations = Caffeine.newBuilder()
+                .maximumSize(revocation.getRecentCacheSize())
+                .expireAfter(Expiry.creating((String tokenId, Long expiresAtMillis) ->
+                        Duration.ofMillis(Math.max(0, expiresAtMillis - System.currentTimeMillis()))))
+                .build();
+        this.filter.set(newFilter());
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_TOKEN_REVOCATION));
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     * 대부분의 요청은 블룸 필터에서 I/O 없이 끝난다.
+     * Redis를 쓸 수 없으면 필터에 걸린 토큰은 폐기된 것으로 본다. (필터는 놓치는 경우가 없으므로 오탐 토큰만 잠시 거절된다)
+     * 첫 동기화 전에는 필터가 비어 있어 모든 토큰이 Redis 조회로 오므로, Redis를 쓸 수 없으면 모두 거절된다.
+     * (TokenEpochRegistry도 동기화 전 Redis 장애 시 거절하므로 동작이 같다)
+     */
+    public boolean isRevoked(String tokenId) {
+        Timer.Sample sample = authMetrics.start();
+        if (synced && !filter.get().mightContain(tokenId)) {
+            authMetrics.blacklistChecked(sample, BlacklistPath.FILTER, false);
+            return false;
+        }
+        if (recentRevocations.getIfPresent(tokenId) != null) {
+            authMetrics.blacklistChecked(sample, BlacklistPath.RECENT, true);
+            return true;
+        }
+        boolean revoked = redisCircuitBreaker.execute(RedisOperation.TOKEN,
+                () -> Boolean.TRUE.equals(readTemplate().hasKey(PREFIX_BLACKLIST + tokenId)),
+                () -> true);
+        authMetrics.blacklistChecked(sample, BlacklistPath.REDIS, revoked);
+        return revoked;
+    }
+
+    /**
+     * 토큰 폐기
+     * 이 노드에 먼저 반영한 뒤 Redis에 만료 시각까지 기록하고 다른 노드에 전파한다.
+     * Redis를 쓸 수 없으면 이 노드에만 반영된다. (다른 노드에서는 짧은 액세스 토큰 만료 시까지 유효)
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        addLocal(tokenId, expiresAtMillis);
+        redisCircuitBreaker.run(RedisOperation.TOKEN, () -> {
+            stringRedisTemplate.opsForValue().set(PREFIX_BLACKLIST + tokenId, "true", ttlMillis, TimeUnit.MILLISECONDS);
+            stringRedisTemplate.convertAndSend(CHANNEL_TOKEN_REVOCATION, tokenId + " " + expiresAtMillis);
+        }, () -> log.warn("Redis를 쓸 수 없어 토큰 폐기를 이 노드에만 반영: tokenId={}", tokenId));
+    }
+
+    /**
+     * 다른 노드(자기 자신 포함)의 폐기 이벤트 수신
+     * 메시지 형식: "{tokenId} {expiresAtMillis}"
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(' ');
+        if (separator <= 0) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+            return;
+        }
+        try {
+            addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.resync-interval:PT30M}",
+            initialDelayString = "${jwt.revocation.resync-interval:PT30M}")
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * Redis의 블랙리스트 키를 스캔해 필터를 새로 만든 뒤 교체
+     * 스캔 중 도착한 폐기 이벤트는 정확 집합에 남아 있으므로 교체 전후로 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (redisCircuitBreaker.isDegraded()) {
+            log.info("Redis 저하 모드 - 토큰 폐기 필터 재구성 건너뜀 (기존 상태 유지)");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        BloomFilter rebuilt = newFilter();
+        long count;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(PREFIX_BLACKLIST + "*")
+                .count(SCAN_COUNT)
+                .build();
+        try {
+            count = RedisKeyScanner.scan(readTemplate(), options,
+                    key -> rebuilt.put(key.substring(PREFIX_BLACKLIST.length())));
+        } catch (Exception e) {
+            log.error("토큰 폐기 필터 재구성 실패 (기존 상태 유지): {}", e.getMessage());
+            return;
+        }
+
+        // 교체 전에 먼저 반영해야 교체 직후 방금 폐기한 토큰이 필터 음성으로 통과하지 않는다
+        recentRevocations.asMap().keySet().forEach(rebuilt::put);
+        filter.set(rebuilt);
+        // 복사와 교체 사이에 이전 필터로 들어간 폐기분
+        recentRevocations.asMap().keySet().forEach(rebuilt::put);
+        lastRebuildCount = count;
+        synced = true;
+
+        if (rebuilt.isSaturated()) {
+            log.warn("토큰 폐기 필터 용량 초과: count={}, expected={}", count, rebuilt.expectedInsertions());
+        }
+        log.info("토큰 폐기 필터 재구성 완료: count={}, bits={}, elapsed={}ms",
+                count, rebuilt.bitSize(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void addLocal(String tokenId, long expiresAtMillis) {
+        recentRevocations.put(tokenId, expiresAtMillis);
+        filter.get().put(tokenId);
+    }
+
+    // 폐기 토큰이 설정값보다 많아지면 다음 재구성부터 여유 있게 키운다
+    private BloomFilter newFilter() {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        long expected = Math.max(revocation.getExpectedInsertions(), lastRebuildCount * 2);
+        return new BloomFilter(expected, revocation.getFalsePositiveRate());
+    }
+
+    private StringRedisTemplate readTemplate() {
+        ReplicaStringRedisTemplate replica = replicaStringRedisTemplate.getIfAvailable();
+        return replica != null ? replica : stringRedisTemplate;
+    }
+}
@@ -0,0 +1,81 @@
+package com.edumanager.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 인증 객체 캐시
+ *
+ * 폴링하는 프론트엔드는 같은 토큰으로 분당 수십 번 API를 호출하므로,
+ * 토큰 다이제스트를 키로 변환 완료된 Authentication을 보관해 RSA 서명 검증을 반복하지 않는다.
+ * 항목은 토큰 만료 시각과 설정된 최대 보관 시간 중 빠른 쪽에 만료되며, 전체 크기는 제한된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties) {
+        Duration maxTtl = jwtProperties.getVerifiedTokenCacheTtl();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> {
+                    Duration untilExpiry = Duration.between(Instant.now(), token.expiresAt());
+                    if (untilExpiry.isNegative()) {
+                        return Duration.ZERO;
+                    }
+                    return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+                }))
+                .build();
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param tokenKey 토큰 다이제스트
+     * @return 만료되지 않은 검증 결과, 없으면 null
+     */
+    public VerifiedToken get(String tokenKey) {
+        VerifiedToken token = cache.getIfPresent(tokenKey);
+        if (token == null) {
+            return null;
+        }
+        // 정리 주기와 무관하게 만료된 토큰은 절대 반환하지 않는다
+        if (!token.expiresAt().isAfter(Instant.now())) {
+            cache.invalidate(tokenKey);
+            return null;
+        }
+        return token;
+    }
+
+    public void put(String tokenKey, VerifiedToken token) {
+        cache.put(tokenKey, token);
+    }
+
+    public void invalidate(String tokenKey) {
+        cache.invalidate(tokenKey);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 검증 완료된 토큰 정보
+     *
+     * @param authentication 권한 변환까지 끝난 인증 객체
+     * @param tokenId        폐기 여부 확인에 쓰는 토큰 ID (jti)
+     * @param userId         토큰 소유자 ID (없으면 0)
+     * @param epoch          발급 시점의 사용자 토큰 에포크
+     * @param expiresAt      토큰 만료 시각
+     */
+    public record VerifiedToken(Authentication authentication, String tokenId, long userId, long epoch,
+                                Instant expiresAt) {
+    }
+}
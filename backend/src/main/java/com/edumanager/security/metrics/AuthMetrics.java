@@ -0,0 +1,142 @@
+package com.edumanager.security.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 지표
+ *
+ * 모든 태그 값은 아래 열거형에서만 나오므로 시계열 수가 고정된다. (사용자, 토큰, IP는 태그에 넣지 않는다)
+ * 타이머는 기동 시 모두 등록해 요청 경로에서는 배열 조회만 한다.
+ *
+ * - auth.token.issue{operation=login|refresh, outcome}: 토큰 발급 (refresh는 세션 회전 결과별)
+ * - auth.token.verify{cache=hit|miss, outcome}: 액세스 토큰 검증
+ * - auth.token.blacklist{path, result}: 폐기 여부 확인 (어느 단계에서 판정했는지)
+ * - auth.password.hash{operation, outcome}: BCrypt 해싱 (전용 풀 대기 포함), auth.password.hash.queue: 풀 대기 시간
+ *
+ * 히스토그램/SLO 구간은 management.metrics.distribution.*에서 설정한다.
+ */
+@Component
+public class AuthMetrics {
+
+    public enum TokenOperation {
+        LOGIN, REFRESH
+    }
+
+    public enum IssueOutcome {
+        ISSUED, REUSED, REJECTED, ERROR
+    }
+
+    public enum VerifyOutcome {
+        VALID, REVOKED, INVALID
+    }
+
+    public enum BlacklistPath {
+        // 블룸 필터 음성 / 최근 폐기 집합 / Redis 조회(차단 중 대체 판정 포함)
+        FILTER, RECENT, REDIS
+    }
+
+    public enum HashOperation {
+        ENCODE, MATCHES
+    }
+
+    public enum HashOutcome {
+        SUCCESS, REJECTED, TIMEOUT, ERROR
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[][] issueTimers;
+    private final Timer[][] verifyTimers;
+    private final Timer[][] blacklistTimers;
+    private final Timer[][] hashTimers;
+    private final Timer hashQueueTimer;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.issueTimers = new Timer[TokenOperation.values().length][IssueOutcome.values().length];
+        for (TokenOperation operation : TokenOperation.values()) {
+            for (IssueOutcome outcome : IssueOutcome.values()) {
+                issueTimers[operation.ordinal()][outcome.ordinal()] = Timer.builder("auth.token.issue")
+                        .description("토큰 발급 시간")
+                        .tag("operation", tag(operation))
+                        .tag("outcome", tag(outcome))
+                        .register(meterRegistry);
+            }
+        }
+
+        this.verifyTimers = new Timer[2][VerifyOutcome.values().length];
+        for (VerifyOutcome outcome : VerifyOutcome.values()) {
+            verifyTimers[0][outcome.ordinal()] = verifyTimer("miss", outcome);
+            verifyTimers[1][outcome.ordinal()] = verifyTimer("hit", outcome);
+        }
+
+        this.blacklistTimers = new Timer[BlacklistPath.values().length][2];
+        for (BlacklistPath path : BlacklistPath.values()) {
+            blacklistTimers[path.ordinal()][0] = blacklistTimer(path, "clear");
+            blacklistTimers[path.ordinal()][1] = blacklistTimer(path, "revoked");
+        }
+
+        this.hashTimers = new Timer[HashOperation.values().length][HashOutcome.values().length];
+        for (HashOperation operation : HashOperation.values()) {
+            for (HashOutcome outcome : HashOutcome.values()) {
+                hashTimers[operation.ordinal()][outcome.ordinal()] = Timer.builder("auth.password.hash")
+                        .description("비밀번호 해싱 시간 (전용 풀 대기 포함)")
+                        .tag("operation", tag(operation))
+                        .tag("outcome", tag(outcome))
+                        .register(meterRegistry);
+            }
+        }
+        this.hashQueueTimer = Timer.builder("auth.password.hash.queue")
+                .description("비밀번호 해싱 풀 대기 시간")
+                .register(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void tokenIssued(Timer.Sample sample, TokenOperation operation, IssueOutcome outcome) {
+        sample.stop(issueTimers[operation.ordinal()][outcome.ordinal()]);
+    }
+
+    public void tokenVerified(Timer.Sample sample, boolean cached, VerifyOutcome outcome) {
+        sample.stop(verifyTimers[cached ? 1 : 0][outcome.ordinal()]);
+    }
+
+    public void blacklistChecked(Timer.Sample sample, BlacklistPath path, boolean revoked) {
+        sample.stop(blacklistTimers[path.ordinal()][revoked ? 1 : 0]);
+    }
+
+    public void passwordHashed(Timer.Sample sample, HashOperation operation, HashOutcome outcome) {
+        sample.stop(hashTimers[operation.ordinal()][outcome.ordinal()]);
+    }
+
+    public void passwordHashQueued(long queuedNanos) {
+        hashQueueTimer.record(queuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer verifyTimer(String cache, VerifyOutcome outcome) {
+        return Timer.builder("auth.token.verify")
+                .description("액세스 토큰 검증 시간")
+                .tag("cache", cache)
+                .tag("outcome", tag(outcome))
+                .register(meterRegistry);
+    }
+
+    private Timer blacklistTimer(BlacklistPath path, String result) {
+        return Timer.builder("auth.token.blacklist")
+                .description("토큰 폐기 여부 확인 시간")
+                .tag("path", tag(path))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.edumanager.security.password;
+
+import com.edumanager.common.diagnostics.RequestTrace;
+import com.edumanager.common.diagnostics.RequestTrace.Category;
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import com.edumanager.security.metrics.AuthMetrics;
+import com.edumanager.security.metrics.AuthMetrics.HashOperation;
+import com.edumanager.security.metrics.AuthMetrics.HashOutcome;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 해싱 작업을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ *
+ * BCrypt는 호출당 ~100ms의 CPU를 쓰므로 동시 실행 수를 코어 수 수준으로 제한하고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 거절(503)해 로그인 폭주가
+ * 다른 API의 요청 스레드와 CPU를 잠식하지 않도록 한다.
+ * 대기 포함 소요 시간은 결과별(auth.password.hash), 풀 대기 시간은 따로(auth.password.hash.queue) 기록한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AsyncTaskExecutor executor;
+    private final long timeoutMillis;
+    private final AuthMetrics authMetrics;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, AsyncTaskExecutor executor, Duration timeout,
+                                  AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMillis = timeout.toMillis();
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(HashOperation.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(HashOperation.MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(HashOperation operation, Callable<T> task) {
+        long traceStarted = RequestTrace.start();
+        try {
+            return submit(operation, task);
+        } finally {
+            RequestTrace.record(Category.CRYPTO, operation == HashOperation.ENCODE ? "bcrypt.encode" : "bcrypt.matches",
+                    traceStarted);
+        }
+    }
+
+    private <T> T submit(HashOperation operation, Callable<T> task) {
+        Timer.Sample sample = authMetrics.start();
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                authMetrics.passwordHashQueued(System.nanoTime() - submittedAt);
+                return task.call();
+            });
+        } catch (TaskRejectedException e) {
+            authMetrics.passwordHashed(sample, operation, HashOutcome.REJECTED);
+            log.warn("비밀번호 해싱 대기열 초과 - 요청 거절");
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            authMetrics.passwordHashed(sample, operation, HashOutcome.SUCCESS);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            authMetrics.passwordHashed(sample, operation, HashOutcome.TIMEOUT);
+            log.warn("비밀번호 해싱 대기 시간 초과: {}ms", timeoutMillis);
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            authMetrics.passwordHashed(sample, operation, HashOutcome.ERROR);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AUTH_BUSY);
+        } catch (ExecutionException e) {
+            authMetrics.passwordHashed(sample, operation, HashOutcome.ERROR);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.edumanager.security.password;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 일괄 등록용 병렬 BCrypt 해싱
+ *
+ * 로그인용 passwordHashExecutor와 분리된 ForkJoinPool에서 해싱한다.
+ * 병렬도는 기본적으로 코어의 절반이라 일괄 등록 중에도 로그인 해싱에 CPU가 남는다.
+ * 결과 해시는 로그인 시 쓰는 BCryptPasswordEncoder와 같은 형식이다.
+ */
+@Slf4j
+@Component
+public class BulkPasswordHasher {
+
+    private final PasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final ForkJoinPool pool;
+
+    public BulkPasswordHasher(
+            @Value("${app.security.password-hashing.bulk-parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(threads);
+        log.info("일괄 비밀번호 해싱 병렬도: {}", threads);
+    }
+
+    /**
+     * 비밀번호 목록을 병렬로 해싱 (입력 순서 유지)
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<ForkJoinTask<String>> tasks = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            tasks.add(pool.submit(() -> encoder.encode(rawPassword)));
+        }
+        List<String> encoded = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<String> task : tasks) {
+            encoded.add(task.join());
+        }
+        return encoded;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
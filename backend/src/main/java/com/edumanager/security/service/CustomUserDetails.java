@@ -0,0 +1,48 @@
+package com.edumanager.security.service;
+
+import com.edumanager.domain.user.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.edumanager.common.constant.AppConstants.Security.ROLE_PREFIX;
+
+/**
+ * 인증 주체
+ * 조회한 User 엔티티를 그대로 들고 다녀 로그인 후 사용자를 다시 조회하지 않는다.
+ */
+@Getter
+public class CustomUserDetails implements UserDetails {
+
+    private final User user;
+    private final List<GrantedAuthority> authorities;
+
+    public CustomUserDetails(User user) {
+        this.user = user;
+        this.authorities = List.of(new SimpleGrantedAuthority(ROLE_PREFIX + user.getRole().name()));
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return user.getPassword();
+    }
+
+    @Override
+    public String getUsername() {
+        return user.getEmail();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return user.isActive();
+    }
+}
@@ -2,36 +2,31 @@ package com.edumanager.security.service;
 
 import static com.edumanager.common.constant.AppConstants.*;
 
-import com.edumanager.common.constant.AppConstants;
+import com.edumanager.common.util.EmailUtils;
 import com.edumanager.domain.user.entity.User;
 import com.edumanager.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * 조회 트랜잭션은 이 메서드에서 끝나므로 이어지는 비밀번호 검증(BCrypt) 동안 DB 커넥션을 잡지 않는다.
+     */
     @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user= userRepository.findByEmailAndIsActiveTrue(email)
+        User user= userRepository.findByEmailAndIsActiveTrue(EmailUtils.normalize(email))
                 .orElseThrow(()->new UsernameNotFoundException(Message.Error.USER_NOT_FOUND));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority(Security.ROLE_PREFIX +user.getRole().name())))
-                .build();
-
+        return new CustomUserDetails(user);
     }
 }
@@ -0,0 +1,73 @@
+package com.edumanager.security.throttle;
+
+import com.edumanager.common.response.ErrorResponse;
+import com.edumanager.exception.common.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.edumanager.common.constant.AppConstants.Api.AUTH_LOGIN;
+
+/**
+ * 로그인 요청 IP별 로컬 토큰 버킷
+ *
+ * 보안 필터 체인보다 먼저 실행되어 폭주 요청을 Redis/DB/BCrypt 이전에 거절한다.
+ * 거절 응답 본문은 기동 시 한 번만 직렬화해 두고 그대로 쓴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private final LoginThrottleService loginThrottleService;
+    private final byte[] rejectionBody;
+    private final String retryAfter;
+
+    public LoginRateLimitFilter(LoginThrottleService loginThrottleService, ObjectMapper objectMapper)
+            throws JsonProcessingException {
+        this.loginThrottleService = loginThrottleService;
+        this.retryAfter = String.valueOf(loginThrottleService.localRetryAfterSeconds());
+
+        ErrorCode errorCode = ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("type", "/errors/" + errorCode.getCode().toLowerCase());
+        body.put("title", errorCode.getMessage());
+        body.put("status", errorCode.getHttpStatus().value());
+        body.put("detail", errorCode.getMessage());
+        body.put("instance", AUTH_LOGIN);
+        this.rejectionBody = objectMapper.writeValueAsBytes(body);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(HttpMethod.POST.matches(request.getMethod()) && AUTH_LOGIN.equals(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (loginThrottleService.tryAcquireLocal(request.getRemoteAddr())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS.getHttpStatus().value());
+        response.setContentType(ErrorResponse.PROBLEM_MEDIA_TYPE.toString());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentLength(rejectionBody.length);
+        response.getOutputStream().write(rejectionBody);
+    }
+}
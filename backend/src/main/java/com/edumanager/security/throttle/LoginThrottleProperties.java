@@ -0,0 +1,34 @@
+package com.edumanager.security.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static com.edumanager.common.constant.AppConstants.Redis.LOGIN_ATTEMPT_TTL;
+import static com.edumanager.common.constant.AppConstants.Security.LOGIN_ATTEMPT_BLOCK_DURATION;
+import static com.edumanager.common.constant.AppConstants.Security.MAX_LOGIN_ATTEMPTS;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    // 실패 횟수를 세는 슬라이딩 윈도
+    private Duration window = Duration.ofSeconds(LOGIN_ATTEMPT_TTL);
+    // 한도 도달 후 마지막 실패 시점부터 차단하는 시간
+    private Duration blockDuration = Duration.ofSeconds(LOGIN_ATTEMPT_BLOCK_DURATION);
+    private int accountMaxFailures = MAX_LOGIN_ATTEMPTS;
+    // 학교 등 여러 사용자가 한 공인 IP를 공유하므로 계정 한도보다 넉넉하게 둔다
+    private int ipMaxFailures = 100;
+
+    // 로컬 토큰 버킷 (Redis/DB 이전에 IP별 요청 폭주 차단)
+    private int ipBucketCapacity = 20;
+    private double ipBucketRefillPerSecond = 1.0;
+    private long ipBucketCacheSize = 100_000;
+}
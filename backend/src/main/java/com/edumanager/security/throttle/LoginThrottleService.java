@@ -0,0 +1,220 @@
+package com.edumanager.security.throttle;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisOperation;
+import com.edumanager.exception.auth.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.edumanager.common.constant.AppConstants.Redis.PREFIX_LOGIN_ATTEMPT;
+
+/**
+ * 로그인 시도 제한
+ *
+ * 1단계 (로컬): IP별 토큰 버킷 - 초당 요청 폭주를 Redis/DB 접근 없이 필터에서 거절
+ * 2단계 (Redis): 계정별/IP별 실패 횟수 슬라이딩 윈도 - 노드 간 공유
+ * 계정 키와 IP 키는 각각 단일 키 스크립트로 판정하고 결과를 여기서 합친다.
+ * (두 키가 클러스터에서 서로 다른 슬롯에 흩어지도록 해시 태그를 쓰지 않는다)
+ *
+ * Redis 장애 시에는 허용(fail-open)하고 로컬 버킷만으로 보호한다. (Redis 차단기가 열려 있으면 Redis를 호출하지 않는다)
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private static final RedisScript<List> THROTTLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/login-throttle.lua"), List.class);
+
+    private static final String MODE_CHECK = "check";
+    private static final String MODE_FAIL = "fail";
+    private static final long SCOPE_ACCOUNT = 1L;
+    private static final long SCOPE_IP = 2L;
+    private static final long[] NOT_BLOCKED = {0L, 0L, 0L};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LoginThrottleProperties properties;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    private final Counter allowed;
+    private final Counter blockedLocal;
+    private final Counter blockedAccount;
+    private final Counter blockedIp;
+    private final Counter failures;
+    private final Counter redisErrors;
+
+    public LoginThrottleService(StringRedisTemplate stringRedisTemplate,
+                                LoginThrottleProperties properties,
+                                RedisCircuitBreaker redisCircuitBreaker,
+                                MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getIpBucketCacheSize())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        this.allowed = throttleCounter(meterRegistry, "allowed", "none");
+        this.blockedLocal = throttleCounter(meterRegistry, "blocked", "local");
+        this.blockedAccount = throttleCounter(meterRegistry, "blocked", "account");
+        this.blockedIp = throttleCounter(meterRegistry, "blocked", "ip");
+        this.redisErrors = throttleCounter(meterRegistry, "error", "redis");
+        this.failures = Counter.builder("auth.login.failures")
+                .description("로그인 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로컬 토큰 버킷에서 토큰 하나 소비
+     *
+     * @return false면 즉시 거절
+     */
+    public boolean tryAcquireLocal(String clientIp) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        TokenBucket bucket = ipBuckets.get(clientIp,
+                ip -> new TokenBucket(properties.getIpBucketCapacity(), properties.getIpBucketRefillPerSecond()));
+        if (bucket.tryConsume()) {
+            return true;
+        }
+        blockedLocal.increment();
+        return false;
+    }
+
+    /**
+     * 로컬 버킷 거절 시 Retry-After 값 (토큰 하나가 채워지는 시간)
+     */
+    public long localRetryAfterSeconds() {
+        return Math.max(1L, (long) Math.ceil(1d / properties.getIpBucketRefillPerSecond()));
+    }
+
+    /**
+     * 인증 전 계정/IP 차단 여부 확인
+     *
+     * @return 윈도 안의 계정 실패 수 (성공 시 초기화 여부 판단용)
+     * @throws LoginThrottledException 차단 중인 경우
+     */
+    public int checkAllowed(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long[] verdict = evaluate(MODE_CHECK, email, clientIp);
+        if (verdict[0] != 0) {
+            (verdict[0] == SCOPE_ACCOUNT ? blockedAccount : blockedIp).increment();
+            throw new LoginThrottledException(Math.max(1L, (verdict[1] + 999) / 1000));
+        }
+        allowed.increment();
+        return (int) verdict[2];
+    }
+
+    /**
+     * 로그인 실패 기록
+     * 이번 실패로 한도에 도달해도 이번 요청은 로그인 실패로 응답하고 다음 요청부터 차단한다.
+     */
+    public void recordFailure(String email, String clientIp) {
+        failures.increment();
+        if (!properties.isEnabled()) {
+            return;
+        }
+        evaluate(MODE_FAIL, email, clientIp);
+    }
+
+    /**
+     * 로그인 성공 시 계정 실패 기록 초기화 (IP 기록은 유지)
+     */
+    public void reset(String email) {
+        try {
+            redisCircuitBreaker.run(RedisOperation.THROTTLE,
+                    () -> stringRedisTemplate.delete(accountKey(email)),
+                    () -> redisErrors.increment());
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("로그인 실패 기록 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 계정 키를 먼저 판정하고, 확인(check) 중 계정이 차단돼 있으면 IP 키는 보지 않는다.
+     * 실패(fail) 기록은 두 키 모두에 남긴다.
+     *
+     * @return {차단 범위(0 없음, 1 계정, 2 IP), 재시도까지 남은 시간(ms), 계정 실패 수}
+     */
+    private long[] evaluate(String mode, String email, String clientIp) {
+        long[] verdict;
+        try {
+            verdict = redisCircuitBreaker.execute(RedisOperation.THROTTLE,
+                    () -> judge(mode, email, clientIp),
+                    () -> {
+                        redisErrors.increment();
+                        return null;
+                    });
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("로그인 시도 제한 확인 실패 (허용): {}", e.getMessage());
+            return NOT_BLOCKED;
+        }
+        return verdict != null ? verdict : NOT_BLOCKED;
+    }
+
+    private long[] judge(String mode, String email, String clientIp) {
+        String now = String.valueOf(System.currentTimeMillis());
+        long[] account = run(accountKey(email), mode, now, properties.getAccountMaxFailures());
+        boolean accountBlocked = account[1] > 0;
+        if (accountBlocked && MODE_CHECK.equals(mode)) {
+            return new long[]{SCOPE_ACCOUNT, account[1], account[0]};
+        }
+        long[] ip = run(ipKey(clientIp), mode, now, properties.getIpMaxFailures());
+        if (accountBlocked) {
+            return new long[]{SCOPE_ACCOUNT, account[1], account[0]};
+        }
+        return ip[1] > 0 ? new long[]{SCOPE_IP, ip[1], account[0]} : new long[]{0L, 0L, account[0]};
+    }
+
+    /**
+     * @return {윈도 안의 실패 수, 재시도까지 남은 시간(ms, 차단 중이 아니면 0)}
+     */
+    private long[] run(String key, String mode, String now, int maxFailures) {
+        List<?> result = stringRedisTemplate.execute(THROTTLE_SCRIPT,
+                List.of(key),
+                mode,
+                now,
+                String.valueOf(properties.getWindow().toMillis()),
+                String.valueOf(properties.getBlockDuration().toMillis()),
+                String.valueOf(maxFailures),
+                Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        if (result == null || result.size() < 2) {
+            return new long[]{0L, 0L};
+        }
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    private static String accountKey(String email) {
+        return PREFIX_LOGIN_ATTEMPT + "acct:" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String ipKey(String clientIp) {
+        return PREFIX_LOGIN_ATTEMPT + "ip:" + clientIp;
+    }
+
+    private static Counter throttleCounter(MeterRegistry registry, String result, String scope) {
+        return Counter.builder("auth.login.throttle")
+                .description("로그인 시도 제한 판정")
+                .tag("result", result)
+                .tag("scope", scope)
+                .register(registry);
+    }
+}
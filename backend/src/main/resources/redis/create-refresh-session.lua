@@ -0,0 +1,48 @@
+-- 리프레시 세션 생성
+-- 만료된 세션을 정리하고, 최대 세션 수에 도달했으면 가장 오래 사용하지 않은 세션을 밀어낸다.
+-- KEYS[1]: refresh_session:{userId}
+-- ARGV[1]: 세션 ID, ARGV[2]: 세션 값, ARGV[3]: 키 TTL(ms), ARGV[4]: 현재 시각(ms), ARGV[5]: 최대 세션 수
+-- 값 형식: jti|prevJti|lastUsedAt|createdAt|expiresAt|accessJti|accessExpiresAt|device
+-- 반환: {} 또는 {밀어낸 세션 ID, 밀어낸 세션 값}
+local function split(value)
+    local parts, from = {}, 1
+    while true do
+        local to = string.find(value, '|', from, true)
+        if not to then
+            parts[#parts + 1] = string.sub(value, from)
+            return parts
+        end
+        parts[#parts + 1] = string.sub(value, from, to - 1)
+        from = to + 1
+    end
+end
+
+local now = tonumber(ARGV[4])
+local fields = redis.call('HGETALL', KEYS[1])
+local count = 0
+local oldestField, oldestValue, oldestUsedAt
+
+for i = 1, #fields, 2 do
+    local parts = split(fields[i + 1])
+    if tonumber(parts[5]) <= now then
+        redis.call('HDEL', KEYS[1], fields[i])
+    else
+        count = count + 1
+        local usedAt = tonumber(parts[3])
+        if oldestUsedAt == nil or usedAt < oldestUsedAt then
+            oldestField, oldestValue, oldestUsedAt = fields[i], fields[i + 1], usedAt
+        end
+    end
+end
+
+local evicted = {}
+if count >= tonumber(ARGV[5]) and oldestField then
+    redis.call('HDEL', KEYS[1], oldestField)
+    evicted = {oldestField, oldestValue}
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[3]) then
+    redis.call('PEXPIRE', KEYS[1], ARGV[3])
+end
+return evicted
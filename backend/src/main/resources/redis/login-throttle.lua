@@ -0,0 +1,28 @@
+-- 로그인 실패 슬라이딩 윈도 (키 하나: 계정 또는 IP)
+-- KEYS[1]: login_attempt:acct:<email> 또는 login_attempt:ip:<ip>
+-- (SMS 발송 한도도 같은 스크립트를 쓴다: sms:send:ip:<ip>, sms:send:global - 'fail'을 발송 기록으로 사용)
+-- ARGV[1]: 'check' 또는 'fail', ARGV[2]: 현재 시각(ms), ARGV[3]: 윈도(ms), ARGV[4]: 차단 시간(ms)
+-- ARGV[5]: 최대 실패 수, ARGV[6]: 실패 기록용 고유 값
+-- 윈도 안의 실패 수가 한도 이상이면 마지막 실패 시점부터 차단 시간 동안 거절한다.
+-- 반환: {실패 수, 재시도까지 남은 시간(ms, 차단 중이 아니면 0)}
+local now = tonumber(ARGV[2])
+local window = tonumber(ARGV[3])
+local block = tonumber(ARGV[4])
+local limit = tonumber(ARGV[5])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+if ARGV[1] == 'fail' then
+    redis.call('ZADD', KEYS[1], now, ARGV[6])
+    redis.call('PEXPIRE', KEYS[1], window)
+end
+local count = redis.call('ZCARD', KEYS[1])
+
+if count >= limit then
+    local latest = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES')
+    local retryAfter = tonumber(latest[2]) + block - now
+    if retryAfter > 0 then
+        return {count, retryAfter}
+    end
+end
+
+return {count, 0}
@@ -0,0 +1,8 @@
+-- 락 해제 (소유자 토큰이 같을 때만 삭제)
+-- KEYS[1]: 락 키
+-- ARGV[1]: 획득 시 저장한 토큰
+-- 반환: 1 해제, 0 소유자가 아님(만료 후 다른 노드가 획득)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
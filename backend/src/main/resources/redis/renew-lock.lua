@@ -0,0 +1,9 @@
+-- 락 임대 연장 (소유자 토큰이 같을 때만)
+-- KEYS[1]: 락 키
+-- ARGV[1]: 획득 시 저장한 토큰
+-- ARGV[2]: 임대 시간 (ms)
+-- 반환: 1 연장, 0 소유자가 아님(만료 후 다른 노드가 획득했거나 이미 풀림)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
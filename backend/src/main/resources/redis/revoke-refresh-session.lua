@@ -0,0 +1,9 @@
+-- 리프레시 세션 삭제 (조회와 삭제를 원자적으로 수행)
+-- KEYS[1]: refresh_session:{userId}
+-- ARGV[1]: 세션 ID
+-- 반환: 삭제한 세션 값 또는 nil
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if value then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return value
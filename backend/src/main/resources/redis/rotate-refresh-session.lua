@@ -0,0 +1,50 @@
+-- 리프레시 세션 회전 (compare-and-swap)
+-- KEYS[1]: refresh_session:{userId}
+-- ARGV[1]: 세션 ID, ARGV[2]: 제시된 jti, ARGV[3]: 새 jti, ARGV[4]: 현재 시각(ms), ARGV[5]: 재사용 유예 시간(ms)
+-- ARGV[6]: 새 만료 시각(ms), ARGV[7]: 새 액세스 토큰 jti, ARGV[8]: 액세스 토큰 만료 시각(ms), ARGV[9]: 키 TTL(ms)
+-- 값 형식: jti|prevJti|lastUsedAt|createdAt|expiresAt|accessJti|accessExpiresAt|device
+-- 반환: {1, 기존 값} 회전 성공 (이전 액세스 토큰 폐기용), {0} 세션 없음/불일치, {2} 유예 시간 내 동시 요청, {-1, 기존 값} 재사용 탐지(세션 삭제)
+local function split(value)
+    local parts, from = {}, 1
+    while true do
+        local to = string.find(value, '|', from, true)
+        if not to then
+            parts[#parts + 1] = string.sub(value, from)
+            return parts
+        end
+        parts[#parts + 1] = string.sub(value, from, to - 1)
+        from = to + 1
+    end
+end
+
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if not value then
+    return {0}
+end
+
+local parts = split(value)
+local now = tonumber(ARGV[4])
+if tonumber(parts[5]) <= now then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return {0}
+end
+
+if parts[1] == ARGV[2] then
+    redis.call('HSET', KEYS[1], ARGV[1], table.concat({
+        ARGV[3], ARGV[2], ARGV[4], parts[4], ARGV[6], ARGV[7], ARGV[8], parts[8] or ''
+    }, '|'))
+    if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[9]) then
+        redis.call('PEXPIRE', KEYS[1], ARGV[9])
+    end
+    return {1, value}
+end
+
+if parts[2] == ARGV[2] then
+    if now - tonumber(parts[3]) < tonumber(ARGV[5]) then
+        return {2}
+    end
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return {-1, value}
+end
+
+return {0}
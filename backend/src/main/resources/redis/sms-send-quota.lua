@@ -0,0 +1,33 @@
+-- 인증번호 발송 한도 확인 + 인증번호 저장 (원자적으로 한 번에 처리)
+-- KEYS[1] 발송 기록 해시 (last: 마지막 발송 시각, day: 집계 일자, count: 일자별 발송 수)
+-- KEYS[2] 인증번호 해시 (code, attempts)
+-- ARGV: now(ms), 발송 간격(ms), 일일 최대 발송 수, 오늘 일자, 인증번호, 인증번호 TTL(ms), 오늘 남은 시간(ms)
+-- 반환: {0, 0} 발송 허용 / {1, 재시도까지 ms} 발송 간격 제한 / {2, 재시도까지 ms} 일일 한도 초과
+local now = tonumber(ARGV[1])
+local interval = tonumber(ARGV[2])
+local maxPerDay = tonumber(ARGV[3])
+local today = ARGV[4]
+local untilTomorrow = tonumber(ARGV[7])
+
+local state = redis.call('HMGET', KEYS[1], 'last', 'day', 'count')
+local last = tonumber(state[1])
+local count = 0
+if state[2] == today then
+    count = tonumber(state[3]) or 0
+end
+
+if last and now - last < interval then
+    return {1, interval - (now - last)}
+end
+if count >= maxPerDay then
+    return {2, untilTomorrow}
+end
+
+redis.call('HSET', KEYS[1], 'last', now, 'day', today, 'count', count + 1)
+redis.call('PEXPIRE', KEYS[1], math.max(untilTomorrow, interval))
+
+-- 새 인증번호를 발급하면 이전 번호와 시도 횟수는 무효
+redis.call('DEL', KEYS[2])
+redis.call('HSET', KEYS[2], 'code', ARGV[5], 'attempts', 0)
+redis.call('PEXPIRE', KEYS[2], ARGV[6])
+return {0, 0}
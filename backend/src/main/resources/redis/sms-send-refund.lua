@@ -0,0 +1,19 @@
+-- 발송하지 못한 인증번호 발송 한도 반환 (sms-send-quota.lua에서 기록한 한 건을 되돌림)
+-- KEYS[1] 발송 기록 해시 (last, day, count)
+-- KEYS[2] 인증번호 해시
+-- ARGV: 발송 일자, 발송 시각(ms, sms-send-quota.lua에 넘긴 now)
+-- 반환: 1
+redis.call('DEL', KEYS[2])
+
+local state = redis.call('HMGET', KEYS[1], 'last', 'day', 'count')
+if state[2] == ARGV[1] then
+    local count = tonumber(state[3]) or 0
+    if count > 0 then
+        redis.call('HSET', KEYS[1], 'count', count - 1)
+    end
+end
+-- 그 사이 다른 발송이 기록되지 않았으면 발송 간격 제한도 풀어준다
+if tonumber(state[1]) == tonumber(ARGV[2]) then
+    redis.call('HDEL', KEYS[1], 'last')
+end
+return 1
@@ -0,0 +1,14 @@
+-- 인증 시도 기록 후 저장된 인증번호 반환 (비교는 애플리케이션에서 상수 시간으로 수행)
+-- KEYS[1] 인증번호 해시 (code, attempts)
+-- ARGV[1] 최대 시도 횟수
+-- 반환: {0, ''} 인증번호 없음(만료) / {시도 횟수, 인증번호}
+-- 마지막 허용 시도에서는 인증번호를 지우므로 이후 시도는 모두 만료로 처리된다.
+local code = redis.call('HGET', KEYS[1], 'code')
+if not code then
+    return {0, ''}
+end
+local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+if attempts >= tonumber(ARGV[1]) then
+    redis.call('DEL', KEYS[1])
+end
+return {attempts, code}
@@ -0,0 +1,174 @@
+package com.edumanager.common.cache;
+
+import com.edumanager.common.redis.RedisCircuitBreaker;
+import com.edumanager.common.redis.RedisResilienceProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TwoTierCacheRecoveryTest {
+
+    private RedisResilienceProperties properties;
+    private RedisCircuitBreaker breaker;
+    private FlakyRemote remote;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RedisResilienceProperties();
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(2);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofHours(1));
+        properties.setHalfOpenCalls(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        breaker = new RedisCircuitBreaker(properties, registry);
+        ReflectionTestUtils.invokeMethod(breaker, "init");
+
+        remote = new FlakyRemote();
+        cache = new TwoTierCache("users",
+                Caffeine.newBuilder().build(),
+                remote,
+                null,
+                mock(TwoTierCacheManager.class),
+                new TwoTierCacheProperties.CacheSpec(),
+                Duration.ofMinutes(10),
+                null,
+                Duration.ZERO,
+                Runnable::run,
+                breaker,
+                new Semaphore(16),
+                Duration.ZERO,
+                new TwoTierCache.Metrics(
+                        Counter.builder("hits").register(registry),
+                        Counter.builder("misses").register(registry),
+                        Timer.builder("load.success").register(registry),
+                        Timer.builder("load.failure").register(registry),
+                        Counter.builder("coalesced").register(registry),
+                        Counter.builder("refreshed").register(registry),
+                        Counter.builder("refresh.failed").register(registry)));
+        breaker.addRecoveryListener(cache::replayPending);
+    }
+
+    @Test
+    void 저하_모드에서_반영하지_못한_변경은_복구_후_L2에서_지운다() {
+        remote.put("1", "old-1");
+        remote.put("2", "old-2");
+        remote.put("3", "kept");
+
+        // Redis 장애: put/evict가 L2에 반영되지 않고 차단기가 열린다
+        remote.down = true;
+        cache.put("1", "new-1");
+        cache.evict("2");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(remote.peek("1")).isEqualTo("old-1");
+        assertThat(remote.peek("2")).isEqualTo("old-2");
+
+        // 복구: 시험 호출이 성공하면 CLOSED로 돌아가며 기억해 둔 키를 L2에서 지운다
+        remote.down = false;
+        properties.setOpenDuration(Duration.ZERO);
+        cache.evict("other");
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(remote.peek("1")).isNull();
+        assertThat(remote.peek("2")).isNull();
+        assertThat(remote.peek("3")).isEqualTo("kept");
+    }
+
+    @Test
+    void 차단_중_건너뛴_변경도_복구_후_L2에서_지운다() {
+        remote.put("1", "old-1");
+        remote.down = true;
+        cache.evict("a");
+        cache.evict("b");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        // 차단 중에는 Redis를 호출하지 않고 대체 동작(기억)만 한다
+        remote.down = false;
+        cache.put("1", "new-1");
+        assertThat(remote.peek("1")).isEqualTo("old-1");
+
+        properties.setOpenDuration(Duration.ZERO);
+        cache.evict("other");
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(remote.peek("1")).isNull();
+    }
+
+    @Test
+    void 캐시_비우기를_놓치면_복구_후_L2_전체를_비운다() {
+        remote.put("1", "old-1");
+        remote.put("2", "old-2");
+
+        remote.down = true;
+        cache.clear();
+        cache.evict("1");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        remote.down = false;
+        properties.setOpenDuration(Duration.ZERO);
+        cache.evict("other");
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(remote.peek("1")).isNull();
+        assertThat(remote.peek("2")).isNull();
+    }
+
+    /**
+     * down이면 모든 호출이 연결 오류로 실패하는 L2
+     */
+    private static final class FlakyRemote extends ConcurrentMapCache {
+
+        volatile boolean down;
+
+        FlakyRemote() {
+            super("users", false);
+        }
+
+        Object peek(Object key) {
+            return super.lookup(key);
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            check();
+            return super.lookup(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            check();
+            super.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            check();
+            super.clear();
+        }
+
+        private void check() {
+            if (down) {
+                throw new RedisConnectionFailureException("Redis down");
+            }
+        }
+    }
+}
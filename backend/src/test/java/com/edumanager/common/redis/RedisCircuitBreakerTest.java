@@ -0,0 +1,188 @@
+package com.edumanager.common.redis;
+
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+
+    private static final String FALLBACK = "fallback";
+
+    private RedisResilienceProperties properties;
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RedisResilienceProperties();
+        properties.setSlidingWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofHours(1));
+        properties.setHalfOpenCalls(2);
+        breaker = new RedisCircuitBreaker(properties, new SimpleMeterRegistry());
+        breaker.init();
+    }
+
+    @Test
+    void 실패율이_한도에_이르면_차단한다() {
+        succeed();
+        succeed();
+        fail();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+
+        // 4번 중 2번 실패 = 50%
+        fail();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(breaker.isDegraded()).isTrue();
+    }
+
+    @Test
+    void 최소_호출_수_전에는_실패만_있어도_차단하지_않는다() {
+        fail();
+        fail();
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 차단_중에는_Redis를_호출하지_않고_대체_동작을_실행한다() {
+        open();
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = breaker.execute(RedisOperation.CACHE, () -> {
+            calls.incrementAndGet();
+            return "redis";
+        }, () -> FALLBACK);
+
+        assertThat(result).isEqualTo(FALLBACK);
+        assertThat(calls).hasValue(0);
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 차단_시간이_지나면_시험_호출을_허용한다() {
+        open();
+        properties.setOpenDuration(Duration.ZERO);
+
+        assertThat(succeed()).isEqualTo("redis");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void 반개방_중_시험_호출이_한_번이라도_실패하면_다시_차단한다() {
+        open();
+        properties.setOpenDuration(Duration.ZERO);
+        succeed();
+
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 반개방_중_시험_호출이_모두_성공하면_복구하고_복구_작업을_실행한다() {
+        AtomicInteger recovered = new AtomicInteger();
+        breaker.addRecoveryListener(recovered::incrementAndGet);
+        open();
+        properties.setOpenDuration(Duration.ZERO);
+
+        succeed();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+        assertThat(recovered).hasValue(0);
+
+        succeed();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(breaker.isDegraded()).isFalse();
+        assertThat(recovered).hasValue(1);
+    }
+
+    @Test
+    void 반개방_중에는_허용된_시험_호출_수만큼만_Redis를_호출한다() {
+        open();
+        properties.setOpenDuration(Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+
+        // 시험 호출 2개가 끝나지 않은 상태에서 세 번째 호출
+        breaker.execute(RedisOperation.CACHE, () -> {
+            breaker.execute(RedisOperation.CACHE, () -> {
+                assertThat(breaker.execute(RedisOperation.CACHE, () -> {
+                    calls.incrementAndGet();
+                    return "redis";
+                }, () -> FALLBACK)).isEqualTo(FALLBACK);
+                return "redis";
+            }, () -> FALLBACK);
+            return "redis";
+        }, () -> FALLBACK);
+
+        assertThat(calls).hasValue(0);
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 연결_타임아웃_오류만_실패로_센다() {
+        assertCountedAsFailure(new QueryTimeoutException("timeout"));
+        assertCountedAsFailure(new RedisConnectionFailureException("refused"));
+        assertCountedAsFailure(new RedisSystemException("timeout", new RedisCommandTimeoutException("timeout")));
+        assertCountedAsFailure(new RedisSystemException("reset", new RedisConnectionException("reset")));
+    }
+
+    @Test
+    void 그_외_예외는_그대로_던지고_실패로_세지_않는다() {
+        RuntimeException[] errors = {
+                new RedisSystemException("script", new RedisException("ERR user_script:1: bad script")),
+                new DataAccessResourceFailureException("other"),
+                new IllegalStateException("bug")
+        };
+        for (RuntimeException error : errors) {
+            for (int i = 0; i < properties.getMinimumCalls(); i++) {
+                assertThatThrownBy(() -> breaker.execute(RedisOperation.CACHE, () -> {
+                    throw error;
+                }, () -> FALLBACK)).isSameAs(error);
+            }
+        }
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    private void assertCountedAsFailure(RuntimeException error) {
+        setUp();
+        for (int i = 0; i < properties.getMinimumCalls(); i++) {
+            String result = breaker.execute(RedisOperation.CACHE, () -> {
+                throw error;
+            }, () -> FALLBACK);
+            assertThat(result).isEqualTo(FALLBACK);
+        }
+        assertThat(breaker.getState()).as(error.toString()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    private void open() {
+        for (int i = 0; i < properties.getMinimumCalls(); i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    private String succeed() {
+        return breaker.execute(RedisOperation.CACHE, () -> "redis", () -> FALLBACK);
+    }
+
+    private void fail() {
+        breaker.execute(RedisOperation.CACHE, () -> {
+            throw new RedisConnectionFailureException("down");
+        }, () -> FALLBACK);
+    }
+}
@@ -0,0 +1,105 @@
+package com.edumanager.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLongLongMapTest {
+
+    @Test
+    void 저장한_값을_조회하고_없는_키는_기본값을_돌려준다() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        map.put(42L, 7L);
+        map.put(-3L, 9L);
+
+        assertThat(map.get(42L, -1L)).isEqualTo(7L);
+        assertThat(map.get(-3L, -1L)).isEqualTo(9L);
+        assertThat(map.get(43L, -1L)).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(2);
+
+        map.put(42L, 1L);
+        assertThat(map.get(42L, -1L)).isEqualTo(1L);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putIfGreater는_더_큰_값만_반영한다() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        map.putIfGreater(1L, 5L);
+        map.putIfGreater(1L, 3L);
+        assertThat(map.get(1L, 0L)).isEqualTo(5L);
+
+        map.putIfGreater(1L, 8L);
+        assertThat(map.get(1L, 0L)).isEqualTo(8L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 키_0도_일반_키처럼_동작한다() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap();
+        assertThat(map.get(0L, -1L)).isEqualTo(-1L);
+
+        map.putIfGreater(0L, 4L);
+        map.putIfGreater(0L, 2L);
+        assertThat(map.get(0L, -1L)).isEqualTo(4L);
+
+        map.put(0L, 1L);
+        assertThat(map.get(0L, -1L)).isEqualTo(1L);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 적재율을_넘으면_커지며_기존_값을_유지한다() {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap(4);
+        int count = 10_000;
+        for (long key = 1; key <= count; key++) {
+            map.put(key, key * 10);
+        }
+
+        assertThat(map.size()).isEqualTo(count);
+        for (long key = 1; key <= count; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(key * 10);
+        }
+    }
+
+    @Test
+    void 확장_중에도_읽기는_기존_값을_놓치지_않는다() throws InterruptedException {
+        ConcurrentLongLongMap map = new ConcurrentLongLongMap(4);
+        long stableKeys = 100;
+        for (long key = 1; key <= stableKeys; key++) {
+            map.put(key, key);
+        }
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+
+        Thread reader = Thread.ofPlatform().start(() -> {
+            started.countDown();
+            while (writing.get() && failure.get() == null) {
+                for (long key = 1; key <= stableKeys; key++) {
+                    long value = map.get(key, -1L);
+                    if (value != key) {
+                        failure.set("key=" + key + ", value=" + value);
+                        return;
+                    }
+                }
+            }
+        });
+
+        started.await();
+        // 여러 번 확장이 일어나도록 계속 추가
+        for (long key = stableKeys + 1; key <= 200_000; key++) {
+            map.put(key, key);
+        }
+        writing.set(false);
+        reader.join();
+
+        assertThat(failure.get()).isNull();
+        assertThat(map.get(200_000L, -1L)).isEqualTo(200_000L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.edumanager.common.util;
+
+import com.edumanager.exception.common.BusinessException;
+import com.edumanager.exception.common.ErrorCode;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static final String SCOPE = "users:createdAt,id:role=STUDENT";
+
+    private final CursorCodec codec = new CursorCodec("test-cursor-secret", true);
+
+    @Test
+    void 인코딩한_값은_같은_범위로_그대로_복원된다() {
+        List<String> values = List.of("2026-10-18T09:00:00", "42", "");
+
+        String cursor = codec.encode(SCOPE, values);
+
+        assertThat(codec.decode(SCOPE, cursor, values.size())).containsExactlyElementsOf(values);
+    }
+
+    @Test
+    void 같은_키를_쓰는_다른_노드의_커서도_검증된다() {
+        CursorCodec otherNode = new CursorCodec("test-cursor-secret", true);
+
+        String cursor = otherNode.encode(SCOPE, List.of("a", "1"));
+
+        assertThat(codec.decode(SCOPE, cursor, 2)).containsExactly("a", "1");
+    }
+
+    @Test
+    void 다른_키로_서명한_커서는_거부한다() {
+        String cursor = new CursorCodec("other-secret", true).encode(SCOPE, List.of("a", "1"));
+
+        assertInvalid(() -> codec.decode(SCOPE, cursor, 2));
+    }
+
+    @Test
+    void 내용을_조작한_커서는_거부한다() {
+        String cursor = codec.encode(SCOPE, List.of("a", "1"));
+        String signature = cursor.substring(cursor.indexOf('.'));
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((SCOPE + '\u001F' + "a" + '\u001F' + "999").getBytes(StandardCharsets.UTF_8));
+
+        assertInvalid(() -> codec.decode(SCOPE, forged + signature, 2));
+    }
+
+    @Test
+    void 서명을_조작한_커서는_거부한다() {
+        String cursor = codec.encode(SCOPE, List.of("a", "1"));
+        int signatureStart = cursor.indexOf('.') + 1;
+        char first = cursor.charAt(signatureStart);
+        String tampered = cursor.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + cursor.substring(signatureStart + 1);
+
+        assertInvalid(() -> codec.decode(SCOPE, tampered, 2));
+    }
+
+    @Test
+    void 다른_범위의_커서는_거부한다() {
+        String cursor = codec.encode(SCOPE, List.of("a", "1"));
+
+        assertInvalid(() -> codec.decode("users:createdAt,id:role=TEACHER", cursor, 2));
+    }
+
+    @Test
+    void 값_개수가_다른_커서는_거부한다() {
+        String cursor = codec.encode(SCOPE, List.of("a", "1"));
+
+        assertInvalid(() -> codec.decode(SCOPE, cursor, 3));
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_거부한다() {
+        assertInvalid(() -> codec.decode(SCOPE, "no-separator", 2));
+        assertInvalid(() -> codec.decode(SCOPE, ".signature-only", 2));
+        assertInvalid(() -> codec.decode(SCOPE, "!!!.???", 2));
+    }
+
+    @Test
+    void 키가_필수인데_없으면_생성을_거부한다() {
+        assertThatThrownBy(() -> new CursorCodec("", true)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CursorCodec(null, true)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 키가_필수가_아니면_임시_키로_동작한다() {
+        CursorCodec temporary = new CursorCodec("", false);
+
+        String cursor = temporary.encode(SCOPE, List.of("a", "1"));
+
+        assertThat(temporary.decode(SCOPE, cursor, 2)).containsExactly("a", "1");
+        assertInvalid(() -> codec.decode(SCOPE, cursor, 2));
+    }
+
+    private static void assertInvalid(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,45 @@
+package com.edumanager.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void 초기_용량을_넘으면_층을_늘리고_추가한_항목은_모두_포함한다() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        assertThat(filter.layerCount()).isGreaterThan(1);
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void 층이_늘어도_전체_오탐률은_목표치_근처를_유지한다() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void 이미_있는_항목은_다시_추가하지_않는다() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+
+        assertThat(filter.put("a@example.com")).isTrue();
+        assertThat(filter.put("a@example.com")).isFalse();
+    }
+}
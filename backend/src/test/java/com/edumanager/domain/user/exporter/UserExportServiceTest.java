@@ -0,0 +1,41 @@
+package com.edumanager.domain.user.exporter;
+
+import com.edumanager.domain.user.dto.response.UserExportRow;
+import com.edumanager.domain.user.entity.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserExportServiceTest {
+
+    @Test
+    void 수식으로_시작하는_셀은_앞에_작은따옴표를_붙인다() {
+        assertThat(UserExportService.escapeFormula("=1+1")).isEqualTo("'=1+1");
+        assertThat(UserExportService.escapeFormula("+821012345678")).isEqualTo("'+821012345678");
+        assertThat(UserExportService.escapeFormula("-2")).isEqualTo("'-2");
+        assertThat(UserExportService.escapeFormula("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(UserExportService.escapeFormula("\t=1")).isEqualTo("'\t=1");
+        assertThat(UserExportService.escapeFormula("\r=1")).isEqualTo("'\r=1");
+    }
+
+    @Test
+    void 일반_값은_그대로_둔다() {
+        assertThat(UserExportService.escapeFormula("")).isEmpty();
+        assertThat(UserExportService.escapeFormula("학생")).isEqualTo("학생");
+        assertThat(UserExportService.escapeFormula("a=b@school.edu")).isEqualTo("a=b@school.edu");
+    }
+
+    @Test
+    void CSV_행은_수식을_막은_뒤_따옴표로_감싼다() throws Exception {
+        UserExportRow row = new UserExportRow(1L, "=cmd|' /C calc'!A0@school.edu", "=HYPERLINK(\"http://x\",\"a,b\")",
+                "010-1234-5678", UserRole.STUDENT, true, LocalDateTime.of(2026, 10, 18, 9, 0));
+
+        String csv = UserExportService.csvWriter().writeValueAsString(row);
+
+        assertThat(csv).contains("'=cmd|' /C calc'!A0@school.edu");
+        assertThat(csv).contains("\"'=HYPERLINK(\"\"http://x\"\",\"\"a,b\"\")\"");
+        assertThat(csv).contains(",010-1234-5678,STUDENT,true,");
+    }
+}
@@ -0,0 +1,152 @@
+package com.edumanager.security.jwt;
+
+import com.edumanager.common.util.TokenHashUtils;
+import com.edumanager.config.JwtConfig;
+import com.edumanager.domain.user.entity.User;
+import com.edumanager.domain.user.entity.UserRole;
+import com.edumanager.security.metrics.AuthMetrics;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.edumanager.common.constant.AppConstants.Jwt.AUTHORIZATION_HEADER;
+import static com.edumanager.common.constant.AppConstants.Jwt.BEARER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtTokenService jwtTokenService;
+    private JwtAuthenticationFilter filter;
+    private JwtTokenService.IssuedTokens tokens;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        JwtProperties properties = new JwtProperties();
+        verifiedTokenCache = new VerifiedTokenCache(properties);
+        jwtTokenService = tokenService(properties);
+        filter = new JwtAuthenticationFilter(jwtTokenService);
+        tokens = jwtTokenService.createSession(user(), "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 액세스_토큰은_인증한다() throws Exception {
+        Authentication authentication = doFilter(tokens.accessToken());
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("student1@school.edu");
+    }
+
+    @Test
+    void 리프레시_토큰은_인증하지_않고_캐시에도_넣지_않는다() throws Exception {
+        Authentication authentication = doFilter(tokens.refreshToken());
+
+        assertThat(authentication).isNull();
+        assertThat(verifiedTokenCache.get(TokenHashUtils.sha256(tokens.refreshToken()))).isNull();
+
+        // 반복 제시해도 캐시 경로로 통과하지 않는다
+        assertThat(doFilter(tokens.refreshToken())).isNull();
+    }
+
+    @Test
+    void 리프레시_토큰으로는_로그아웃할_수_없다() {
+        assertThat(jwtTokenService.logout(tokens.refreshToken())).isNull();
+    }
+
+    private Authentication doFilter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/sessions");
+        request.addHeader(AUTHORIZATION_HEADER, BEARER_PREFIX + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * 디코더/인코더/권한 변환은 JwtConfig를 그대로 쓰고, Redis에 닿는 협력 객체만 메모리 스텁으로 바꾼다.
+     */
+    private JwtTokenService tokenService(JwtProperties properties) throws JOSEException {
+        JWKSet keys = new JWKSet(new ECKeyGenerator(Curve.P_256).keyID("test").algorithm(JWSAlgorithm.ES256).generate());
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.ES256).keyId("test").build();
+        JwtKeyManager keyManager = new JwtKeyManager(properties, null, null, null) {
+            @Override
+            public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+                return jwkSelector.select(keys);
+            }
+
+            @Override
+            public JwsHeader signingHeader() {
+                return header;
+            }
+        };
+        JwtConfig jwtConfig = new JwtConfig(keyManager, properties);
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
+        TokenRevocationRegistry revocationRegistry =
+                new TokenRevocationRegistry(null, null, null, null, properties, authMetrics) {
+                    @Override
+                    public boolean isRevoked(String tokenId) {
+                        return false;
+                    }
+
+                    @Override
+                    public void revoke(String tokenId, Instant expiresAt) {
+                    }
+                };
+        RefreshSessionStore sessionStore = new RefreshSessionStore(null, properties, null) {
+            @Override
+            public Session create(long userId, String sessionId, String tokenId, Instant expiresAt,
+                                  String accessTokenId, Instant accessExpiresAt, String device) {
+                return null;
+            }
+
+            @Override
+            public Session revoke(long userId, String sessionId) {
+                return null;
+            }
+        };
+        TokenEpochRegistry epochRegistry = new TokenEpochRegistry(null, null, null);
+        ReflectionTestUtils.setField(epochRegistry, "synced", true);
+
+        return new JwtTokenService(jwtConfig.jwtEncoder(), jwtConfig.jwtDecoder(), properties,
+                jwtConfig.jwtAuthenticationConverter(), verifiedTokenCache, revocationRegistry,
+                epochRegistry, keyManager, sessionStore, authMetrics);
+    }
+
+    private static User user() {
+        User user = User.builder()
+                .email("student1@school.edu")
+                .password("{noop}test")
+                .name("학생")
+                .role(UserRole.STUDENT)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
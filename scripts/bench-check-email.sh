@@ -0,0 +1,68 @@
+#!/bin/bash
+# scripts/bench-check-email.sh
+# 이메일 중복 확인(/api/auth/check-email) 부하 측정 스크립트
+#
+# 1) users 테이블에 벤치마크용 사용자를 채운다 (기본 100,000명, 이미 있으면 건너뜀)
+# 2) 백엔드 재시작 후 (이메일 인덱스 재구성) 없는 이메일 / 있는 이메일 각각 부하를 건다
+# 3) 판정 경로별 횟수(user.email.check)를 출력한다 - 없는 이메일은 거의 모두 filter_negative여야 한다
+#
+# 필요 도구: psql, hey (https://github.com/rakyll/hey), curl, jq
+# 사용법: DB_HOST=localhost DB_USER=edumanager DB_PASSWORD=... ./scripts/bench-check-email.sh [사용자 수]
+
+set -e
+
+USERS=${1:-100000}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+REQUESTS=${REQUESTS:-50000}
+CONCURRENCY=${CONCURRENCY:-64}
+DB_HOST=${DB_HOST:-localhost}
+DB_PORT=${DB_PORT:-5432}
+DB_NAME=${DB_NAME:-edumanager}
+DB_USER=${DB_USER:-edumanager}
+
+echo "=== 이메일 중복 확인 벤치마크 ==="
+echo "사용자 수: $USERS, 요청 수: $REQUESTS, 동시성: $CONCURRENCY"
+
+# 1. 벤치마크 사용자 생성 (비밀번호는 로그인하지 않으므로 임의 값)
+echo "1. 벤치마크 사용자 생성 중..."
+PGPASSWORD=$DB_PASSWORD psql -h "$DB_HOST" -p "$DB_PORT" -U "$DB_USER" -d "$DB_NAME" -q <<SQL
+INSERT INTO users (id, email, password, name, phone, role, is_active, is_verified, create_at, updated_at)
+SELECT nextval('user_sequence'), 'bench' || g || '@bench.edumanager.com', '{noop}bench', '벤치사용자', NULL,
+       'STUDENT', true, false, now(), now()
+FROM generate_series(1, $USERS) AS g
+ON CONFLICT (email) DO NOTHING;
+SQL
+
+echo ""
+echo "2. 백엔드를 재시작하거나 인덱스 재구성 로그(이메일 인덱스 구성 완료)를 확인한 뒤 Enter"
+read -r
+
+# /actuator/metrics는 관리자 전용이므로 토큰 없이 열려 있는 Prometheus 수집 경로에서 읽는다
+metric() {
+    curl -s "$BASE_URL/actuator/prometheus" \
+        | awk -v r="result=\"$1\"" 'index($0, "user_email_check_total{") == 1 && index($0, r) { v += $NF } END { print v + 0 }'
+}
+
+before_negative=$(metric filter_negative)
+before_exists=$(metric db_exists)
+before_absent=$(metric db_absent)
+
+# 3. 없는 이메일 (가입 폼 입력 중 대부분의 요청)
+echo "3. 없는 이메일 조회"
+hey -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL/api/auth/check-email?email=new-user-$RANDOM@example.com" | \
+    grep -E "Requests/sec|Average|99%|Status code distribution" -A1
+
+# 4. 있는 이메일 (필터 적중 후 DB 조회)
+echo ""
+echo "4. 있는 이메일 조회"
+hey -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL/api/auth/check-email?email=bench$((RANDOM % USERS + 1))@bench.edumanager.com" | \
+    grep -E "Requests/sec|Average|99%|Status code distribution" -A1
+
+echo ""
+echo "5. 판정 경로 (이번 실행분)"
+echo "  filter_negative (DB 조회 없음): $(echo "$(metric filter_negative) - $before_negative" | bc)"
+echo "  db_exists       (필터 적중, 있음): $(echo "$(metric db_exists) - $before_exists" | bc)"
+echo "  db_absent       (필터 오탐):      $(echo "$(metric db_absent) - $before_absent" | bc)"
+
+echo ""
+echo "=== 벤치마크 완료 ==="
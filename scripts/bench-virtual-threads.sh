@@ -0,0 +1,141 @@
+#!/bin/bash
+# scripts/bench-virtual-threads.sh
+# 플랫폼 스레드 / 가상 스레드 실행 모드 비교 부하 측정 스크립트
+#
+# 같은 jar를 두 모드(spring.threads.virtual.enabled=false/true)로 차례로 띄워 같은 혼합 인증 부하를 건다.
+# 1) 벤치마크 사용자 가입/로그인으로 토큰을 받는다
+# 2) 워밍업 후 엔드포인트별 hey를 동시에 DURATION 동안 실행한다 (동시성 비율로 요청 비율을 맞춤)
+#    - 로그인 (BCrypt, DB, Redis 세션)         : 1
+#    - 내 정보 /me (JWT 검증, 폐기 확인, DB)     : 6
+#    - 이메일 중복 확인 (필터, DB)              : 3
+#    토큰 갱신은 같은 리프레시 토큰을 반복 사용하면 재사용 감지로 세션이 폐기되므로 넣지 않는다
+# 3) 모드별 처리량(Requests/sec), p99, 오류 수와 가상 스레드 고정(pinning) 횟수를 출력한다
+#    고정 횟수는 각 모드의 JFR 기록(build/bench/vt-*.jfr)에서 센다 - 위치는 애플리케이션 로그의 "가상 스레드 고정 감지" 참고
+#
+# 필요 도구: java 21, hey (https://github.com/rakyll/hey), curl, jq
+# 사전 준비: PostgreSQL, Redis 실행 (docker compose up -d postgres redis), ./gradlew bootJar
+# 사용법: DB_PASSWORD=... JWT_SECRET=... ./scripts/bench-virtual-threads.sh [jar 경로]
+
+set -e
+
+JAR=${1:-$(ls backend/build/libs/*.jar 2>/dev/null | grep -v plain | head -1)}
+PORT=${PORT:-18080}
+BASE_URL=http://localhost:$PORT
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-20s}
+# 기본 동시성 합계 400 - 플랫폼 모드의 Tomcat 스레드(200)보다 많아야 차이가 드러난다
+SCALE=${SCALE:-40}
+OUT_DIR=${OUT_DIR:-build/bench}
+EMAIL=${BENCH_EMAIL:-vt-bench@bench.edumanager.com}
+PASSWORD='Bench!2345a'
+
+if [ -z "$JAR" ] || [ ! -f "$JAR" ]; then
+    echo "jar를 찾을 수 없음: ${JAR:-(없음)} - backend에서 ./gradlew bootJar 실행 후 다시 시도"
+    exit 1
+fi
+mkdir -p "$OUT_DIR"
+
+echo "=== 가상 스레드 비교 벤치마크 ==="
+echo "jar: $JAR, 측정 시간: $DURATION, 동시성: 로그인 $SCALE / me $((SCALE * 6)) / check-email $((SCALE * 3))"
+
+APP_PID=""
+stop_app() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=""
+    fi
+}
+trap stop_app EXIT
+
+start_app() {
+    local mode=$1
+    # 로그인 제한은 같은 IP/계정으로 부하를 거므로 끈다, 고정 감시는 두 모드 모두 켠다 (플랫폼 모드는 0이어야 정상)
+    java -XX:StartFlightRecording=filename="$OUT_DIR/vt-$mode.jfr",settings=default \
+        -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$mode" \
+        --app.security.login-throttle.enabled=false \
+        --app.diagnostics.pinning.enabled=true \
+        > "$OUT_DIR/vt-$mode.log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 120); do
+        if curl -sf "$BASE_URL/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "애플리케이션이 시작되지 않음 - $OUT_DIR/vt-$mode.log 확인"
+    exit 1
+}
+
+# 가입(이미 있으면 409 무시) 후 로그인해 액세스 토큰 발급
+issue_token() {
+    curl -s -o /dev/null -X POST "$BASE_URL/api/auth/signup" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\",\"passwordConfirm\":\"$PASSWORD\",\"name\":\"Bench User\",\"role\":\"STUDENT\"}"
+    curl -s -X POST "$BASE_URL/api/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}" | jq -r '.data.accessToken'
+}
+
+# hey 결과에서 처리량, p99, 2xx 외 응답 수 추출
+summarize() {
+    local name=$1 file=$2
+    local rps p99 errors
+    rps=$(grep "Requests/sec" "$file" | awk '{print $2}')
+    p99=$(grep "99% in" "$file" | awk '{printf "%.1f", $3 * 1000}')
+    errors=$(grep -E "^\s+\[[^2][0-9]{2}\]" "$file" | awk '{sum += $2} END {print sum + 0}')
+    printf "  %-12s %10s req/s   p99 %8s ms   오류 %s\n" "$name" "$rps" "$p99" "$errors"
+}
+
+run_mode() {
+    local mode=$1
+    local label
+    if [ "$mode" = "true" ]; then label="가상 스레드"; else label="플랫폼 스레드"; fi
+
+    echo ""
+    echo "--- $label (spring.threads.virtual.enabled=$mode) ---"
+    start_app "$mode"
+
+    local token
+    token=$(issue_token)
+    if [ -z "$token" ] || [ "$token" = "null" ]; then
+        echo "토큰 발급 실패 - $OUT_DIR/vt-$mode.log 확인"
+        exit 1
+    fi
+
+    local login_body="{\"email\":\"$EMAIL\",\"password\":\"$PASSWORD\"}"
+
+    echo "워밍업 ($WARMUP)..."
+    hey -z "$WARMUP" -c "$SCALE" -H "Authorization: Bearer $token" "$BASE_URL/api/auth/me" > /dev/null
+    hey -z "$WARMUP" -c "$SCALE" "$BASE_URL/api/auth/check-email?email=warmup@example.com" > /dev/null
+
+    echo "측정 ($DURATION)..."
+    hey -z "$DURATION" -c "$SCALE" -m POST -T 'application/json' -d "$login_body" \
+        "$BASE_URL/api/auth/login" > "$OUT_DIR/vt-$mode-login.txt" &
+    local login_pid=$!
+    hey -z "$DURATION" -c $((SCALE * 6)) -H "Authorization: Bearer $token" \
+        "$BASE_URL/api/auth/me" > "$OUT_DIR/vt-$mode-me.txt" &
+    local me_pid=$!
+    hey -z "$DURATION" -c $((SCALE * 3)) \
+        "$BASE_URL/api/auth/check-email?email=new-user-$RANDOM@example.com" > "$OUT_DIR/vt-$mode-check-email.txt" &
+    local check_pid=$!
+    wait $login_pid $me_pid $check_pid
+
+    summarize "login" "$OUT_DIR/vt-$mode-login.txt"
+    summarize "me" "$OUT_DIR/vt-$mode-me.txt"
+    summarize "check-email" "$OUT_DIR/vt-$mode-check-email.txt"
+
+    stop_app
+
+    local pinned
+    pinned=$(jfr print --events jdk.VirtualThreadPinned "$OUT_DIR/vt-$mode.jfr" | grep -c "jdk.VirtualThreadPinned" || true)
+    echo "  가상 스레드 고정(20ms 이상): ${pinned}회"
+}
+
+run_mode false
+run_mode true
+
+echo ""
+echo "결과 원본: $OUT_DIR/vt-*.txt, JFR: $OUT_DIR/vt-*.jfr (jfr print --events jdk.VirtualThreadPinned 로 스택 확인)"
+echo "=== 벤치마크 완료 ==="
@@ -0,0 +1,55 @@
+#!/bin/bash
+# scripts/jmh-compare.sh
+# 두 커밋의 JMH 결과(JSON) 비교 스크립트
+#
+# 벤치마크 이름 + 파라미터로 짝을 지어 점수와 변화율을 출력한다.
+# 변화량이 두 결과의 오차(99.9% 신뢰구간) 합보다 크면 유의한 변화로 표시한다. (AverageTime 기준: + 는 느려짐)
+#
+# 필요 도구: jq
+# 사용법:
+#   git checkout <기준 커밋> && (cd backend && ./gradlew :benchmarks:jmh)
+#   git checkout <비교 커밋> && (cd backend && ./gradlew :benchmarks:jmh)
+#   ./scripts/jmh-compare.sh backend/benchmarks/build/results/jmh/results-<기준>.json \
+#                            backend/benchmarks/build/results/jmh/results-<비교>.json
+
+set -e
+
+if [ $# -ne 2 ]; then
+    echo "사용법: $0 <기준 결과.json> <비교 결과.json>"
+    exit 1
+fi
+
+BASE=$1
+HEAD=$2
+
+echo "=== JMH 결과 비교 ==="
+echo "기준: $BASE"
+echo "비교: $HEAD"
+echo ""
+
+jq -r -n --slurpfile base "$BASE" --slurpfile head "$HEAD" '
+  def key: (.benchmark | sub("^com\\.edumanager\\.benchmarks\\."; ""))
+           + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end);
+  def err: (.primaryMetric.scoreError | if type == "number" then . else 0 end);
+
+  ($base[0] | map({key: key, value: .}) | from_entries) as $b
+  | $head[0][]
+  | key as $k
+  | select($b[$k] != null)
+  | $b[$k] as $old
+  | (.primaryMetric.score - $old.primaryMetric.score) as $delta
+  | [
+      $k,
+      ($old.primaryMetric.score * 1000 | round / 1000 | tostring),
+      (.primaryMetric.score * 1000 | round / 1000 | tostring),
+      .primaryMetric.scoreUnit,
+      (if $old.primaryMetric.score == 0 then "-"
+       else ($delta / $old.primaryMetric.score * 1000 | round / 10 | tostring) + "%" end),
+      (if ($delta | fabs) > (err + ($old | err)) then "*" else "" end)
+    ]
+  | @tsv
+' | awk -F'\t' 'BEGIN { printf "%-60s %14s %14s %-7s %9s %s\n", "벤치마크", "기준", "비교", "단위", "변화", "유의" }
+                { printf "%-60s %14s %14s %-7s %9s %s\n", $1, $2, $3, $4, $5, $6 }'
+
+echo ""
+echo "한쪽에만 있는 벤치마크는 출력하지 않는다"